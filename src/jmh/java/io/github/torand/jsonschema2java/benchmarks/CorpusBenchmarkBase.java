@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.benchmarks;
+
+import io.github.torand.jsonschema2java.corpus.SchemaCorpusGenerator;
+import io.github.torand.jsonschema2java.generators.Options;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class of benchmarks running on a small, medium or large corpus of schema files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public abstract class CorpusBenchmarkBase {
+
+    @Param({"small", "medium", "large"})
+    public String corpus;
+
+    protected Path workDir;
+    protected Options opts;
+    protected List<Path> schemaFiles;
+
+    @Setup(Level.Trial)
+    public void writeCorpus() throws IOException {
+        workDir = Files.createTempDirectory("jsonschema2java-benchmark");
+        Path schemaDir = Files.createDirectory(workDir.resolve("schemas"));
+
+        opts = Options.defaults()
+            .withSearchRootDir(schemaDir.toString())
+            .withSchemaIdRootUri(URI.create(SchemaCorpusGenerator.SCHEMA_ID_ROOT_URI))
+            .withRootPackage("io.github.torand.benchmark.model")
+            .withOutputDir(workDir.resolve("output").toString())
+            .withSkipUnchangedFiles(false)
+            .withShareSchemaCache(false);
+
+        SchemaCorpusGenerator.Settings settings = SchemaCorpusGenerator.Settings.defaults().withSchemaCount(getSchemaCount());
+        schemaFiles = new SchemaCorpusGenerator(settings).write(schemaDir);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCorpus() throws IOException {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private int getSchemaCount() {
+        return switch (corpus) {
+            case "small" -> 10;
+            case "medium" -> 100;
+            case "large" -> 1000;
+            default -> throw new IllegalArgumentException("Unknown corpus: " + corpus);
+        };
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.benchmarks;
+
+import io.github.torand.jsonschema2java.collectors.PojoInfoCollector;
+import io.github.torand.jsonschema2java.collectors.SchemaResolver;
+import io.github.torand.jsonschema2java.utils.JsonSchemaDef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Benchmarks collecting pojo information from all object schemas of the corpus, with schemas already loaded and resolved.
+ */
+public class PojoInfoCollectorBenchmark extends CorpusBenchmarkBase {
+
+    private SchemaResolver schemaResolver;
+    private List<JsonSchemaDef> schemas;
+
+    @Setup(Level.Trial)
+    public void loadSchemas() {
+        schemaResolver = new SchemaResolver(opts);
+        schemas = schemaFiles.stream()
+            .map(schemaResolver::load)
+            .filter(JsonSchemaDef::isClass)
+            .toList();
+
+        // Resolve all referenced schemas up front, so the benchmark measures info collection only
+        PojoInfoCollector pojoInfoCollector = new PojoInfoCollector(opts, schemaResolver);
+        schemas.forEach(schema -> pojoInfoCollector.getPojoInfo(schema.getName(), schema));
+    }
+
+    @Benchmark
+    public void getPojoInfo(Blackhole blackhole) {
+        PojoInfoCollector pojoInfoCollector = new PojoInfoCollector(opts, schemaResolver);
+        for (JsonSchemaDef schema : schemas) {
+            blackhole.consume(pojoInfoCollector.getPojoInfo(schema.getName() + opts.pojoNameSuffix(), schema));
+        }
+    }
+}
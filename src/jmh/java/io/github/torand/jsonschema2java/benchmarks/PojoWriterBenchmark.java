@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.benchmarks;
+
+import io.github.torand.jsonschema2java.collectors.PojoInfoCollector;
+import io.github.torand.jsonschema2java.collectors.SchemaResolver;
+import io.github.torand.jsonschema2java.generators.Options;
+import io.github.torand.jsonschema2java.model.PojoInfo;
+import io.github.torand.jsonschema2java.utils.JsonSchemaDef;
+import io.github.torand.jsonschema2java.writers.PojoWriter;
+import io.github.torand.jsonschema2java.writers.java.JavaPojoWriter;
+import io.github.torand.jsonschema2java.writers.kotlin.KotlinPojoWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.StringWriter;
+import java.util.List;
+
+/**
+ * Benchmarks rendering source code of all pojos of the corpus, in Java or Kotlin syntax, to memory.
+ */
+public class PojoWriterBenchmark extends CorpusBenchmarkBase {
+
+    @Param({"java", "kotlin"})
+    public String language;
+
+    private Options writerOpts;
+    private List<PojoInfo> pojoInfos;
+
+    @Setup(Level.Trial)
+    public void collectPojoInfos() {
+        writerOpts = opts.withUseKotlinSyntax("kotlin".equals(language));
+
+        SchemaResolver schemaResolver = new SchemaResolver(writerOpts);
+        PojoInfoCollector pojoInfoCollector = new PojoInfoCollector(writerOpts, schemaResolver);
+        pojoInfos = schemaFiles.stream()
+            .map(schemaResolver::load)
+            .filter(JsonSchemaDef::isClass)
+            .map(schema -> pojoInfoCollector.getPojoInfo(schema.getName() + writerOpts.pojoNameSuffix(), schema))
+            .toList();
+    }
+
+    @Benchmark
+    public void write(Blackhole blackhole) {
+        for (PojoInfo pojoInfo : pojoInfos) {
+            StringWriter stringWriter = new StringWriter();
+            PojoWriter pojoWriter = writerOpts.useKotlinSyntax()
+                ? new KotlinPojoWriter(stringWriter, writerOpts)
+                : new JavaPojoWriter(stringWriter, writerOpts);
+            pojoWriter.write(pojoInfo);
+            blackhole.consume(stringWriter.getBuffer());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.benchmarks;
+
+import io.github.torand.jsonschema2java.collectors.SchemaResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Path;
+
+/**
+ * Benchmarks reading and parsing all schema files of the corpus, starting with an empty schema source cache.
+ */
+public class SchemaLoadBenchmark extends CorpusBenchmarkBase {
+
+    @Benchmark
+    public void load(Blackhole blackhole) {
+        SchemaResolver schemaResolver = new SchemaResolver(opts);
+        for (Path schemaFile : schemaFiles) {
+            blackhole.consume(schemaResolver.load(schemaFile));
+        }
+    }
+}
@@ -15,7 +15,12 @@
  */
 package io.github.torand.jsonschema2java;
 
+import io.github.torand.jsonschema2java.collectors.SchemaFileFinder;
 import io.github.torand.jsonschema2java.collectors.SchemaResolver;
+import io.github.torand.jsonschema2java.collectors.SchemaSourceCache;
+import io.github.torand.jsonschema2java.collectors.SchemaValidator;
+import io.github.torand.jsonschema2java.generators.GenerationMetrics;
+import io.github.torand.jsonschema2java.generators.GenerationMetrics.Stage;
 import io.github.torand.jsonschema2java.generators.ModelGenerator;
 import io.github.torand.jsonschema2java.generators.Options;
 import org.apache.maven.plugin.AbstractMojo;
@@ -28,10 +33,13 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static io.github.torand.javacommons.collection.CollectionHelper.isEmpty;
-import static io.github.torand.jsonschema2java.collectors.SchemaResolver.findSchemaFiles;
+import static io.github.torand.jsonschema2java.utils.StringUtils.pluralSuffix;
+import static java.util.Objects.nonNull;
 
 /**
  * Generates source code for model classes based on JSON Schema files
@@ -52,6 +60,24 @@ public class JsonSchema2JavaMojo extends AbstractMojo {
     @Parameter(property = "searchFilePattern", required = true )
     private String searchFilePattern;
 
+    /**
+     * Additional schema file path search patterns. Supports 'glob' patterns.
+     */
+    @Parameter( property = "includeFilePatterns" )
+    private List<String> includeFilePatterns;
+
+    /**
+     * File and directory path patterns to exclude from the search. Supports 'glob' patterns.
+     */
+    @Parameter( property = "excludeFilePatterns" )
+    private List<String> excludeFilePatterns;
+
+    /**
+     * File to cache directory listings in, so only directories modified since the previous search are listed.
+     */
+    @Parameter( property = "listingCacheFile" )
+    private String listingCacheFile;
+
     /**
      * Root URI of $id property in schema files, Path elements beyond this value must correspond to subdirectories inside searchRootDir parameter.
      */
@@ -142,8 +168,120 @@ public class JsonSchema2JavaMojo extends AbstractMojo {
     @Parameter( property = "verbose", defaultValue = "false" )
     private boolean verbose;
 
+    /**
+     * Number of worker threads generating source code files. Use 0 for one worker per available processor.
+     */
+    @Parameter( property = "parallelism", defaultValue = "1" )
+    private int parallelism;
+
+    /**
+     * Regenerate only source code files of new or changed schemas, and schemas referencing them.
+     */
+    @Parameter( property = "incremental", defaultValue = "false" )
+    private boolean incremental;
+
+    /**
+     * If true, generated files with unchanged content are not rewritten, preserving their last modified time.
+     */
+    @Parameter( property = "skipUnchangedFiles", defaultValue = "true" )
+    private boolean skipUnchangedFiles;
+
+    /**
+     * File to export the schema dependency graph to, in DOT format if ending with '.dot' or '.gv', otherwise in JSON format.
+     */
+    @Parameter( property = "dependencyGraphFile" )
+    private String dependencyGraphFile;
+
+    /**
+     * File to write a JSON report of the time spent in each generation stage, and per schema file, to. Not written if not set.
+     */
+    @Parameter( property = "metricsReportFile" )
+    private String metricsReportFile;
+
+    /**
+     * Maximum number of parsed and resolved schemas kept in memory during generation, or 0 for no limit.
+     */
+    @Parameter( property = "maxCachedSchemas", defaultValue = "0" )
+    private int maxCachedSchemas;
+
+    /**
+     * Whether to share parsed schemas, validation results and collected pojo and enum information with other executions in the same JVM, e.g. other reactor modules and subsequent Maven daemon builds.
+     */
+    @Parameter( property = "shareSchemaCache", defaultValue = "false" )
+    private boolean shareSchemaCache;
+
+    /**
+     * Directory to cache the collected model in, so unchanged schema files are not parsed again, even after a clean build. Should be kept outside the build directory, e.g. in a directory cached between CI builds.
+     */
+    @Parameter( property = "modelCacheDir" )
+    private String modelCacheDir;
+
+    /**
+     * Whether to generate a reflection-free Jackson serializer for each pojo, and a Jackson module (ModelJacksonModule) registering them. Java only.
+     */
+    @Parameter( property = "generateJsonSerializers", defaultValue = "false" )
+    private boolean generateJsonSerializers;
+
+    /**
+     * Whether to generate a reflection-free Jackson deserializer for each pojo, registered by the generated Jackson module (ModelJacksonModule). Java only.
+     */
+    @Parameter( property = "generateJsonDeserializers", defaultValue = "false" )
+    private boolean generateJsonDeserializers;
+
+    /**
+     * Whether to generate a reflection-free validator for each pojo, checking the constraints of its Jakarta Bean Validation annotations. Java only.
+     */
+    @Parameter( property = "generateValidators", defaultValue = "false" )
+    private boolean generateValidators;
+
+    /**
+     * Whether to use primitive types (int, long, double, boolean) for properties that are required and not nullable. Integers with a minimum and maximum are narrowed to short or byte when the range fits.
+     */
+    @Parameter( property = "usePrimitiveTypes", defaultValue = "false" )
+    private boolean usePrimitiveTypes;
+
+    /**
+     * Whether to map arrays of non-nullable integers and float/double numbers without unique items to primitive arrays (int[], long[], double[]), avoiding a boxed object per element.
+     * Note that the equals, hashCode and toString methods of the generated records and Kotlin data classes use the array identity, not the elements.
+     */
+    @Parameter( property = "usePrimitiveArrays", defaultValue = "false" )
+    private boolean usePrimitiveArrays;
+
     public void execute() throws MojoExecutionException {
-        Options opts = new Options(
+        Options opts = getOptions();
+        GenerationMetrics metrics = new GenerationMetrics();
+
+        long startTime = System.nanoTime();
+        List<Path> schemaFiles = getSchemaFileFinder().find(opts.getWorkerCount());
+        metrics.addStageTime(Stage.DISCOVERY, System.nanoTime() - startTime);
+        if (isEmpty(schemaFiles)) {
+            logger.info("No JSON Schema files found in {}", searchRootDir);
+            return;
+        }
+
+        if (opts.verbose()) {
+            logger.info("Validating schema files");
+        }
+
+        SchemaSourceCache sourceCache = new SchemaSourceCache(opts);
+        startTime = System.nanoTime();
+        validateSchemaFiles(schemaFiles, sourceCache, opts);
+        metrics.addStageTime(Stage.VALIDATION, System.nanoTime() - startTime);
+
+        if (opts.verbose()) {
+            logger.info("Generating source code");
+        }
+
+        ModelGenerator modelGenerator = new ModelGenerator(opts, new SchemaResolver(opts, sourceCache), metrics);
+        modelGenerator.generate(schemaFiles);
+    }
+
+    /**
+     * Gets the plugin options from the configured parameters.
+     * @return the plugin options.
+     */
+    protected Options getOptions() {
+        return new Options(
             searchRootDir,
             outputDir,
             schemaIdRootUri,
@@ -159,37 +297,52 @@ public class JsonSchema2JavaMojo extends AbstractMojo {
             useKotlinSyntax,
             indentWithTab,
             indentSize,
-            verbose
+            verbose,
+            parallelism,
+            incremental,
+            skipUnchangedFiles,
+            dependencyGraphFile,
+            metricsReportFile,
+            maxCachedSchemas,
+            shareSchemaCache,
+            modelCacheDir,
+            generateJsonSerializers,
+            generateJsonDeserializers,
+            generateValidators,
+            usePrimitiveTypes,
+            usePrimitiveArrays
         );
+    }
 
-        List<Path> schemaFiles = findSchemaFiles(Path.of(searchRootDir), "glob:" + searchFilePattern);
-        if (isEmpty(schemaFiles)) {
-            logger.info("No JSON Schema files found in {}", searchRootDir);
-            return;
-        }
-
-        if (opts.verbose()) {
-            logger.info("Validating schema files");
-        }
-
-        validateSchemaFiles(schemaFiles);
-
-        if (opts.verbose()) {
-            logger.info("Generating source code");
+    /**
+     * Gets the schema file finder from the configured search parameters.
+     * @return the schema file finder.
+     */
+    protected SchemaFileFinder getSchemaFileFinder() {
+        List<String> includePatterns = new ArrayList<>();
+        includePatterns.add(searchFilePattern);
+        if (nonNull(includeFilePatterns)) {
+            includePatterns.addAll(includeFilePatterns);
         }
 
-        ModelGenerator modelGenerator = new ModelGenerator(opts);
-        modelGenerator.generate(schemaFiles);
+        return new SchemaFileFinder(
+            Path.of(searchRootDir),
+            includePatterns,
+            nonNull(excludeFilePatterns) ? excludeFilePatterns : List.of(),
+            nonNull(listingCacheFile) ? Path.of(listingCacheFile) : null
+        );
     }
 
-    private void validateSchemaFiles(List<Path> schemaFiles) throws MojoExecutionException {
-        for (Path schemaFile : schemaFiles) {
-            List<String> messages = SchemaResolver.validate(schemaFile);
-            if (!messages.isEmpty()) {
+    private void validateSchemaFiles(List<Path> schemaFiles, SchemaSourceCache sourceCache, Options opts) throws MojoExecutionException {
+        SchemaValidator schemaValidator = new SchemaValidator(sourceCache);
+        Map<Path, List<String>> messagesByFile = schemaValidator.validateAll(schemaFiles, opts.getWorkerCount());
+        if (!messagesByFile.isEmpty()) {
+            messagesByFile.forEach((schemaFile, messages) -> {
                 logger.error("File {} is not a valid JSON Schema file:", schemaFile);
                 messages.forEach(logger::error);
-                throw new MojoExecutionException("JSON Schema validation failed");
-            }
+            });
+            int invalidCount = messagesByFile.size();
+            throw new MojoExecutionException("JSON Schema validation failed for %d file%s".formatted(invalidCount, pluralSuffix(invalidCount)));
         }
     }
 }
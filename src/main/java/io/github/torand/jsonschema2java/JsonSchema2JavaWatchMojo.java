@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java;
+
+import io.github.torand.jsonschema2java.generators.SchemaWatcher;
+import org.apache.maven.plugins.annotations.Mojo;
+
+/**
+ * Generates source code for model classes based on JSON Schema files, then watches the schema files and
+ * regenerates the source code affected by each change until stopped.
+ */
+@Mojo( name = "watch" )
+public class JsonSchema2JavaWatchMojo extends JsonSchema2JavaMojo {
+
+    @Override
+    public void execute() {
+        SchemaWatcher schemaWatcher = new SchemaWatcher(getOptions(), getSchemaFileFinder());
+        try {
+            schemaWatcher.watch();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
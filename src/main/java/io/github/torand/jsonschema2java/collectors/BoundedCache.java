@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.collectors;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Thread-safe cache, either unbounded or holding a maximum number of entries and evicting the least recently used entry
+ * when full.
+ * @param <K> the key type.
+ * @param <V> the value type.
+ */
+final class BoundedCache<K, V> {
+    private final int maxSize;
+    private final Map<K, V> entries;
+
+    /**
+     * Constructs a {@link BoundedCache} object.
+     * @param maxSize the maximum number of entries, or 0 for no limit.
+     */
+    BoundedCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = maxSize > 0 ? Collections.synchronizedMap(new LruMap<>(maxSize)) : new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the value of specified key.
+     * @param key the key.
+     * @return the value, or null if not cached.
+     */
+    V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Gets the value of specified key, computing and caching it if not cached.
+     * @param key the key.
+     * @param loader the function computing the value of a key.
+     * @return the value.
+     */
+    V computeIfAbsent(K key, Function<K, V> loader) {
+        if (maxSize == 0) {
+            return entries.computeIfAbsent(key, loader);
+        }
+
+        // Compute outside the lock, so a slow load does not block other threads. A value computed concurrently
+        // by another thread wins.
+        V value = entries.get(key);
+        if (nonNull(value)) {
+            return value;
+        }
+
+        value = loader.apply(key);
+        V existing = entries.putIfAbsent(key, value);
+        return nonNull(existing) ? existing : value;
+    }
+
+    /**
+     * Caches the value of specified key, replacing any value cached.
+     * @param key the key.
+     * @param value the value.
+     */
+    void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    void remove(K key) {
+        entries.remove(key);
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        LruMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
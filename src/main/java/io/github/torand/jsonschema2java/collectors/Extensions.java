@@ -67,6 +67,12 @@ public class Extensions {
      */
     public static final String EXT_DEPRECATION_MESSAGE = "x-deprecation-message";
 
+    /**
+     * Java primitive type of an integer, number or boolean schema, e.g. "short". The wrapper type is used if the value can be null.
+     * In an array schema of numbers, the primitive array type, e.g. "double[]".
+     */
+    public static final String EXT_JAVA_TYPE = "x-java-type";
+
     public static final Set<String> KEYWORDS = Set.of(
         EXT_JSON_SERIALIZER,
         EXT_JSON_DESERIALIZER,
@@ -74,7 +80,8 @@ public class Extensions {
         EXT_VALIDATION_CONSTRAINT,
         EXT_NULLABLE,
         EXT_MODEL_SUBDIR,
-        EXT_DEPRECATION_MESSAGE
+        EXT_DEPRECATION_MESSAGE,
+        EXT_JAVA_TYPE
     );
 
     private final Map<String, Object> extensionsByName;
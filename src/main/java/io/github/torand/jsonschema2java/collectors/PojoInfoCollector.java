@@ -16,14 +16,17 @@
 package io.github.torand.jsonschema2java.collectors;
 
 import io.github.torand.jsonschema2java.generators.Options;
+import io.github.torand.jsonschema2java.jfr.PojoCollectedEvent;
 import io.github.torand.jsonschema2java.model.AnnotationInfo;
 import io.github.torand.jsonschema2java.model.PojoInfo;
-import io.github.torand.jsonschema2java.model.PropertyInfo;
 import io.github.torand.jsonschema2java.utils.JsonSchemaDef;
 
+import java.net.URI;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.github.torand.jsonschema2java.collectors.Extensions.EXT_MODEL_SUBDIR;
 import static io.github.torand.jsonschema2java.utils.StringUtils.joinCsv;
@@ -43,27 +46,38 @@ public class PojoInfoCollector extends BaseCollector {
     }
 
     public PojoInfo getPojoInfo(String name, JsonSchemaDef schema) {
-        PojoInfo pojoInfo = new PojoInfo(name);
+        PojoCollectedEvent event = new PojoCollectedEvent();
+        event.begin();
+
+        PojoInfo.Builder pojoInfo = PojoInfo.builder(name);
 
         Optional<String> maybeModelSubdir = schema.extensions().getString(EXT_MODEL_SUBDIR);
-        pojoInfo = pojoInfo.withModelSubdir(maybeModelSubdir.orElse(null))
-            .withModelSubpackage(maybeModelSubdir.map(this::dirPath2PackagePath).orElse(null));
+        pojoInfo.modelSubdir(maybeModelSubdir.orElse(null))
+            .modelSubpackage(maybeModelSubdir.map(this::dirPath2PackagePath).orElse(null));
 
         if (opts.addMpOpenApiAnnotations()) {
-            pojoInfo = pojoInfo.withAddedAnnotation(getSchemaAnnotation(name, schema));
+            pojoInfo.addAnnotation(getSchemaAnnotation(name, schema));
         }
 
         if (schema.isDeprecated()) {
-            pojoInfo = pojoInfo.withDeprecationMessage(formatDeprecationMessage(schema.extensions()));
+            pojoInfo.deprecationMessage(formatDeprecationMessage(schema.extensions()));
         }
 
-        pojoInfo = pojoInfo.withAddedProperties(getSchemaProperties(schema));
+        addSchemaProperties(pojoInfo, schema, new LinkedHashSet<>());
 
         if (schema.additionalProperties() instanceof JsonSchemaDef) {
             throw new IllegalStateException("Schema-based 'additionalProperties' not supported for Pojos. Please specify this inside a property schema instead.");
         }
 
-        return pojoInfo;
+        PojoInfo result = pojoInfo.build();
+
+        if (event.shouldCommit()) {
+            event.pojoName = name;
+            event.propertyCount = result.properties().size();
+            event.commit();
+        }
+
+        return result;
     }
 
     private AnnotationInfo getSchemaAnnotation(String name, JsonSchemaDef pojo) {
@@ -81,20 +95,21 @@ public class PojoInfoCollector extends BaseCollector {
         );
     }
 
-    private List<PropertyInfo> getSchemaProperties(JsonSchemaDef schema) {
-        List<PropertyInfo> props = new ArrayList<>();
-
+    private void addSchemaProperties(PojoInfo.Builder pojoInfo, JsonSchemaDef schema, Set<URI> visitedRefs) {
         if (schema.hasAllOf()) {
-            schema.allOf().forEach(subSchema -> props.addAll(getSchemaProperties(subSchema)));
+            schema.allOf().forEach(subSchema -> addSchemaProperties(pojoInfo, subSchema, visitedRefs));
         } else if (nonNull(schema.ref())) {
-            JsonSchemaDef refSchema = schemaResolver.getOrThrow(schema.ref());
-            return getSchemaProperties(refSchema);
+            URI ref = schema.ref().normalize();
+            if (!visitedRefs.add(ref)) {
+                throw new IllegalStateException("Cyclic $ref when collecting pojo properties: %s".formatted(ref));
+            }
+            JsonSchemaDef refSchema = schemaResolver.getOrThrow(ref);
+            addSchemaProperties(pojoInfo, refSchema, visitedRefs);
+            visitedRefs.remove(ref);
         } else {
             schema.properties().forEach((propName, propSchema) ->
-                props.add(propertyInfoCollector.getPropertyInfo(propName, propSchema, schema.isRequired(propName)))
+                pojoInfo.addProperty(propertyInfoCollector.getPropertyInfo(propName, propSchema, schema.isRequired(propName)))
             );
         }
-
-        return props;
     }
 }
@@ -40,29 +40,30 @@ public class PropertyInfoCollector extends BaseCollector {
     }
 
     public PropertyInfo getPropertyInfo(String name, JsonSchemaDef propertyType, boolean required) {
-        PropertyInfo propInfo = new PropertyInfo(name)
-            .withRequired(required);
-
         var nullabilityResolution = required
             ? TypeInfoCollector.NullabilityResolution.FROM_SCHEMA
             : TypeInfoCollector.NullabilityResolution.FORCE_NULLABLE;
-        propInfo = propInfo.withType(typeInfoCollector.getTypeInfo(propertyType, nullabilityResolution));
+        TypeInfo typeInfo = typeInfoCollector.getTypeInfo(propertyType, nullabilityResolution);
+
+        PropertyInfo.Builder propInfo = PropertyInfo.builder(name)
+            .required(required)
+            .type(typeInfo);
 
         if (opts.addMpOpenApiAnnotations()) {
-            AnnotationInfo schemaAnnotation = getSchemaAnnotation(propertyType, propInfo.type());
-            propInfo = propInfo.withAddedAnnotation(schemaAnnotation);
+            AnnotationInfo schemaAnnotation = getSchemaAnnotation(propertyType, typeInfo);
+            propInfo.addAnnotation(schemaAnnotation);
         }
 
         if (opts.addJsonPropertyAnnotations()) {
             AnnotationInfo jsonPropAnnotation = getJsonPropertyAnnotation(name);
-            propInfo = propInfo.withAddedAnnotation(jsonPropAnnotation);
+            propInfo.addAnnotation(jsonPropAnnotation);
         }
 
         if (propertyType.isDeprecated()) {
-            propInfo = propInfo.withDeprecationMessage(formatDeprecationMessage(propertyType.extensions()));
+            propInfo.deprecationMessage(formatDeprecationMessage(propertyType.extensions()));
         }
 
-        return propInfo;
+        return propInfo.build();
     }
 
     private AnnotationInfo getSchemaAnnotation(JsonSchemaDef propertyType, TypeInfo typeInfo) {
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.collectors;
+
+import io.github.torand.jsonschema2java.utils.JsonSchema2JavaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Finds schema files by walking the subdirectories of a root directory in parallel.
+ * <p>
+ * Include and exclude patterns are 'glob' or 'regex' patterns, as supported by {@link FileSystem#getPathMatcher(String)}.
+ * Patterns without a prefix are 'glob' patterns. A pattern containing a '/' is matched against the file path relative
+ * to the root directory, while a pattern without a '/' is matched against the file name only. A file is found if it
+ * matches any include pattern and no exclude pattern. Directories matching an exclude pattern are not walked.
+ * </p>
+ * <p>
+ * If a listing cache file is specified, the directory listings are saved to it, keyed by the last modified time of each
+ * directory. Subsequent searches only list directories modified since, reducing the cost of searching large trees.
+ * </p>
+ */
+public class SchemaFileFinder {
+    private static final Logger logger = LoggerFactory.getLogger(SchemaFileFinder.class);
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    /**
+     * Listings of directories modified this close to (or after) the time of listing are not reused, as a subsequent
+     * modification within the file system's timestamp granularity would go unnoticed.
+     */
+    private static final long MTIME_GRANULARITY_MILLIS = 2000;
+
+    private final Path rootDir;
+    private final Path absoluteRootDir;
+    private final List<PatternMatcher> includeMatchers;
+    private final List<PatternMatcher> excludeMatchers;
+    private final Path listingCacheFile;
+
+    /**
+     * Constructs a {@link SchemaFileFinder} object.
+     * @param rootDir the root directory to search from.
+     * @param includePatterns the patterns of schema files to include.
+     * @param excludePatterns the patterns of files and directories to exclude.
+     * @param listingCacheFile the file to cache directory listings in, or null if not cached.
+     */
+    public SchemaFileFinder(Path rootDir, List<String> includePatterns, List<String> excludePatterns, Path listingCacheFile) {
+        this.rootDir = rootDir;
+        this.absoluteRootDir = rootDir.toAbsolutePath().normalize();
+        this.includeMatchers = includePatterns.stream().map(PatternMatcher::of).toList();
+        this.excludeMatchers = excludePatterns.stream().map(PatternMatcher::of).toList();
+        this.listingCacheFile = listingCacheFile;
+    }
+
+    /**
+     * Finds the schema files below the root directory.
+     * @param parallelism the number of directories to list concurrently.
+     * @return the schema files found, resolved against the root directory and sorted.
+     */
+    public List<Path> find(int parallelism) {
+        if (!Files.isDirectory(rootDir)) {
+            throw new JsonSchema2JavaException("Search root directory %s does not exist".formatted(rootDir));
+        }
+
+        Map<String, DirListing> cachedListings = loadListingCache();
+        Map<String, DirListing> currentListings = new ConcurrentHashMap<>();
+        Queue<Path> schemaFiles = new ConcurrentLinkedQueue<>();
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(parallelism, 1));
+        try {
+            pool.invoke(new DirWalker(Path.of(""), cachedListings, currentListings, schemaFiles));
+        } finally {
+            pool.shutdown();
+        }
+
+        saveListingCache(currentListings);
+
+        return schemaFiles.stream()
+            .sorted()
+            .map(rootDir::resolve)
+            .toList();
+    }
+
+    /**
+     * Returns whether specified file is matched by the include and exclude patterns.
+     * The file must be below the root directory, and neither the file nor any of its parent directories below the root
+     * directory must be excluded.
+     * @param file the file to check.
+     * @return true if the file matches; else false.
+     */
+    public boolean matches(Path file) {
+        Path relativeFile = absoluteRootDir.relativize(file.toAbsolutePath().normalize());
+        if (relativeFile.toString().isEmpty() || relativeFile.startsWith("..") || !isIncluded(relativeFile)) {
+            return false;
+        }
+
+        for (Path path = relativeFile; nonNull(path); path = path.getParent()) {
+            if (isExcluded(path)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isIncluded(Path relativeFile) {
+        return includeMatchers.stream().anyMatch(m -> m.matches(relativeFile));
+    }
+
+    private boolean isExcluded(Path relativePath) {
+        return excludeMatchers.stream().anyMatch(m -> m.matches(relativePath));
+    }
+
+    private DirListing listDir(Path relativeDir, Map<String, DirListing> cachedListings) throws IOException {
+        Path dir = absoluteRootDir.resolve(relativeDir);
+        long lastModified = Files.getLastModifiedTime(dir).toMillis();
+
+        DirListing cachedListing = cachedListings.get(relativeDir.toString());
+        if (nonNull(cachedListing) && cachedListing.lastModified() == lastModified) {
+            return cachedListing;
+        }
+
+        List<String> files = new ArrayList<>();
+        List<String> subDirs = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (Path entry : entries) {
+                BasicFileAttributes attribs = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                (attribs.isDirectory() ? subDirs : files).add(entry.getFileName().toString());
+            }
+        }
+
+        boolean reusable = lastModified < System.currentTimeMillis() - MTIME_GRANULARITY_MILLIS;
+        return new DirListing(reusable ? lastModified : -1, files, subDirs);
+    }
+
+    private Map<String, DirListing> loadListingCache() {
+        Map<String, DirListing> listings = new HashMap<>();
+        if (isNull(listingCacheFile) || !Files.isRegularFile(listingCacheFile)) {
+            return listings;
+        }
+
+        try {
+            JsonNode root = MAPPER.readTree(listingCacheFile);
+            if (absoluteRootDir.toString().equals(root.path("rootDir").asString(null))) {
+                root.path("dirs").properties().forEach(e -> listings.put(e.getKey(), DirListing.read(e.getValue())));
+            }
+        } catch (JacksonException e) {
+            logger.warn("Ignoring unreadable listing cache file {}: {}", listingCacheFile, e.getMessage());
+        }
+
+        return listings;
+    }
+
+    private void saveListingCache(Map<String, DirListing> listings) {
+        if (isNull(listingCacheFile)) {
+            return;
+        }
+
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("rootDir", absoluteRootDir.toString());
+        ObjectNode dirsNode = root.putObject("dirs");
+        new TreeMap<>(listings).forEach((dir, listing) -> listing.write(dirsNode.putObject(dir)));
+
+        try {
+            Path parentDir = listingCacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(parentDir);
+            Files.writeString(listingCacheFile, MAPPER.writeValueAsString(root));
+        } catch (IOException e) {
+            throw new JsonSchema2JavaException("Failed to write listing cache file %s".formatted(listingCacheFile), e);
+        }
+    }
+
+    /**
+     * Lists a directory, matching its files and forking a task for each subdirectory not excluded.
+     */
+    private class DirWalker extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Path relativeDir;
+        private final transient Map<String, DirListing> cachedListings;
+        private final transient Map<String, DirListing> currentListings;
+        private final transient Queue<Path> schemaFiles;
+
+        DirWalker(Path relativeDir, Map<String, DirListing> cachedListings, Map<String, DirListing> currentListings, Queue<Path> schemaFiles) {
+            this.relativeDir = relativeDir;
+            this.cachedListings = cachedListings;
+            this.currentListings = currentListings;
+            this.schemaFiles = schemaFiles;
+        }
+
+        @Override
+        protected void compute() {
+            DirListing listing;
+            try {
+                listing = listDir(relativeDir, cachedListings);
+            } catch (IOException e) {
+                throw new JsonSchema2JavaException("Failed to list directory %s".formatted(absoluteRootDir.resolve(relativeDir)), e);
+            }
+            currentListings.put(relativeDir.toString(), listing);
+
+            listing.files().stream()
+                .map(relativeDir::resolve)
+                .filter(file -> isIncluded(file) && !isExcluded(file))
+                .forEach(schemaFiles::add);
+
+            List<DirWalker> subDirWalkers = listing.subDirs().stream()
+                .map(relativeDir::resolve)
+                .filter(subDir -> !isExcluded(subDir))
+                .map(subDir -> new DirWalker(subDir, cachedListings, currentListings, schemaFiles))
+                .toList();
+
+            invokeAll(subDirWalkers);
+        }
+    }
+
+    /**
+     * The files and subdirectories of a directory, and the last modified time of the directory when listed.
+     * A last modified time of -1 means the listing must not be reused.
+     */
+    private record DirListing(long lastModified, List<String> files, List<String> subDirs) {
+
+        static DirListing read(JsonNode node) {
+            return new DirListing(node.path("lastModified").asLong(-1), readNames(node.path("files")), readNames(node.path("dirs")));
+        }
+
+        void write(ObjectNode node) {
+            node.put("lastModified", lastModified);
+            ArrayNode filesNode = node.putArray("files");
+            files.forEach(filesNode::add);
+            ArrayNode dirsNode = node.putArray("dirs");
+            subDirs.forEach(dirsNode::add);
+        }
+
+        private static List<String> readNames(JsonNode node) {
+            List<String> names = new ArrayList<>();
+            node.forEach(name -> names.add(name.asString()));
+            return names;
+        }
+    }
+
+    /**
+     * Matches a path against a pattern, either as a whole or by file name only.
+     */
+    private record PatternMatcher(PathMatcher matcher, boolean matchFileName) {
+
+        static PatternMatcher of(String pattern) {
+            String syntaxAndPattern = pattern.startsWith("glob:") || pattern.startsWith("regex:") ? pattern : "glob:" + pattern;
+            String patternOnly = syntaxAndPattern.substring(syntaxAndPattern.indexOf(':') + 1);
+            return new PatternMatcher(FileSystems.getDefault().getPathMatcher(syntaxAndPattern), !patternOnly.contains("/"));
+        }
+
+        boolean matches(Path relativePath) {
+            return matcher.matches(matchFileName ? relativePath.getFileName() : relativePath);
+        }
+    }
+}
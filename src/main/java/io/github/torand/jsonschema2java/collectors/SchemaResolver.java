@@ -15,94 +15,101 @@
  */
 package io.github.torand.jsonschema2java.collectors;
 
-import com.networknt.schema.*;
-import com.networknt.schema.Error;
-import com.networknt.schema.dialect.Dialect;
-import com.networknt.schema.dialect.DialectId;
-import com.networknt.schema.dialect.Dialects;
-import com.networknt.schema.keyword.NonValidationKeyword;
 import io.github.torand.jsonschema2java.generators.Options;
+import io.github.torand.jsonschema2java.jfr.RefResolvedEvent;
+import io.github.torand.jsonschema2java.jfr.SchemaLoadedEvent;
 import io.github.torand.jsonschema2java.utils.JsonSchema2JavaException;
 import io.github.torand.jsonschema2java.utils.JsonSchemaDef;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.nio.file.*;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import static io.github.torand.javacommons.lang.Exceptions.illegalStateException;
 import static io.github.torand.jsonschema2java.collectors.Extensions.EXT_MODEL_SUBDIR;
 import static io.github.torand.jsonschema2java.utils.StringUtils.toPascalCase;
-import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 /**
  * Resolves (loads) external JSON Schemas referenced in a JSON Schema.
  */
 public class SchemaResolver {
     private final Options opts;
+    private final SchemaSourceCache sourceCache;
 
-    private SchemaRegistry schemaFactory;
+    /**
+     * Index of resolved schemas by canonical $ref URI, so each referenced schema is loaded and classified only once.
+     * Bounded by the 'maxCachedSchemas' option, if set.
+     */
+    private final BoundedCache<URI, Optional<ResolvedSchema>> resolvedSchemas;
+
+    /**
+     * The canonical $ref URIs resolved to each schema file, to find the index entries of a schema file to invalidate.
+     */
+    private final Map<Path, Set<URI>> refsBySchemaFile = new ConcurrentHashMap<>();
+
+    private final LongAdder resolutionNanos = new LongAdder();
 
     public SchemaResolver(Options opts) {
+        this(opts, new SchemaSourceCache(opts));
+    }
+
+    public SchemaResolver(Options opts, SchemaSourceCache sourceCache) {
         this.opts = opts;
+        this.sourceCache = sourceCache;
+        this.resolvedSchemas = new BoundedCache<>(opts.maxCachedSchemas());
     }
 
+    /**
+     * Validates specified schema file against the JSON Schema meta-schema.
+     * @param schemaFile the schema file.
+     * @return the validation messages, if any.
+     * @deprecated Compiles the meta-schema for every call. Use {@link SchemaValidator} instead.
+     */
+    @Deprecated
     public static List<String> validate(Path schemaFile) {
-        SchemaRegistryConfig config = SchemaRegistryConfig.builder()
-            // By default, the JDK regular expression implementation which is not ECMA 262 compliant, is used.
-            // Note that setting this requires including optional dependencies
-            // .regularExpressionFactory(GraalJSRegularExpressionFactory.getInstance());
-            // .regularExpressionFactory(JoniRegularExpressionFactory.getInstance());
-            .formatAssertionsEnabled(true)
-            .build();
-
-        SchemaRegistry metaSchemaFactory = SchemaRegistry.withDialect(Dialects.getDraft202012(),builder -> builder.schemaRegistryConfig(config));
-
-        // Due to the mapping the meta-schema will be retrieved from the classpath at classpath:draft/2020-12/schema.
-        Schema metaSchema = metaSchemaFactory.getSchema(SchemaLocation.of(DialectId.DRAFT_2020_12));
-        String schemaContent;
-
-        try {
-            schemaContent = new String(Files.readAllBytes(schemaFile));
-        } catch (IOException e) {
-            throw new JsonSchema2JavaException(e);
-        }
-
-        List<Error> messages = metaSchema.validate(schemaContent, InputFormat.JSON);
-
-        return messages.stream()
-            .map(msg -> "%s %s".formatted(msg.getEvaluationPath().toString(), msg.getMessage()))
-            .toList();
+        return new SchemaValidator().validate(schemaFile);
     }
 
     public JsonSchemaDef load(Path schemaFile) {
-        Schema schema;
-        try (InputStream schemaStream = new FileInputStream(schemaFile.toFile())) {
-            SchemaRegistry factory = getSchemaFactory();
-            schema = factory.getSchema(schemaStream);
-        } catch (IOException e) {
-            throw new JsonSchema2JavaException("Failed to open schema file %s".formatted(schemaFile), e);
-        }
+        SchemaLoadedEvent event = new SchemaLoadedEvent();
+        event.begin();
 
         String schemaName = getSchemaName(schemaFile);
+        JsonSchemaDef schema = new JsonSchemaDef(schemaName, sourceCache.get(schemaFile));
 
-        return new JsonSchemaDef(schemaName, schema);
+        if (event.shouldCommit()) {
+            event.schemaName = schemaName;
+            event.schemaFile = schemaFile.toString();
+            event.commit();
+        }
+
+        return schema;
     }
 
-    public Optional<JsonSchemaDef> get(URI ref) {
-        Schema schema = getSchemaFactory().getSchema(SchemaLocation.of(ref.toString()));
+    /**
+     * Discards the cached content and resolution of specified schema file, after it has been changed or deleted,
+     * or is no longer needed.
+     * @param schemaFile the schema file.
+     */
+    public void invalidate(Path schemaFile) {
+        sourceCache.invalidate(schemaFile);
 
-        if (isNull(schema)) {
-            return Optional.empty();
+        Set<URI> refs = refsBySchemaFile.remove(schemaFile.toAbsolutePath().normalize());
+        if (nonNull(refs)) {
+            refs.forEach(resolvedSchemas::remove);
         }
+    }
 
-        return Optional.of(new JsonSchemaDef(getTypeName(ref), schema));
+    public Optional<JsonSchemaDef> get(URI ref) {
+        return resolve(ref).map(ResolvedSchema::schema);
     }
 
     public JsonSchemaDef getOrThrow(URI ref) {
@@ -125,31 +132,37 @@ public class SchemaResolver {
         return toPascalCase(refStr);
     }
 
+    /**
+     * Gets the type name of the schema referenced by specified $ref, computed once per schema.
+     * @param ref the schema $ref.
+     * @return the type name.
+     */
+    public String getResolvedTypeName(URI ref) {
+        return resolveOrThrow(ref).typeName();
+    }
+
     public Optional<String> getModelSubpackage(URI ref) {
-        JsonSchemaDef schema = getOrThrow(ref);
-        return schema.extensions()
-            .getString(EXT_MODEL_SUBDIR)
-            .map(subdir -> subdir.replace("/", "."));
+        return resolveOrThrow(ref).modelSubpackage();
     }
 
     public boolean isEnumType(URI ref) {
-        return get(ref).map(SchemaResolver::isEnumType).orElse(false);
+        return isKind(ref, SchemaKind.ENUM);
     }
 
     public boolean isObjectType(URI ref) {
-        return get(ref).map(SchemaResolver::isObjectType).orElse(false);
+        return isKind(ref, SchemaKind.OBJECT);
     }
 
     public boolean isArrayType(URI ref) {
-        return get(ref).map(SchemaResolver::isArrayType).orElse(false);
+        return isKind(ref, SchemaKind.ARRAY);
     }
 
     public boolean isCompoundType(URI ref) {
-        return get(ref).map(SchemaResolver::isCompoundType).orElse(false);
+        return isKind(ref, SchemaKind.COMPOUND);
     }
 
     public boolean isPrimitiveType(URI ref) {
-        return get(ref).map(SchemaResolver::isPrimitiveType).orElse(false);
+        return isKind(ref, SchemaKind.PRIMITIVE);
     }
 
     public static boolean isEnumType(JsonSchemaDef schema) {
@@ -175,78 +188,179 @@ public class SchemaResolver {
         return !isEnumType(schema) && !isObjectType(schema) && !isArrayType(schema) && !isCompoundType(schema);
     }
 
-    public static List<Path> findSchemaFiles(Path rootDir, String pattern) {
-        List<Path> schemaFiles = new ArrayList<>();
-
-        FileSystem fs = FileSystems.getDefault();
-        PathMatcher matcher = fs.getPathMatcher(pattern);
-
-        FileVisitor<Path> matcherVisitor = new SimpleFileVisitor<>() {
-            @Override
-            public FileVisitResult visitFile(Path file, BasicFileAttributes attribs) {
-                Path name = file.getFileName();
-                if (matcher.matches(name)) {
-                    schemaFiles.add(rootDir.resolve(name.toString()));
-                }
-                return FileVisitResult.CONTINUE;
-            }
-        };
+    private boolean isKind(URI ref, SchemaKind kind) {
+        return resolve(ref).map(resolved -> resolved.kinds().contains(kind)).orElse(false);
+    }
+
+    private ResolvedSchema resolveOrThrow(URI ref) {
+        return resolve(ref).orElseThrow(illegalStateException("Schema %s not found", ref));
+    }
+
+    private Optional<ResolvedSchema> resolve(URI ref) {
+        RefResolvedEvent event = new RefResolvedEvent();
+        event.begin();
+
+        URI normalizedRef = ref.normalize();
+        Optional<ResolvedSchema> resolved = resolvedSchemas.get(normalizedRef);
+        boolean cacheHit = nonNull(resolved);
+        if (!cacheHit) {
+            resolved = resolvedSchemas.computeIfAbsent(normalizedRef, this::loadResolvedSchema);
+        }
+
+        if (event.shouldCommit()) {
+            event.ref = normalizedRef.toString();
+            event.schemaName = resolved.map(ResolvedSchema::typeName).orElse(null);
+            event.cacheHit = cacheHit;
+            event.commit();
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Gets the cache of parsed schema files used by this resolver.
+     * @return the schema source cache.
+     */
+    public SchemaSourceCache getSourceCache() {
+        return sourceCache;
+    }
 
+    /**
+     * Gets the total time spent resolving (loading and classifying) referenced schemas.
+     * @return the resolution time, in nanoseconds.
+     */
+    public long getResolutionNanos() {
+        return resolutionNanos.sum();
+    }
+
+    private Optional<ResolvedSchema> loadResolvedSchema(URI ref) {
+        long startTime = System.nanoTime();
         try {
-            Files.walkFileTree(rootDir, matcherVisitor);
-        } catch (IOException e) {
-            throw new JsonSchema2JavaException(e);
+            return doLoadResolvedSchema(ref);
+        } finally {
+            resolutionNanos.add(System.nanoTime() - startTime);
         }
+    }
 
-        return schemaFiles;
+    private Optional<ResolvedSchema> doLoadResolvedSchema(URI ref) {
+        Path schemaFile = getSchemaFile(ref);
+        refsBySchemaFile.computeIfAbsent(schemaFile.toAbsolutePath().normalize(), file -> ConcurrentHashMap.newKeySet()).add(ref);
+
+        if (Files.notExists(schemaFile)) {
+            return Optional.empty();
+        }
+
+        String typeName = getTypeName(ref);
+        JsonSchemaDef schemaDef = new JsonSchemaDef(typeName, sourceCache.get(schemaFile));
+
+        Optional<String> modelSubpackage = schemaDef.extensions()
+            .getString(EXT_MODEL_SUBDIR)
+            .map(subdir -> subdir.replace("/", "."));
+
+        return Optional.of(new ResolvedSchema(schemaDef, SchemaKind.of(schemaDef), typeName, modelSubpackage));
+    }
+
+    /**
+     * Finds schema files matching specified pattern below specified root directory.
+     * @param rootDir the root directory to search from.
+     * @param pattern the schema file search pattern.
+     * @return the schema files found.
+     * @deprecated Walks the directory tree on a single thread. Use {@link SchemaFileFinder} instead.
+     */
+    @Deprecated
+    public static List<Path> findSchemaFiles(Path rootDir, String pattern) {
+        return new SchemaFileFinder(rootDir, List.of(pattern), List.of(), null).find(1);
     }
 
-    private static String getSchemaName(Path schemaFile) {
+    /**
+     * Gets the schema name of specified schema file, derived from the file name.
+     * @param schemaFile the schema file.
+     * @return the schema name.
+     */
+    public static String getSchemaName(Path schemaFile) {
         String filenameWithExt = schemaFile.getFileName().toString();
         int dotIdx = filenameWithExt.lastIndexOf('.');
         return toPascalCase(filenameWithExt.substring(0, dotIdx));
     }
 
-    private SchemaRegistry getSchemaFactory() {
-        if (schemaFactory == null) {
-            Dialect.Builder metaSchemaBuilder = Dialect.builder(Dialects.getDraft202012());
-            Extensions.KEYWORDS.forEach(extKeyword ->
-                metaSchemaBuilder.keyword(new NonValidationKeyword(extKeyword))
-            );
+    /**
+     * Gets the path of the schema file with specified $id.
+     * @param ref the schema $id (or a $ref to it).
+     * @return the schema file path.
+     */
+    public Path getSchemaFile(URI ref) {
+        return findSchemaFile(ref)
+            .orElseThrow(() -> new JsonSchema2JavaException("Unexpected root URI in $id: %s".formatted(ref)));
+    }
+
+    /**
+     * Finds the path of the schema file with specified $id.
+     * @param ref the schema $id (or a $ref to it).
+     * @return the schema file path, or empty if the $id is not below the schema id root URI.
+     */
+    public Optional<Path> findSchemaFile(URI ref) {
+        String iri = ref.toString();
 
-            schemaFactory = SchemaRegistry.withDialect(Dialects.getDraft202012(),
-                builder -> builder.schemas(createSchemaDataProvider())
-            );
+        String schemaIdRootUri = opts.schemaIdRootUri().toString();
+        if (schemaIdRootUri.endsWith("/")) {
+            schemaIdRootUri = schemaIdRootUri.substring(0, schemaIdRootUri.length() - 1);
         }
 
-        return schemaFactory;
-    }
+        if (!iri.startsWith(schemaIdRootUri)) {
+            return Optional.empty();
+        }
 
-    private Function<String, String> createSchemaDataProvider() {
-        return iri -> {
-            String schemaIdRootUri = opts.schemaIdRootUri().toString();
-            if (schemaIdRootUri.endsWith("/")) {
-                schemaIdRootUri = schemaIdRootUri.substring(0, schemaIdRootUri.length() - 1);
-            }
+        String subIri = iri.substring(schemaIdRootUri.length() + 1); // Skip trailing slash
+
+        int typeNameIdx = subIri.lastIndexOf('/');
+        String path = (typeNameIdx == -1) ? "" : subIri.substring(0, typeNameIdx);
 
-            if (iri.startsWith(schemaIdRootUri)) {
-                String subIri = iri.substring(schemaIdRootUri.length() + 1); // Skip trailing slash
+        String typeName = getTypeName(ref);
 
-                int typeNameIdx = subIri.lastIndexOf('/');
-                String path = (typeNameIdx == -1) ? "" : subIri.substring(0, typeNameIdx);
+        return Optional.of(Paths.get(opts.searchRootDir(), path, "%s.json".formatted(typeName)));
+    }
 
-                String typeName = getTypeName(URI.create(iri));
+    /**
+     * Gets the paths of the schema files referenced (by $ref) directly from specified schema.
+     * @param schema the schema.
+     * @return the referenced schema file paths.
+     */
+    public Set<Path> getReferencedSchemaFiles(JsonSchemaDef schema) {
+        Set<Path> schemaFiles = new LinkedHashSet<>();
+        schema.refs().forEach(ref -> schemaFiles.add(getSchemaFile(ref)));
+        return schemaFiles;
+    }
 
-                Path schemaFilePath = Paths.get(opts.searchRootDir(), path, "%s.json".formatted(typeName));
+    /**
+     * Classification of a schema, as used when mapping it to a Java or Kotlin type.
+     */
+    private enum SchemaKind {
+        ENUM, OBJECT, ARRAY, COMPOUND, PRIMITIVE;
 
-                try {
-                    return Files.readString(schemaFilePath);
-                } catch (IOException e) {
-                    throw new JsonSchema2JavaException("Failed to read schema file: %s".formatted(schemaFilePath), e);
-                }
-            } else {
-                throw new JsonSchema2JavaException("Unexpected root URI in $id: %s".formatted(iri));
+        static Set<SchemaKind> of(JsonSchemaDef schema) {
+            Set<SchemaKind> kinds = EnumSet.noneOf(SchemaKind.class);
+            if (isEnumType(schema)) {
+                kinds.add(ENUM);
+            }
+            if (isObjectType(schema)) {
+                kinds.add(OBJECT);
+            }
+            if (isArrayType(schema)) {
+                kinds.add(ARRAY);
+            }
+            if (isCompoundType(schema)) {
+                kinds.add(COMPOUND);
             }
-        };
+            if (isPrimitiveType(schema)) {
+                kinds.add(PRIMITIVE);
+            }
+            return kinds;
+        }
+    }
+
+    /**
+     * A referenced schema with its classification, type name and model subpackage computed once.
+     */
+    private record ResolvedSchema(JsonSchemaDef schema, Set<SchemaKind> kinds, String typeName, Optional<String> modelSubpackage) {
     }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.collectors;
+
+import io.github.torand.jsonschema2java.generators.Options;
+import io.github.torand.jsonschema2java.utils.JsonSchema2JavaException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.torand.jsonschema2java.utils.HashUtils.sha256;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Caches the parsed content of schema files, so each file is read from disk and parsed only once,
+ * whether it is validated, loaded for generation or resolved as the target of a $ref.
+ * The cache may be bounded, evicting the least recently used content when full, to limit memory usage.
+ * If unbounded, the parsed content may also be shared with other plugin executions in the same JVM, through the
+ * {@link SharedSchemaCache}.
+ */
+public class SchemaSourceCache {
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private final BoundedCache<Path, JsonNode> sources;
+    private final Map<Path, String> contentHashes = new ConcurrentHashMap<>();
+    // Content read to compute its hash before being parsed, so parsing it later does not read the schema file again
+    private final BoundedCache<Path, byte[]> unparsedContents;
+    private final SharedSchemaCache sharedCache;
+
+    public SchemaSourceCache() {
+        this(0);
+    }
+
+    /**
+     * Constructs a {@link SchemaSourceCache} object holding a maximum number of parsed schema files.
+     * @param maxSize the maximum number of parsed schema files, or 0 for no limit.
+     */
+    public SchemaSourceCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * Constructs a {@link SchemaSourceCache} object configured by specified options.
+     * The cache is shared with other plugin executions if the 'shareSchemaCache' option is set, and the cache is unbounded.
+     * @param opts the plugin options.
+     */
+    public SchemaSourceCache(Options opts) {
+        this(opts.maxCachedSchemas(), opts.shareSchemaCache() && opts.maxCachedSchemas() == 0 ? SharedSchemaCache.getInstance() : null);
+    }
+
+    private SchemaSourceCache(int maxSize, SharedSchemaCache sharedCache) {
+        this.sources = new BoundedCache<>(maxSize);
+        this.unparsedContents = new BoundedCache<>(maxSize);
+        this.sharedCache = sharedCache;
+    }
+
+    /**
+     * Gets the parsed content of specified schema file, reading it on first access.
+     * @param schemaFile the schema file.
+     * @return the parsed schema file content.
+     * @throws tools.jackson.core.JacksonException if the schema file does not contain valid JSON.
+     */
+    public JsonNode get(Path schemaFile) {
+        return sources.computeIfAbsent(schemaFile.toAbsolutePath().normalize(), this::read);
+    }
+
+    /**
+     * Gets the SHA-256 hash of the content of specified schema file, as read when parsed.
+     * If not parsed yet, the content read to compute the hash is kept until the schema file is parsed.
+     * @param schemaFile the schema file.
+     * @return the content hash, or an empty string if the schema file does not exist.
+     */
+    public String getContentHash(Path schemaFile) {
+        Path normalizedFile = schemaFile.toAbsolutePath().normalize();
+        String contentHash = contentHashes.get(normalizedFile);
+        if (nonNull(contentHash)) {
+            return contentHash;
+        }
+
+        if (!Files.isRegularFile(normalizedFile)) {
+            return "";
+        }
+
+        byte[] content = readContent(normalizedFile);
+        contentHash = sha256(content);
+        contentHashes.put(normalizedFile, contentHash);
+        if (isNull(sources.get(normalizedFile))) {
+            unparsedContents.put(normalizedFile, content);
+        }
+        return contentHash;
+    }
+
+    /**
+     * Gets the cache shared with other plugin executions, if enabled.
+     * @return the shared cache, or null if not shared.
+     */
+    public SharedSchemaCache getSharedCache() {
+        return sharedCache;
+    }
+
+    /**
+     * Discards the cached content of specified schema file, so it is read again on next access.
+     * @param schemaFile the schema file.
+     */
+    public void invalidate(Path schemaFile) {
+        Path normalizedFile = schemaFile.toAbsolutePath().normalize();
+        sources.remove(normalizedFile);
+        contentHashes.remove(normalizedFile);
+        unparsedContents.remove(normalizedFile);
+    }
+
+    private JsonNode read(Path schemaFile) {
+        byte[] unparsedContent = unparsedContents.get(schemaFile);
+        unparsedContents.remove(schemaFile);
+        byte[] content = nonNull(unparsedContent) ? unparsedContent : readContent(schemaFile);
+        String contentHash = sha256(content);
+        contentHashes.put(schemaFile, contentHash);
+
+        if (nonNull(sharedCache)) {
+            return sharedCache.getSource(schemaFile, contentHash, () -> MAPPER.readTree(content));
+        }
+
+        return MAPPER.readTree(content);
+    }
+
+    private static byte[] readContent(Path schemaFile) {
+        try {
+            return Files.readAllBytes(schemaFile);
+        } catch (IOException e) {
+            throw new JsonSchema2JavaException("Failed to read schema file %s".formatted(schemaFile), e);
+        }
+    }
+}
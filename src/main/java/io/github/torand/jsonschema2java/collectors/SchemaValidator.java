@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.collectors;
+
+import com.networknt.schema.Error;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.SchemaRegistryConfig;
+import com.networknt.schema.dialect.DialectId;
+import com.networknt.schema.dialect.Dialects;
+import io.github.torand.jsonschema2java.utils.JsonSchema2JavaException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Validates JSON Schema files against the JSON Schema draft 2020-12 meta-schema.
+ * The meta-schema is compiled once per JVM, on first validation, and shared by all validations, which may run concurrently.
+ */
+public class SchemaValidator {
+    private final SchemaSourceCache sourceCache;
+
+    /**
+     * Constructs a {@link SchemaValidator} object.
+     */
+    public SchemaValidator() {
+        this(new SchemaSourceCache());
+    }
+
+    /**
+     * Constructs a {@link SchemaValidator} object reading schema files through specified cache.
+     * @param sourceCache the schema source cache.
+     */
+    public SchemaValidator(SchemaSourceCache sourceCache) {
+        this.sourceCache = sourceCache;
+    }
+
+    /**
+     * Validates specified schema file.
+     * @param schemaFile the schema file.
+     * @return the validation messages, if any.
+     */
+    public List<String> validate(Path schemaFile) {
+        JsonNode schemaNode;
+        try {
+            schemaNode = sourceCache.get(schemaFile);
+        } catch (JacksonException e) {
+            return List.of("Invalid JSON: %s".formatted(e.getOriginalMessage()));
+        }
+
+        SharedSchemaCache sharedCache = sourceCache.getSharedCache();
+        if (nonNull(sharedCache)) {
+            return sharedCache.getValidationMessages(schemaFile, sourceCache.getContentHash(schemaFile), () -> validate(schemaNode));
+        }
+
+        return validate(schemaNode);
+    }
+
+    private List<String> validate(JsonNode schemaNode) {
+        List<Error> messages = MetaSchemaHolder.META_SCHEMA.validate(schemaNode);
+
+        return messages.stream()
+            .map(msg -> "%s %s".formatted(msg.getEvaluationPath().toString(), msg.getMessage()))
+            .toList();
+    }
+
+    /**
+     * Validates specified schema files concurrently.
+     * @param schemaFiles the schema files.
+     * @param workerCount the number of worker threads.
+     * @return the validation messages by schema file, for invalid schema files only, in the order given.
+     */
+    public Map<Path, List<String>> validateAll(List<Path> schemaFiles, int workerCount) {
+        List<Callable<List<String>>> tasks = new ArrayList<>();
+        schemaFiles.forEach(schemaFile -> tasks.add(() -> validate(schemaFile)));
+
+        List<Future<List<String>>> results;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(workerCount, schemaFiles.size())));
+        try {
+            results = executor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JsonSchema2JavaException("Interrupted while validating schema files", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<Path, List<String>> messagesByFile = new LinkedHashMap<>();
+        for (int i = 0; i < schemaFiles.size(); i++) {
+            List<String> messages = getResult(results.get(i));
+            if (!messages.isEmpty()) {
+                messagesByFile.put(schemaFiles.get(i), messages);
+            }
+        }
+
+        return messagesByFile;
+    }
+
+    private static List<String> getResult(Future<List<String>> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JsonSchema2JavaException("Interrupted while validating schema files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new JsonSchema2JavaException(e.getCause());
+        }
+    }
+
+    /**
+     * Holds the meta-schema, compiled when first accessed.
+     */
+    private static final class MetaSchemaHolder {
+        static final Schema META_SCHEMA = compileMetaSchema();
+
+        private static Schema compileMetaSchema() {
+            SchemaRegistryConfig config = SchemaRegistryConfig.builder()
+                // By default, the JDK regular expression implementation which is not ECMA 262 compliant, is used.
+                // Note that setting this requires including optional dependencies
+                // .regularExpressionFactory(GraalJSRegularExpressionFactory.getInstance());
+                // .regularExpressionFactory(JoniRegularExpressionFactory.getInstance());
+                .formatAssertionsEnabled(true)
+                .build();
+
+            SchemaRegistry metaSchemaFactory = SchemaRegistry.withDialect(Dialects.getDraft202012(), builder -> builder.schemaRegistryConfig(config));
+
+            // Due to the mapping the meta-schema will be retrieved from the classpath at classpath:draft/2020-12/schema.
+            Schema metaSchema = metaSchemaFactory.getSchema(SchemaLocation.of(DialectId.DRAFT_2020_12));
+
+            // Make the meta-schema safe to share between threads
+            metaSchema.initializeValidators();
+
+            return metaSchema;
+        }
+    }
+}
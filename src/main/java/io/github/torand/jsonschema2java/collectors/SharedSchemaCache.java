@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.collectors;
+
+import io.github.torand.jsonschema2java.model.EnumInfo;
+import io.github.torand.jsonschema2java.model.PojoInfo;
+import tools.jackson.databind.JsonNode;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Caches the results of processing schema files for the lifetime of the JVM, so they are shared by all plugin executions
+ * in the same JVM: the modules of a Maven reactor build, and subsequent builds run by a Maven daemon (mvnd).
+ * <p>
+ * Parsed schema files and validation results are keyed by the content hash of the schema file. Collected enum and pojo
+ * information is keyed by a hash of the options affecting the generated code and the content hashes of the schema file
+ * and all schema files referenced by it (transitively). Only the latest result of each schema file is kept, and the
+ * results of at most 1000 schema files are kept, evicting the least recently used, so a long-lived
+ * JVM does not keep the schemas of every project it has built.
+ * </p>
+ */
+public final class SharedSchemaCache {
+    static final int MAX_SCHEMA_FILES = 1000;
+
+    private static final SharedSchemaCache INSTANCE = new SharedSchemaCache(MAX_SCHEMA_FILES);
+
+    private final BoundedCache<Path, Entry<JsonNode>> sources;
+    private final BoundedCache<Path, Entry<List<String>>> validationMessages;
+    private final BoundedCache<Path, Entry<EnumInfo>> enumInfos;
+    private final BoundedCache<Path, Entry<PojoInfo>> pojoInfos;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    /**
+     * Constructs a {@link SharedSchemaCache} object.
+     * @param maxSchemaFiles the maximum number of schema files to keep results of.
+     */
+    SharedSchemaCache(int maxSchemaFiles) {
+        this.sources = new BoundedCache<>(maxSchemaFiles);
+        this.validationMessages = new BoundedCache<>(maxSchemaFiles);
+        this.enumInfos = new BoundedCache<>(maxSchemaFiles);
+        this.pojoInfos = new BoundedCache<>(maxSchemaFiles);
+    }
+
+    /**
+     * Gets the cache shared by all plugin executions in this JVM.
+     * @return the shared cache.
+     */
+    public static SharedSchemaCache getInstance() {
+        return INSTANCE;
+    }
+
+    JsonNode getSource(Path schemaFile, String contentHash, Supplier<JsonNode> parser) {
+        return get(sources, schemaFile, contentHash, parser);
+    }
+
+    List<String> getValidationMessages(Path schemaFile, String contentHash, Supplier<List<String>> validator) {
+        return get(validationMessages, schemaFile, contentHash, validator);
+    }
+
+    /**
+     * Gets the enum information of specified schema file, collecting it if not cached with specified key.
+     * @param schemaFile the schema file.
+     * @param key the hash of the options and schema file contents the enum information is collected from.
+     * @param collector the enum information collector.
+     * @return the enum information.
+     */
+    public EnumInfo getEnumInfo(Path schemaFile, String key, Supplier<EnumInfo> collector) {
+        return get(enumInfos, schemaFile, key, collector);
+    }
+
+    /**
+     * Gets the pojo information of specified schema file, collecting it if not cached with specified key.
+     * @param schemaFile the schema file.
+     * @param key the hash of the options and schema file contents the pojo information is collected from.
+     * @param collector the pojo information collector.
+     * @return the pojo information.
+     */
+    public PojoInfo getPojoInfo(Path schemaFile, String key, Supplier<PojoInfo> collector) {
+        return get(pojoInfos, schemaFile, key, collector);
+    }
+
+    /**
+     * Gets the number of results reused since the cache was last cleared.
+     * @return the number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Discards all cached results.
+     */
+    public void clear() {
+        sources.clear();
+        validationMessages.clear();
+        enumInfos.clear();
+        pojoInfos.clear();
+        hitCount.reset();
+    }
+
+    private <T> T get(BoundedCache<Path, Entry<T>> entries, Path schemaFile, String key, Supplier<T> supplier) {
+        Path normalizedFile = schemaFile.toAbsolutePath().normalize();
+
+        Entry<T> entry = entries.get(normalizedFile);
+        if (nonNull(entry) && entry.key().equals(key)) {
+            hitCount.increment();
+            return entry.value();
+        }
+
+        // Computed outside the map, as processing may resolve other schema files. Concurrent duplicate work is harmless.
+        T value = supplier.get();
+        entries.put(normalizedFile, new Entry<>(key, value));
+        return value;
+    }
+
+    private record Entry<T>(String key, T value) {
+    }
+}
@@ -20,14 +20,19 @@ import io.github.torand.jsonschema2java.model.AnnotationInfo;
 import io.github.torand.jsonschema2java.model.TypeInfo;
 import io.github.torand.jsonschema2java.utils.JsonSchemaDef;
 
+import java.math.BigDecimal;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.github.torand.javacommons.collection.CollectionHelper.isEmpty;
 import static io.github.torand.javacommons.lang.Exceptions.illegalStateException;
 import static io.github.torand.javacommons.lang.StringHelper.nonBlank;
+import static io.github.torand.jsonschema2java.collectors.Extensions.EXT_JAVA_TYPE;
 import static io.github.torand.jsonschema2java.collectors.Extensions.EXT_JSON_DESERIALIZER;
 import static io.github.torand.jsonschema2java.collectors.Extensions.EXT_JSON_FORMAT;
 import static io.github.torand.jsonschema2java.collectors.Extensions.EXT_JSON_SERIALIZER;
@@ -39,6 +44,7 @@ import static io.github.torand.jsonschema2java.utils.PackageUtils.getClassNameFr
 import static io.github.torand.jsonschema2java.utils.StringUtils.escape;
 import static io.github.torand.jsonschema2java.utils.StringUtils.joinCsv;
 import static java.lang.Boolean.TRUE;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.function.Predicate.not;
 
@@ -48,8 +54,34 @@ import static java.util.function.Predicate.not;
 public class TypeInfoCollector extends BaseCollector {
     public enum NullabilityResolution {FROM_SCHEMA, FORCE_NULLABLE, FORCE_NOT_NULLABLE}
 
+    private static final Set<String> INTEGER_JAVA_TYPES = Set.of("byte", "short", "int", "long");
+    private static final Set<String> NUMBER_JAVA_TYPES = Set.of("float", "double");
+    private static final Set<String> BOOLEAN_JAVA_TYPES = Set.of("boolean");
+    private static final Map<String, String> WRAPPER_TYPES = Map.of(
+        "byte", "Byte",
+        "short", "Short",
+        "int", "Integer",
+        "long", "Long",
+        "float", "Float",
+        "double", "Double",
+        "boolean", "Boolean");
+    private static final Map<String, String> PRIMITIVE_ARRAY_TYPES = Map.of(
+        "Short", "short[]",
+        "Integer", "int[]",
+        "Long", "long[]",
+        "Float", "float[]",
+        "Double", "double[]");
+    private static final Set<String> INTEGER_ARRAY_JAVA_TYPES = Set.of("short[]", "int[]", "long[]");
+    private static final Set<String> NUMBER_ARRAY_JAVA_TYPES = Set.of("float[]", "double[]");
+
     private final SchemaResolver schemaResolver;
 
+    // Refs to primitive and array schemas currently being inlined, to detect reference cycles
+    private final Set<URI> inliningRefs = new HashSet<>();
+
+    // Number of array items and map values currently being collected, which cannot be primitive types
+    private int containerDepth = 0;
+
     public TypeInfoCollector(Options opts, SchemaResolver schemaResolver) {
         super(opts);
         this.schemaResolver = schemaResolver;
@@ -84,34 +116,43 @@ public class TypeInfoCollector extends BaseCollector {
 
             URI ref = schema.ref();
             if (nonNull(ref)) {
-                TypeInfo typeInfo;
-
                 if (schemaResolver.isPrimitiveType(ref)  || schemaResolver.isArrayType(ref)) {
-                    JsonSchemaDef refSchema = schemaResolver.getOrThrow(ref);
-                    typeInfo = getTypeInfo(refSchema, nullable ? FORCE_NULLABLE : FORCE_NOT_NULLABLE);
-                } else {
-                    typeInfo = new TypeInfo()
-                        .withName(SchemaResolver.getTypeName(ref) + opts.pojoNameSuffix())
-                        .withNullable(nullable);
-
-                    String modelSubpackage = schemaResolver.getModelSubpackage(ref).orElse(null);
-                    typeInfo = typeInfo.withAddedNormalImport(opts.getModelPackage(modelSubpackage) + "." + typeInfo.name());
-
-                    if (!schemaResolver.isEnumType(schema.ref())) {
-                        AnnotationInfo validAnnotation = getValidAnnotation();
-                        typeInfo = typeInfo.withAddedAnnotation(validAnnotation);
+                    URI normalizedRef = ref.normalize();
+                    if (!inliningRefs.add(normalizedRef)) {
+                        throw new IllegalStateException("Cyclic $ref when resolving type: %s".formatted(normalizedRef));
                     }
-                    if (!nullable) {
-                        AnnotationInfo notNullAnnotation = getNotNullAnnotation();
-                        typeInfo = typeInfo.withAddedAnnotation(notNullAnnotation);
+
+                    TypeInfo typeInfo;
+                    try {
+                        JsonSchemaDef refSchema = schemaResolver.getOrThrow(normalizedRef);
+                        typeInfo = getTypeInfo(refSchema, nullable ? FORCE_NULLABLE : FORCE_NOT_NULLABLE);
+                    } finally {
+                        inliningRefs.remove(normalizedRef);
                     }
+                    return nonBlank(schema.description()) ? typeInfo.withDescription(schema.description()) : typeInfo;
+                }
+
+                TypeInfo.Builder typeInfo = TypeInfo.builder()
+                    .name(schemaResolver.getResolvedTypeName(ref) + opts.pojoNameSuffix())
+                    .nullable(nullable);
+
+                String modelSubpackage = schemaResolver.getModelSubpackage(ref).orElse(null);
+                typeInfo.addNormalImport(opts.getModelPackage(modelSubpackage) + "." + typeInfo.name());
+
+                if (!schemaResolver.isEnumType(ref)) {
+                    AnnotationInfo validAnnotation = getValidAnnotation();
+                    typeInfo.addAnnotation(validAnnotation);
+                }
+                if (!nullable) {
+                    AnnotationInfo notNullAnnotation = getNotNullAnnotation();
+                    typeInfo.addAnnotation(notNullAnnotation);
                 }
 
                 if (nonBlank(schema.description())) {
-                    typeInfo = typeInfo.withDescription(schema.description());
+                    typeInfo.description(schema.description());
                 }
 
-                return typeInfo;
+                return typeInfo.build();
             } else if (schema.hasAllOf()) {
                 throw new IllegalStateException("No types, no $ref: %s".formatted(schema.toString()));
             }
@@ -127,10 +168,10 @@ public class TypeInfoCollector extends BaseCollector {
     }
 
     private TypeInfo getJsonType(JsonSchemaDef schema, NullabilityResolution nullabilityResolution) {
-        TypeInfo typeInfo = new TypeInfo()
-            .withDescription(schema.description())
-            .withPrimitive(true)
-            .withNullable(isNullable(schema, nullabilityResolution));
+        TypeInfo.Builder typeInfo = TypeInfo.builder()
+            .description(schema.description())
+            .primitive(true)
+            .nullable(isNullable(schema, nullabilityResolution));
 
         String jsonType = schema.types()
             .filter(not("null"::equals))
@@ -138,17 +179,17 @@ public class TypeInfoCollector extends BaseCollector {
             .orElseThrow(illegalStateException("Unexpected types: %s", schema.toString()));
 
         if ("string".equals(jsonType)) {
-            typeInfo = populateJsonStringType(typeInfo, schema);
+            populateJsonStringType(typeInfo, schema);
         } else if ("number".equals(jsonType)) {
-            typeInfo = populateJsonNumberType(typeInfo, schema);
+            populateJsonNumberType(typeInfo, schema);
         } else if ("integer".equals(jsonType)) {
-            typeInfo = populateJsonIntegerType(typeInfo, schema);
+            populateJsonIntegerType(typeInfo, schema);
         } else if ("boolean".equals(jsonType)) {
-            typeInfo = populateJsonBooleanType(typeInfo);
+            populateJsonBooleanType(typeInfo, schema);
         } else if ("array".equals(jsonType)) {
-            typeInfo = populateJsonArrayType(typeInfo, schema);
+            populateJsonArrayType(typeInfo, schema);
         } else if ("object".equals(jsonType) && isEmpty(schema.properties()) && schema.additionalProperties() instanceof JsonSchemaDef) {
-            typeInfo = populateJsonMapType(typeInfo, schema);
+            populateJsonMapType(typeInfo, schema);
         } else {
             // Schema not expected to be defined "inline" using type 'object'
             throw new IllegalStateException("Unexpected schema: %s".formatted(schema.toString()));
@@ -157,13 +198,13 @@ public class TypeInfoCollector extends BaseCollector {
         Optional<String> maybeJsonSerializer = schema.extensions().getString(EXT_JSON_SERIALIZER);
         if (maybeJsonSerializer.isPresent()) {
             AnnotationInfo jsonSerializeAnnotation = getJsonSerializeAnnotation(maybeJsonSerializer.get());
-            typeInfo = typeInfo.withAddedAnnotation(jsonSerializeAnnotation);
+            typeInfo.addAnnotation(jsonSerializeAnnotation);
         }
 
         Optional<String> maybeJsonDeserializer = schema.extensions().getString(EXT_JSON_DESERIALIZER);
         if (maybeJsonDeserializer.isPresent()) {
             AnnotationInfo jsonDeserializeAnnotation = getJsonDeserializeAnnotation(maybeJsonDeserializer.get());
-            typeInfo = typeInfo.withAddedAnnotation(jsonDeserializeAnnotation);
+            typeInfo.addAnnotation(jsonDeserializeAnnotation);
         }
 
         Optional<String> maybeValidationConstraint = schema.extensions().getString(EXT_VALIDATION_CONSTRAINT);
@@ -172,235 +213,314 @@ public class TypeInfoCollector extends BaseCollector {
                 "@%s".formatted(getClassNameFromFqn(maybeValidationConstraint.get())),
                 maybeValidationConstraint.get()
             );
-            typeInfo = typeInfo.withAddedAnnotation(validationConstraintAnnotation);
+            typeInfo.addAnnotation(validationConstraintAnnotation);
         }
 
-        return typeInfo;
+        return typeInfo.build();
     }
 
-    private TypeInfo populateJsonStringType(TypeInfo typeInfo, JsonSchemaDef schema) {
+    private void populateJsonStringType(TypeInfo.Builder typeInfo, JsonSchemaDef schema) {
         if ("uri".equals(schema.format())) {
-            typeInfo = typeInfo.withName("URI")
-                .withSchemaFormat(schema.format())
-                .withAddedNormalImport("java.net.URI");
+            typeInfo.name("URI")
+                .schemaFormat(schema.format())
+                .addNormalImport("java.net.URI");
             if (!typeInfo.nullable() && opts.addJakartaBeanValidationAnnotations()) {
                 AnnotationInfo notNullAnnotation = getNotNullAnnotation();
-                typeInfo = typeInfo.withAddedAnnotation(notNullAnnotation);
+                typeInfo.addAnnotation(notNullAnnotation);
             }
         } else if ("uuid".equals(schema.format())) {
-            typeInfo = typeInfo.withName("UUID")
-                .withSchemaFormat(schema.format())
-                .withAddedNormalImport("java.util.UUID");
+            typeInfo.name("UUID")
+                .schemaFormat(schema.format())
+                .addNormalImport("java.util.UUID");
             if (!typeInfo.nullable() && opts.addJakartaBeanValidationAnnotations()) {
                 AnnotationInfo notNullAnnotation = getNotNullAnnotation();
-                typeInfo = typeInfo.withAddedAnnotation(notNullAnnotation);
+                typeInfo.addAnnotation(notNullAnnotation);
             }
         } else if ("duration".equals(schema.format())) {
-            typeInfo = typeInfo.withName(getClassNameFromFqn(opts.durationClassName()))
-                .withSchemaFormat(schema.format())
-                .withAddedNormalImport(opts.durationClassName());
+            typeInfo.name(getClassNameFromFqn(opts.durationClassName()))
+                .schemaFormat(schema.format())
+                .addNormalImport(opts.durationClassName());
             if (!typeInfo.nullable() && opts.addJakartaBeanValidationAnnotations()) {
                 AnnotationInfo notNullAnnotation = getNotNullAnnotation();
-                typeInfo = typeInfo.withAddedAnnotation(notNullAnnotation);
+                typeInfo.addAnnotation(notNullAnnotation);
             }
         } else if ("date".equals(schema.format())) {
-            typeInfo = typeInfo.withName(getClassNameFromFqn(opts.dateClassName()))
-                .withSchemaFormat(schema.format())
-                .withAddedNormalImport(opts.dateClassName());
+            typeInfo.name(getClassNameFromFqn(opts.dateClassName()))
+                .schemaFormat(schema.format())
+                .addNormalImport(opts.dateClassName());
             if (!typeInfo.nullable() && opts.addJakartaBeanValidationAnnotations()) {
                 AnnotationInfo notNullAnnotation = getNotNullAnnotation();
-                typeInfo = typeInfo.withAddedAnnotation(notNullAnnotation);
+                typeInfo.addAnnotation(notNullAnnotation);
             }
             Optional<String> maybeJsonFormat = schema.extensions().getString(EXT_JSON_FORMAT);
             if (maybeJsonFormat.isPresent()) {
                 AnnotationInfo jsonFormatAnnotation = getJsonFormatAnnotation(maybeJsonFormat.get());
-                typeInfo = typeInfo.withAddedAnnotation(jsonFormatAnnotation);
+                typeInfo.addAnnotation(jsonFormatAnnotation);
             }
         } else if ("date-time".equals(schema.format())) {
-            typeInfo = typeInfo.withName(getClassNameFromFqn(opts.dateTimeClassName()))
-                .withSchemaFormat(schema.format())
-                .withAddedNormalImport(opts.dateTimeClassName());
+            typeInfo.name(getClassNameFromFqn(opts.dateTimeClassName()))
+                .schemaFormat(schema.format())
+                .addNormalImport(opts.dateTimeClassName());
             if (!typeInfo.nullable() && opts.addJakartaBeanValidationAnnotations()) {
                 AnnotationInfo notNullAnnotation = getNotNullAnnotation();
-                typeInfo = typeInfo.withAddedAnnotation(notNullAnnotation);
+                typeInfo.addAnnotation(notNullAnnotation);
             }
             Optional<String> maybeJsonFormat = schema.extensions().getString(EXT_JSON_FORMAT);
             if (maybeJsonFormat.isPresent()) {
                 AnnotationInfo jsonFormatAnnotation = getJsonFormatAnnotation(maybeJsonFormat.get());
-                typeInfo = typeInfo.withAddedAnnotation(jsonFormatAnnotation);
+                typeInfo.addAnnotation(jsonFormatAnnotation);
             }
         } else if ("email".equals(schema.format())) {
-            typeInfo = typeInfo.withName("String")
-                .withSchemaFormat(schema.format());
+            typeInfo.name("String")
+                .schemaFormat(schema.format());
             if (opts.addJakartaBeanValidationAnnotations()) {
                 if (!typeInfo.nullable()) {
                     AnnotationInfo notBlankAnnotation = getNotBlankAnnotation();
-                    typeInfo = typeInfo.withAddedAnnotation(notBlankAnnotation);
+                    typeInfo.addAnnotation(notBlankAnnotation);
                 }
                 AnnotationInfo emailAnnotation = getEmailAnnotation();
-                typeInfo = typeInfo.withAddedAnnotation(emailAnnotation);
+                typeInfo.addAnnotation(emailAnnotation);
             }
         } else if ("binary".equals(schema.format())) {
-            typeInfo = typeInfo.withName("byte[]")
-                .withSchemaFormat(schema.format());
+            typeInfo.name("byte[]")
+                .schemaFormat(schema.format());
             if (opts.addJakartaBeanValidationAnnotations()) {
                 if (!typeInfo.nullable()) {
                     AnnotationInfo notEmptyAnnotation = getNotEmptyAnnotation();
-                    typeInfo = typeInfo.withAddedAnnotation(notEmptyAnnotation);
+                    typeInfo.addAnnotation(notEmptyAnnotation);
                 }
                 if (nonNull(schema.minItems()) || nonNull(schema.maxItems())) {
                     AnnotationInfo sizeAnnotaion = getArraySizeAnnotation(schema);
-                    typeInfo = typeInfo.withAddedAnnotation(sizeAnnotaion);
+                    typeInfo.addAnnotation(sizeAnnotaion);
                 }
             }
         } else {
-            typeInfo = typeInfo.withName("String")
-                .withSchemaFormat(schema.format());
+            typeInfo.name("String")
+                .schemaFormat(schema.format());
             if (opts.addJakartaBeanValidationAnnotations()) {
                 if (!typeInfo.nullable()) {
                     AnnotationInfo notBlankAnnotation = getNotBlankAnnotation();
-                    typeInfo = typeInfo.withAddedAnnotation(notBlankAnnotation);
+                    typeInfo.addAnnotation(notBlankAnnotation);
                 }
                 if (nonBlank(schema.pattern())) {
-                    typeInfo = typeInfo.withSchemaPattern(schema.pattern())
-                        .withAddedAnnotation(getPatternAnnotation(schema));
+                    typeInfo.schemaPattern(schema.pattern())
+                        .addAnnotation(getPatternAnnotation(schema));
                 }
                 if (nonNull(schema.minLength()) || nonNull(schema.maxLength())) {
-                    typeInfo = typeInfo
-                        .withSchemaMinLength(schema.minLength())
-                        .withSchemaMaxLength(schema.maxLength());
+                    typeInfo.schemaMinLength(schema.minLength())
+                        .schemaMaxLength(schema.maxLength());
                     AnnotationInfo sizeAnnotation = getStringSizeAnnotation(schema);
-                    typeInfo = typeInfo.withAddedAnnotation(sizeAnnotation);
+                    typeInfo.addAnnotation(sizeAnnotation);
                 }
             }
         }
-
-        return typeInfo;
     }
 
-    private TypeInfo populateJsonNumberType(TypeInfo typeInfo, JsonSchemaDef schema) {
-        if ("double".equals(schema.format())) {
-            typeInfo = typeInfo.withName("Double");
-        } else if ("float".equals(schema.format())) {
-            typeInfo = typeInfo.withName("Float");
+    private void populateJsonNumberType(TypeInfo.Builder typeInfo, JsonSchemaDef schema) {
+        Optional<String> maybeJavaType = getJavaTypeExtension(schema, NUMBER_JAVA_TYPES);
+        if (maybeJavaType.isPresent()) {
+            typeInfo.name(getPrimitiveOrWrapperType(typeInfo, maybeJavaType.get(), true));
+        } else if ("double".equals(schema.format()) || "float".equals(schema.format())) {
+            typeInfo.name(getPrimitiveOrWrapperType(typeInfo, schema.format(), false));
         } else {
-            typeInfo = typeInfo.withName("BigDecimal")
-                .withAddedNormalImport("java.math.BigDecimal");
+            typeInfo.name("BigDecimal")
+                .addNormalImport("java.math.BigDecimal");
         }
-        typeInfo = typeInfo.withSchemaFormat(schema.format());
+        typeInfo.schemaFormat(schema.format());
         if (opts.addJakartaBeanValidationAnnotations()) {
-            if (!typeInfo.nullable()) {
+            if (!typeInfo.nullable() && !isPrimitiveType(typeInfo.name())) {
                 AnnotationInfo notNullAnnotation = getNotNullAnnotation();
-                typeInfo = typeInfo.withAddedAnnotation(notNullAnnotation);
+                typeInfo.addAnnotation(notNullAnnotation);
             }
             if ("BigDecimal".equals(typeInfo.name())) {
                 if (nonNull(schema.minimum())) {
                     AnnotationInfo minAnnotation = getMinAnnotation(schema);
-                    typeInfo = typeInfo.withAddedAnnotation(minAnnotation);
+                    typeInfo.addAnnotation(minAnnotation);
                 }
                 if (nonNull(schema.maximum())) {
                     AnnotationInfo maxAnnotation = getMaxAnnotation(schema);
-                    typeInfo = typeInfo.withAddedAnnotation(maxAnnotation);
+                    typeInfo.addAnnotation(maxAnnotation);
                 }
             }
         }
-
-        return typeInfo;
     }
 
-    private TypeInfo populateJsonIntegerType(TypeInfo typeInfo, JsonSchemaDef schema) {
-        typeInfo = typeInfo.withName("int64".equals(schema.format()) ? "Long" :"Integer")
-            .withSchemaFormat(schema.format());
+    private void populateJsonIntegerType(TypeInfo.Builder typeInfo, JsonSchemaDef schema) {
+        Optional<String> maybeJavaType = getJavaTypeExtension(schema, INTEGER_JAVA_TYPES);
+        String typeName = getPrimitiveOrWrapperType(typeInfo, maybeJavaType.orElse("int64".equals(schema.format()) ? "long" : "int"), maybeJavaType.isPresent());
+        if (maybeJavaType.isEmpty() && isPrimitiveType(typeName)) {
+            typeName = getNarrowestIntegerType(schema, typeName);
+        }
+        typeInfo.name(typeName)
+            .schemaFormat(schema.format());
 
         if (opts.addJakartaBeanValidationAnnotations()) {
-            if (!typeInfo.nullable()) {
+            if (!typeInfo.nullable() && !isPrimitiveType(typeInfo.name())) {
                 AnnotationInfo notNullAnnotation = getNotNullAnnotation();
-                typeInfo = typeInfo.withAddedAnnotation(notNullAnnotation);
+                typeInfo.addAnnotation(notNullAnnotation);
             }
             if (nonNull(schema.minimum())) {
                 AnnotationInfo minAnnotation = getMinAnnotation(schema);
-                typeInfo = typeInfo.withAddedAnnotation(minAnnotation);
+                typeInfo.addAnnotation(minAnnotation);
             }
             if (nonNull(schema.maximum())) {
                 AnnotationInfo maxAnnotation = getMaxAnnotation(schema);
-                typeInfo = typeInfo.withAddedAnnotation(maxAnnotation);
+                typeInfo.addAnnotation(maxAnnotation);
             }
         }
-
-        return typeInfo;
     }
 
-    private TypeInfo populateJsonBooleanType(TypeInfo typeInfo) {
-        typeInfo = typeInfo.withName("Boolean");
-        if (!typeInfo.nullable() && opts.addJakartaBeanValidationAnnotations()) {
+    private void populateJsonBooleanType(TypeInfo.Builder typeInfo, JsonSchemaDef schema) {
+        Optional<String> maybeJavaType = getJavaTypeExtension(schema, BOOLEAN_JAVA_TYPES);
+        typeInfo.name(getPrimitiveOrWrapperType(typeInfo, "boolean", maybeJavaType.isPresent()));
+        if (!typeInfo.nullable() && !isPrimitiveType(typeInfo.name()) && opts.addJakartaBeanValidationAnnotations()) {
             AnnotationInfo notNullAnnotation = getNotNullAnnotation();
-            typeInfo = typeInfo.withAddedAnnotation(notNullAnnotation);
+            typeInfo.addAnnotation(notNullAnnotation);
         }
-
-        return typeInfo;
     }
 
-    private TypeInfo populateJsonArrayType(TypeInfo typeInfo, JsonSchemaDef schema) {
-        typeInfo = typeInfo.withPrimitive(false);
-        if (TRUE.equals(schema.uniqueItems())) {
-            typeInfo = typeInfo.withName("Set")
-                .withAddedNormalImport("java.util.Set");
+    private void populateJsonArrayType(TypeInfo.Builder typeInfo, JsonSchemaDef schema) {
+        typeInfo.primitive(false);
+        TypeInfo itemType = getContainedTypeInfo(schema.items());
+
+        Optional<String> maybePrimitiveArrayType = getPrimitiveArrayType(schema, itemType);
+        if (maybePrimitiveArrayType.isPresent()) {
+            // Constraints on the items cannot be expressed for primitive array elements
+            typeInfo.name(maybePrimitiveArrayType.get());
+        } else if (TRUE.equals(schema.uniqueItems())) {
+            typeInfo.name("Set")
+                .addNormalImport("java.util.Set");
         } else {
-            typeInfo = typeInfo.withName("List")
-                .withAddedNormalImport("java.util.List");
+            typeInfo.name("List")
+                .addNormalImport("java.util.List");
         }
 
-        if (opts.addJakartaBeanValidationAnnotations()) {
+        if (maybePrimitiveArrayType.isEmpty() && opts.addJakartaBeanValidationAnnotations()) {
             AnnotationInfo validAnnotation = getValidAnnotation();
-            typeInfo = typeInfo.withAddedAnnotation(validAnnotation);
+            typeInfo.addAnnotation(validAnnotation);
         }
 
-        TypeInfo itemType = getTypeInfo(schema.items());
-
         if (opts.addJakartaBeanValidationAnnotations()) {
             if (!typeInfo.nullable()) {
                 AnnotationInfo notNullAnnotation = getNotNullAnnotation();
-                typeInfo = typeInfo.withAddedAnnotation(notNullAnnotation);
+                typeInfo.addAnnotation(notNullAnnotation);
             }
             if (nonNull(schema.minItems()) || nonNull(schema.maxItems())) {
                 AnnotationInfo sizeAnnotation = getArraySizeAnnotation(schema);
-                typeInfo = typeInfo.withAddedAnnotation(sizeAnnotation);
+                typeInfo.addAnnotation(sizeAnnotation);
             }
         }
 
-        return typeInfo.withItemType(itemType);
+        if (maybePrimitiveArrayType.isEmpty()) {
+            typeInfo.itemType(itemType);
+        }
     }
 
-    private TypeInfo populateJsonMapType(TypeInfo typeInfo, JsonSchemaDef schema) {
-        typeInfo = typeInfo.withName("Map")
-            .withAddedNormalImport("java.util.Map");
+    /**
+     * Gets the primitive array type of an array of non-nullable numbers, if requested by extension or enabled by the
+     * usePrimitiveArrays option. Decimal numbers are only mapped by extension, as they would lose precision. Like
+     * the scalar types, integers and decimal numbers can only be mapped to integer and floating point arrays
+     * respectively.
+     */
+    private Optional<String> getPrimitiveArrayType(JsonSchemaDef schema, TypeInfo itemType) {
+        boolean numericItems = (PRIMITIVE_ARRAY_TYPES.containsKey(itemType.name()) || "BigDecimal".equals(itemType.name()))
+            && !itemType.nullable()
+            && !TRUE.equals(schema.uniqueItems())
+            && itemType.annotations().stream()
+                .map(AnnotationInfo::annotation)
+                .noneMatch(a -> a.startsWith("@JsonSerialize(") || a.startsWith("@JsonDeserialize("));
+
+        Optional<String> maybeJavaType = schema.extensions().getString(EXT_JAVA_TYPE);
+        if (maybeJavaType.isPresent()) {
+            Set<String> supportedTypes = isIntegerType(itemType.name()) ? INTEGER_ARRAY_JAVA_TYPES : NUMBER_ARRAY_JAVA_TYPES;
+            if (!numericItems || !supportedTypes.contains(maybeJavaType.get())) {
+                throw new IllegalStateException("Extension %s value '%s' not supported for schema: %s".formatted(EXT_JAVA_TYPE, maybeJavaType.get(), schema.toString()));
+            }
+            return maybeJavaType;
+        }
+
+        return numericItems && opts.usePrimitiveArrays() ? Optional.ofNullable(PRIMITIVE_ARRAY_TYPES.get(itemType.name())) : Optional.empty();
+    }
+
+    private static boolean isIntegerType(String typeName) {
+        return INTEGER_JAVA_TYPES.stream().map(WRAPPER_TYPES::get).anyMatch(typeName::equals);
+    }
+
+    private void populateJsonMapType(TypeInfo.Builder typeInfo, JsonSchemaDef schema) {
+        typeInfo.name("Map")
+            .addNormalImport("java.util.Map");
 
         if (opts.addJakartaBeanValidationAnnotations()) {
             AnnotationInfo validAnnotation = getValidAnnotation();
-            typeInfo = typeInfo.withAddedAnnotation(validAnnotation);
+            typeInfo.addAnnotation(validAnnotation);
         }
 
-        TypeInfo keyTypeInfo = new TypeInfo().withName("String");
+        TypeInfo.Builder keyTypeInfo = TypeInfo.builder().name("String");
         if (opts.addJakartaBeanValidationAnnotations()) {
             AnnotationInfo notBlankAnnotation = getNotBlankAnnotation();
-            keyTypeInfo = keyTypeInfo.withAddedAnnotation(notBlankAnnotation);
+            keyTypeInfo.addAnnotation(notBlankAnnotation);
         }
 
-        typeInfo = typeInfo.withKeyType(keyTypeInfo)
-            .withItemType(getTypeInfo((JsonSchemaDef)schema.additionalProperties()));
+        typeInfo.keyType(keyTypeInfo.build())
+            .itemType(getContainedTypeInfo((JsonSchemaDef)schema.additionalProperties()));
 
         if (opts.addJakartaBeanValidationAnnotations()) {
             if (!typeInfo.nullable()) {
                 AnnotationInfo notNullAnnotation = getNotNullAnnotation();
-                typeInfo = typeInfo.withAddedAnnotation(notNullAnnotation);
+                typeInfo.addAnnotation(notNullAnnotation);
             }
             if (nonNull(schema.minItems()) || nonNull(schema.maxItems())) {
                 AnnotationInfo sizeAnnotation = getArraySizeAnnotation(schema);
-                typeInfo = typeInfo.withAddedAnnotation(sizeAnnotation);
+                typeInfo.addAnnotation(sizeAnnotation);
             }
         }
+    }
+
+    private TypeInfo getContainedTypeInfo(JsonSchemaDef schema) {
+        containerDepth++;
+        try {
+            return getTypeInfo(schema);
+        } finally {
+            containerDepth--;
+        }
+    }
+
+    private Optional<String> getJavaTypeExtension(JsonSchemaDef schema, Set<String> supportedTypes) {
+        Optional<String> maybeJavaType = schema.extensions().getString(EXT_JAVA_TYPE);
+        if (maybeJavaType.isPresent() && !supportedTypes.contains(maybeJavaType.get())) {
+            throw new IllegalStateException("Extension %s value '%s' not supported for schema: %s".formatted(EXT_JAVA_TYPE, maybeJavaType.get(), schema.toString()));
+        }
+        return maybeJavaType;
+    }
+
+    /**
+     * Gets the primitive type if the value cannot be null and primitive types are enabled or requested by extension,
+     * else the wrapper type. Array items and map values always use the wrapper type.
+     */
+    private String getPrimitiveOrWrapperType(TypeInfo.Builder typeInfo, String primitiveType, boolean requested) {
+        boolean primitive = !typeInfo.nullable() && containerDepth == 0 && (requested || opts.usePrimitiveTypes());
+        return primitive ? primitiveType : WRAPPER_TYPES.get(primitiveType);
+    }
+
+    private String getNarrowestIntegerType(JsonSchemaDef schema, String primitiveType) {
+        if (isNull(schema.minimum()) || isNull(schema.maximum())) {
+            return primitiveType;
+        }
+        if (isInRange(schema, Byte.MIN_VALUE, Byte.MAX_VALUE)) {
+            return "byte";
+        }
+        if (isInRange(schema, Short.MIN_VALUE, Short.MAX_VALUE)) {
+            return "short";
+        }
+        return primitiveType;
+    }
+
+    private boolean isInRange(JsonSchemaDef schema, long min, long max) {
+        return schema.minimum().compareTo(BigDecimal.valueOf(min)) >= 0 && schema.maximum().compareTo(BigDecimal.valueOf(max)) <= 0;
+    }
 
-        return typeInfo;
+    private boolean isPrimitiveType(String typeName) {
+        return WRAPPER_TYPES.containsKey(typeName);
     }
 
     private boolean isNullable(JsonSchemaDef schema, NullabilityResolution resolution) {
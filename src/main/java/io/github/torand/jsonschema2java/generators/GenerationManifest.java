@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.generators;
+
+import io.github.torand.jsonschema2java.utils.JsonSchema2JavaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.torand.jsonschema2java.utils.HashUtils.sha256;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toCollection;
+
+/**
+ * Keeps track of the schema files processed by the previous run, to support incremental generation.
+ * The manifest holds a hash of each schema file (and any schema file referenced by it), the $ref edges between them,
+ * the source code files generated from each schema, and a fingerprint of the options used.
+ */
+public class GenerationManifest {
+    private static final Logger logger = LoggerFactory.getLogger(GenerationManifest.class);
+
+    /**
+     * Name of the manifest file, written to the root output directory.
+     */
+    public static final String MANIFEST_FILENAME = ".jsonschema2java-manifest.json";
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private final Path manifestFile;
+    private final String optionsFingerprint;
+    private final Map<Path, FileEntry> previousFiles;
+    private final Map<Path, List<Path>> previousOutputs;
+
+    private final Map<Path, FileState> currentStates = new ConcurrentHashMap<>();
+    private final Map<Path, Set<Path>> currentRefs = new ConcurrentHashMap<>();
+    private final Map<Path, List<Path>> currentOutputs = new ConcurrentHashMap<>();
+
+    private GenerationManifest(Path manifestFile, String optionsFingerprint, Map<Path, FileEntry> previousFiles, Map<Path, List<Path>> previousOutputs) {
+        this.manifestFile = manifestFile;
+        this.optionsFingerprint = optionsFingerprint;
+        this.previousFiles = previousFiles;
+        this.previousOutputs = previousOutputs;
+    }
+
+    /**
+     * Loads the manifest written by the previous run. If there is no manifest, or it was written using other options,
+     * an empty manifest is returned, making every schema file stale.
+     * @param opts the plugin options.
+     * @return the manifest.
+     */
+    public static GenerationManifest load(Options opts) {
+        Path manifestFile = Path.of(opts.outputDir(), MANIFEST_FILENAME);
+        String optionsFingerprint = opts.getFingerprint();
+
+        Map<Path, FileEntry> files = new HashMap<>();
+        Map<Path, List<Path>> outputs = new HashMap<>();
+
+        if (Files.isRegularFile(manifestFile)) {
+            try {
+                JsonNode root = MAPPER.readTree(manifestFile);
+                if (optionsFingerprint.equals(root.path("optionsFingerprint").asString(null))) {
+                    root.path("files").properties().forEach(e -> files.put(Path.of(e.getKey()), readFileEntry(e.getValue())));
+                    root.path("outputs").properties().forEach(e -> outputs.put(Path.of(e.getKey()), readPaths(e.getValue())));
+                } else if (opts.verbose()) {
+                    logger.info("Options changed since previous run, regenerating all source code files");
+                }
+            } catch (JacksonException e) {
+                logger.warn("Ignoring unreadable manifest file {}: {}", manifestFile, e.getMessage());
+            }
+        }
+
+        return new GenerationManifest(manifestFile, optionsFingerprint, files, outputs);
+    }
+
+    /**
+     * Gets the schema files that need to be (re)generated: schema files that are new or changed, schema files whose
+     * generated source code files are missing, and schema files referencing (transitively) a new or changed schema file.
+     * @param schemaFiles the schema files found.
+     * @return the stale schema files, in the order given.
+     */
+    public List<Path> getStaleSchemaFiles(List<Path> schemaFiles) {
+        Map<Path, Set<Path>> referencingFilesByFile = new HashMap<>();
+        previousFiles.forEach((file, entry) ->
+            entry.refs().forEach(ref -> referencingFilesByFile.computeIfAbsent(ref, r -> new HashSet<>()).add(file))
+        );
+
+        Deque<Path> pending = new ArrayDeque<>();
+        previousFiles.forEach((file, entry) -> {
+            if (!entry.matches(getCurrentState(file))) {
+                pending.add(file);
+            }
+        });
+
+        // Propagate changes to all files referencing a changed file, directly or transitively
+        Set<Path> changedFiles = new HashSet<>();
+        while (!pending.isEmpty()) {
+            Path file = pending.poll();
+            if (changedFiles.add(file)) {
+                pending.addAll(referencingFilesByFile.getOrDefault(file, Set.of()));
+            }
+        }
+
+        return schemaFiles.stream()
+            .filter(schemaFile -> {
+                Path normalizedFile = normalize(schemaFile);
+                return !previousFiles.containsKey(normalizedFile)
+                    || changedFiles.contains(normalizedFile)
+                    || isAnyOutputMissing(normalizedFile);
+            })
+            .toList();
+    }
+
+    /**
+     * Records the result of generating source code from a schema file.
+     * @param schemaFile the schema file.
+     * @param outputFiles the source code files generated.
+     * @param refsByFile the referenced schema files, by referencing schema file, for the schema file and all schema files referenced by it (transitively).
+     */
+    public void recordSchemaFile(Path schemaFile, List<Path> outputFiles, Map<Path, Set<Path>> refsByFile) {
+        currentOutputs.put(normalize(schemaFile), outputFiles.stream().map(GenerationManifest::normalize).toList());
+        refsByFile.forEach((file, refs) ->
+            currentRefs.put(normalize(file), refs.stream().map(GenerationManifest::normalize).collect(toCollection(TreeSet::new)))
+        );
+    }
+
+    /**
+     * Gets the source code files generated from a schema file, by this run or, if skipped, by the previous run.
+     * @param schemaFile the schema file.
+     * @return the source code files generated, or an empty list if the schema file is unknown.
+     */
+    public List<Path> getOutputFiles(Path schemaFile) {
+        Path normalizedFile = normalize(schemaFile);
+        return currentOutputs.getOrDefault(normalizedFile, previousOutputs.getOrDefault(normalizedFile, List.of()));
+    }
+
+    /**
+     * Gets the source code files generated by the previous run from schema files no longer found.
+     * Source code files also generated from a schema file still found are not included.
+     * @param schemaFiles all schema files found.
+     * @return the source code files of removed schema files.
+     */
+    public List<Path> getRemovedOutputFiles(List<Path> schemaFiles) {
+        Set<Path> normalizedSchemaFiles = schemaFiles.stream().map(GenerationManifest::normalize).collect(toCollection(HashSet::new));
+
+        Set<Path> keptOutputFiles = new HashSet<>();
+        normalizedSchemaFiles.forEach(schemaFile -> keptOutputFiles.addAll(getOutputFiles(schemaFile)));
+
+        return previousOutputs.entrySet().stream()
+            .filter(entry -> !normalizedSchemaFiles.contains(entry.getKey()))
+            .flatMap(entry -> entry.getValue().stream())
+            .filter(outputFile -> !keptOutputFiles.contains(outputFile))
+            .distinct()
+            .sorted()
+            .toList();
+    }
+
+    /**
+     * Writes the manifest to the root output directory.
+     * Entries of schema files skipped by this run are carried over from the previous manifest.
+     * @param schemaFiles all schema files found.
+     */
+    public void save(List<Path> schemaFiles) {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("optionsFingerprint", optionsFingerprint);
+
+        ObjectNode outputsNode = root.putObject("outputs");
+        ObjectNode filesNode = root.putObject("files");
+
+        Set<Path> visited = new TreeSet<>();
+        Deque<Path> pending = new ArrayDeque<>();
+
+        schemaFiles.stream().map(GenerationManifest::normalize).sorted().forEach(schemaFile -> {
+            List<Path> outputs = currentOutputs.getOrDefault(schemaFile, previousOutputs.get(schemaFile));
+            if (nonNull(outputs)) {
+                writePaths(outputsNode.putArray(schemaFile.toString()), outputs);
+                pending.add(schemaFile);
+            }
+        });
+
+        while (!pending.isEmpty()) {
+            Path file = pending.poll();
+            if (visited.add(file)) {
+                Set<Path> refs = getRefs(file);
+                FileState state = getCurrentState(file);
+                if (state != FileState.MISSING) {
+                    ObjectNode fileNode = filesNode.putObject(file.toString());
+                    fileNode.put("size", state.size());
+                    fileNode.put("lastModified", state.lastModified());
+                    fileNode.put("hash", state.hash());
+                    writePaths(fileNode.putArray("refs"), refs);
+                }
+                pending.addAll(refs);
+            }
+        }
+
+        try {
+            Files.createDirectories(manifestFile.getParent());
+            Files.writeString(manifestFile, MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(root));
+        } catch (IOException e) {
+            throw new JsonSchema2JavaException("Failed to write manifest file %s".formatted(manifestFile), e);
+        }
+    }
+
+    private boolean isAnyOutputMissing(Path schemaFile) {
+        List<Path> outputs = previousOutputs.get(schemaFile);
+        return isNull(outputs) || !outputs.stream().allMatch(Files::isRegularFile);
+    }
+
+    private Set<Path> getRefs(Path file) {
+        Set<Path> refs = currentRefs.get(file);
+        if (isNull(refs)) {
+            FileEntry previous = previousFiles.get(file);
+            refs = nonNull(previous) ? previous.refs() : Set.of();
+        }
+        return refs;
+    }
+
+    private FileState getCurrentState(Path file) {
+        return currentStates.computeIfAbsent(file, f -> {
+            if (!Files.isRegularFile(f)) {
+                return FileState.MISSING;
+            }
+
+            try {
+                long size = Files.size(f);
+                long lastModified = Files.getLastModifiedTime(f).toMillis();
+
+                // Avoid reading the file if size and modification time are unchanged since previous run
+                FileEntry previous = previousFiles.get(f);
+                if (nonNull(previous) && previous.size() == size && previous.lastModified() == lastModified) {
+                    return new FileState(size, lastModified, previous.hash());
+                }
+
+                return new FileState(size, lastModified, sha256(Files.readAllBytes(f)));
+            } catch (IOException e) {
+                throw new JsonSchema2JavaException("Failed to read schema file %s".formatted(f), e);
+            }
+        });
+    }
+
+    private static FileEntry readFileEntry(JsonNode node) {
+        return new FileEntry(
+            node.path("size").asLong(),
+            node.path("lastModified").asLong(),
+            node.path("hash").asString(null),
+            new TreeSet<>(readPaths(node.path("refs")))
+        );
+    }
+
+    private static List<Path> readPaths(JsonNode arrayNode) {
+        List<Path> paths = new ArrayList<>();
+        arrayNode.values().forEach(node -> paths.add(Path.of(node.asString())));
+        return paths;
+    }
+
+    private static void writePaths(ArrayNode arrayNode, Collection<Path> paths) {
+        paths.forEach(path -> arrayNode.add(path.toString()));
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    private record FileState(long size, long lastModified, String hash) {
+        static final FileState MISSING = new FileState(-1, -1, null);
+    }
+
+    private record FileEntry(long size, long lastModified, String hash, Set<Path> refs) {
+        boolean matches(FileState state) {
+            return nonNull(hash) && hash.equals(state.hash());
+        }
+    }
+}
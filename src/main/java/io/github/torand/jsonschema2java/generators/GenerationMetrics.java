@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.generators;
+
+import io.github.torand.jsonschema2java.utils.JsonSchema2JavaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Records the time spent in each stage of the generation, in total and per schema file, along with the number of
+ * files and bytes written. Stage times are summed over all worker threads, so with parallel generation they may
+ * exceed the elapsed time.
+ */
+public class GenerationMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(GenerationMetrics.class);
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    /**
+     * Stage of the generation.
+     */
+    public enum Stage {
+        DISCOVERY, VALIDATION, LOADING, RESOLUTION, COLLECTION, WRITING;
+
+        String label() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final long startTime = System.nanoTime();
+    private final Map<Stage, LongAdder> stageNanos = new EnumMap<>(Stage.class);
+    private final Map<Path, SchemaMetrics> schemaMetrics = new ConcurrentHashMap<>();
+
+    public GenerationMetrics() {
+        for (Stage stage : Stage.values()) {
+            stageNanos.put(stage, new LongAdder());
+        }
+    }
+
+    /**
+     * Adds time spent in specified stage.
+     * @param stage the stage.
+     * @param nanos the time spent, in nanoseconds.
+     */
+    public void addStageTime(Stage stage, long nanos) {
+        stageNanos.get(stage).add(nanos);
+    }
+
+    /**
+     * Gets the metrics of specified schema file, creating them on first access.
+     * @param schemaFile the schema file.
+     * @return the schema file metrics.
+     */
+    public SchemaMetrics getSchemaMetrics(Path schemaFile) {
+        return schemaMetrics.computeIfAbsent(schemaFile.toAbsolutePath().normalize(), SchemaMetrics::new);
+    }
+
+    /**
+     * Metrics of a single schema file. Loading, collection and writing times are added to the stage totals as well.
+     */
+    public final class SchemaMetrics {
+        private final Path schemaFile;
+        private final LongAdder loadNanos = new LongAdder();
+        private final LongAdder collectNanos = new LongAdder();
+        private final LongAdder writeNanos = new LongAdder();
+        private final LongAdder bytesWritten = new LongAdder();
+        private final LongAdder filesWritten = new LongAdder();
+        private final LongAdder filesSkipped = new LongAdder();
+
+        private SchemaMetrics(Path schemaFile) {
+            this.schemaFile = schemaFile;
+        }
+
+        public void addLoadTime(long nanos) {
+            loadNanos.add(nanos);
+            addStageTime(Stage.LOADING, nanos);
+        }
+
+        /**
+         * Adds time spent collecting information, including resolving referenced schemas.
+         * @param nanos the time spent, in nanoseconds.
+         */
+        public void addCollectTime(long nanos) {
+            collectNanos.add(nanos);
+            addStageTime(Stage.COLLECTION, nanos);
+        }
+
+        public void addWriteTime(long nanos) {
+            writeNanos.add(nanos);
+            addStageTime(Stage.WRITING, nanos);
+        }
+
+        /**
+         * Records a generated source code file being closed.
+         * @param written true if the file was written; false if it was left untouched since its content was unchanged.
+         * @param size the size of the file content, in bytes.
+         */
+        public void fileClosed(boolean written, long size) {
+            if (written) {
+                filesWritten.increment();
+                bytesWritten.add(size);
+            } else {
+                filesSkipped.increment();
+            }
+        }
+
+        long totalNanos() {
+            return loadNanos.sum() + collectNanos.sum() + writeNanos.sum();
+        }
+    }
+
+    /**
+     * Logs the specified number of schema files taking the longest time to generate.
+     * @param count the number of schema files to log.
+     */
+    public void logSlowestSchemas(int count) {
+        List<SchemaMetrics> slowest = getSchemaMetricsByTotalTime().stream().limit(count).toList();
+        if (slowest.isEmpty()) {
+            return;
+        }
+
+        logger.info("Slowest schema{}:", slowest.size() == 1 ? "" : "s");
+        logger.info(String.format("%10s %10s %10s %10s  %s", "total ms", "load ms", "collect ms", "write ms", "schema"));
+        slowest.forEach(metrics -> logger.info(String.format("%10.1f %10.1f %10.1f %10.1f  %s",
+            toMillis(metrics.totalNanos()), toMillis(metrics.loadNanos.sum()), toMillis(metrics.collectNanos.sum()), toMillis(metrics.writeNanos.sum()), metrics.schemaFile.getFileName())));
+    }
+
+    /**
+     * Writes the metrics to specified file, in JSON format.
+     * @param reportFile the report file.
+     * @param resolutionNanos the time spent resolving referenced schemas, included in the collection time.
+     */
+    public void writeReport(Path reportFile, long resolutionNanos) {
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("elapsedMillis", toMillis(elapsedNanos));
+        root.put("schemaCount", schemaMetrics.size());
+
+        long bytesWritten = sum(metrics -> metrics.bytesWritten);
+        root.put("filesWritten", sum(metrics -> metrics.filesWritten));
+        root.put("filesSkipped", sum(metrics -> metrics.filesSkipped));
+        root.put("bytesWritten", bytesWritten);
+
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        ObjectNode throughputNode = root.putObject("throughput");
+        throughputNode.put("schemasPerSecond", round(schemaMetrics.size() / elapsedSeconds));
+        throughputNode.put("bytesPerSecond", round(bytesWritten / elapsedSeconds));
+
+        ObjectNode stagesNode = root.putObject("stageMillis");
+        for (Stage stage : Stage.values()) {
+            long nanos = stageNanos.get(stage).sum();
+            if (stage == Stage.RESOLUTION) {
+                nanos = resolutionNanos;
+            } else if (stage == Stage.COLLECTION) {
+                nanos = Math.max(0, nanos - resolutionNanos);
+            }
+            stagesNode.put(stage.label(), toMillis(nanos));
+        }
+
+        ArrayNode schemasNode = root.putArray("schemas");
+        getSchemaMetricsByTotalTime().forEach(metrics -> {
+            ObjectNode schemaNode = schemasNode.addObject();
+            schemaNode.put("file", metrics.schemaFile.toString());
+            schemaNode.put("totalMillis", toMillis(metrics.totalNanos()));
+            schemaNode.put("loadMillis", toMillis(metrics.loadNanos.sum()));
+            schemaNode.put("collectMillis", toMillis(metrics.collectNanos.sum()));
+            schemaNode.put("writeMillis", toMillis(metrics.writeNanos.sum()));
+            schemaNode.put("filesWritten", metrics.filesWritten.sum());
+            schemaNode.put("filesSkipped", metrics.filesSkipped.sum());
+            schemaNode.put("bytesWritten", metrics.bytesWritten.sum());
+        });
+
+        try {
+            if (nonNull(reportFile.getParent())) {
+                Files.createDirectories(reportFile.getParent());
+            }
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), root);
+        } catch (IOException | JacksonException e) {
+            throw new JsonSchema2JavaException("Failed to write metrics report %s".formatted(reportFile), e);
+        }
+    }
+
+    private List<SchemaMetrics> getSchemaMetricsByTotalTime() {
+        return schemaMetrics.values().stream()
+            .sorted(Comparator.comparingLong(SchemaMetrics::totalNanos).reversed())
+            .toList();
+    }
+
+    private long sum(Function<SchemaMetrics, LongAdder> field) {
+        return schemaMetrics.values().stream().mapToLong(metrics -> field.apply(metrics).sum()).sum();
+    }
+
+    private static double toMillis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
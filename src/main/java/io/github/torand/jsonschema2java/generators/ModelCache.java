@@ -0,0 +1,496 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.generators;
+
+import io.github.torand.jsonschema2java.collectors.SchemaSourceCache;
+import io.github.torand.jsonschema2java.model.AnnotationInfo;
+import io.github.torand.jsonschema2java.model.EnumInfo;
+import io.github.torand.jsonschema2java.model.ImportInfo;
+import io.github.torand.jsonschema2java.model.PojoInfo;
+import io.github.torand.jsonschema2java.model.PropertyInfo;
+import io.github.torand.jsonschema2java.model.TypeInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.github.torand.jsonschema2java.utils.HashUtils.sha256;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Persists the pojo and enum information collected from schema files in a compact binary format, so source code files
+ * can be written without parsing and resolving schema files again, even after a clean build or on a fresh checkout.
+ * <p>
+ * Collected information is keyed by a hash of the generator version, the cache format version, the options affecting
+ * the generated code, and the path (relative to the search root directory) and content hash of the schema file and all
+ * schema files referenced by it (transitively). The $ref URIs of each schema file are cached by content hash, so the
+ * dependency graph can be built without parsing either.
+ * </p>
+ */
+public class ModelCache {
+    private static final Logger logger = LoggerFactory.getLogger(ModelCache.class);
+
+    /**
+     * Version of the binary format. Must be incremented when the format, the model classes or the way cached
+     * information is collected change.
+     */
+    static final int FORMAT_VERSION = 2;
+
+    private static final int MAGIC = 0x4A533243; // "JS2C"
+    private static final String GENERATOR_VERSION = readGeneratorVersion();
+
+    private final Path modelDir;
+    private final Path refsDir;
+    private final Path searchRootDir;
+    private final String keyPrefix;
+    private final SchemaSourceCache sourceCache;
+
+    /**
+     * Constructs a {@link ModelCache} object.
+     * @param cacheDir the cache directory.
+     * @param opts the plugin options.
+     * @param sourceCache the schema source cache, providing the content hashes of schema files.
+     */
+    public ModelCache(Path cacheDir, Options opts, SchemaSourceCache sourceCache) {
+        this.modelDir = cacheDir.resolve("model");
+        this.refsDir = cacheDir.resolve("refs");
+        this.searchRootDir = Path.of(opts.searchRootDir()).toAbsolutePath().normalize();
+        this.sourceCache = sourceCache;
+
+        // Absolute directories vary between checkouts, and do not affect the collected information
+        String portableFingerprint = opts.withSearchRootDir(null).withOutputDir(null).getFingerprint();
+        this.keyPrefix = "%s\n%d\n%s".formatted(GENERATOR_VERSION, FORMAT_VERSION, portableFingerprint);
+    }
+
+    /**
+     * Gets the cache key of the information collected from specified schema file.
+     * @param schemaFile the schema file.
+     * @param dependencyGraph the dependency graph, covering at least the specified schema file.
+     * @return the cache key.
+     */
+    public String getKey(Path schemaFile, SchemaDependencyGraph dependencyGraph) {
+        StringBuilder key = new StringBuilder(keyPrefix);
+        new TreeSet<>(dependencyGraph.getReachableRefs(schemaFile).keySet()).forEach(file ->
+            key.append('\n').append(toPortablePath(file)).append('=').append(sourceCache.getContentHash(file))
+        );
+
+        return sha256(key.toString());
+    }
+
+    /**
+     * Gets the information collected from a schema file, if cached.
+     * @param key the cache key.
+     * @return the collected information, if cached.
+     */
+    public Optional<Model> get(String key) {
+        return read(modelDir.resolve(key + ".bin"), ModelCache::readModel);
+    }
+
+    /**
+     * Caches the information collected from a schema file.
+     * @param key the cache key.
+     * @param model the collected information.
+     */
+    public void put(String key, Model model) {
+        write(modelDir.resolve(key + ".bin"), out -> writeModel(out, model));
+    }
+
+    /**
+     * Gets the $ref URIs of a schema file, if cached.
+     * @param contentHash the content hash of the schema file.
+     * @return the $ref URIs, if cached.
+     */
+    public Optional<Set<URI>> getRefs(String contentHash) {
+        return read(refsDir.resolve(contentHash + ".bin"), in -> {
+            Set<URI> refs = new LinkedHashSet<>();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                refs.add(URI.create(in.readString()));
+            }
+            return refs;
+        });
+    }
+
+    /**
+     * Caches the $ref URIs of a schema file.
+     * @param contentHash the content hash of the schema file.
+     * @param refs the $ref URIs.
+     */
+    public void putRefs(String contentHash, Set<URI> refs) {
+        write(refsDir.resolve(contentHash + ".bin"), out -> {
+            out.writeInt(refs.size());
+            for (URI ref : refs) {
+                out.writeString(ref.toString());
+            }
+        });
+    }
+
+    private String toPortablePath(Path file) {
+        return file.startsWith(searchRootDir) ? searchRootDir.relativize(file).toString().replace('\\', '/') : file.toString();
+    }
+
+    private static <T> Optional<T> read(Path cacheFile, Decoder<T> decoder) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return Optional.empty();
+        }
+
+        try (ModelInput in = new ModelInput(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            return Optional.of(decoder.read(in));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable model cache file {}: {}", cacheFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static void write(Path cacheFile, Encoder encoder) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(cacheFile.getParent());
+
+            // Written to a temporary file first, so concurrent builds never read a partially written file
+            tempFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+            try (ModelOutput out = new ModelOutput(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                encoder.write(out);
+            }
+
+            try {
+                Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // The cache is an optimization only, so failing to write it must not fail the build
+            logger.warn("Failed to write model cache file {}: {}", cacheFile, e.getMessage());
+        } finally {
+            // Gone if moved into place, otherwise left over from a failed write
+            if (nonNull(tempFile)) {
+                deleteTempFile(tempFile);
+            }
+        }
+    }
+
+    private static void deleteTempFile(Path tempFile) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            logger.warn("Failed to delete temporary model cache file {}: {}", tempFile, e.getMessage());
+        }
+    }
+
+    private static Model readModel(ModelInput in) throws IOException {
+        EnumInfo enumInfo = in.readBoolean() ? readEnumInfo(in) : null;
+        PojoInfo pojoInfo = in.readBoolean() ? readPojoInfo(in) : null;
+        return new Model(enumInfo, pojoInfo);
+    }
+
+    private static void writeModel(ModelOutput out, Model model) throws IOException {
+        out.writeBoolean(nonNull(model.enumInfo()));
+        if (nonNull(model.enumInfo())) {
+            writeEnumInfo(out, model.enumInfo());
+        }
+        out.writeBoolean(nonNull(model.pojoInfo()));
+        if (nonNull(model.pojoInfo())) {
+            writePojoInfo(out, model.pojoInfo());
+        }
+    }
+
+    private static EnumInfo readEnumInfo(ModelInput in) throws IOException {
+        return new EnumInfo(
+            in.readString(),
+            in.readStrings(),
+            in.readString(),
+            in.readString(),
+            readList(in, ModelCache::readAnnotationInfo)
+        );
+    }
+
+    private static void writeEnumInfo(ModelOutput out, EnumInfo enumInfo) throws IOException {
+        out.writeString(enumInfo.name());
+        out.writeStrings(enumInfo.constants());
+        out.writeString(enumInfo.modelSubdir());
+        out.writeString(enumInfo.modelSubpackage());
+        writeList(out, enumInfo.annotations(), ModelCache::writeAnnotationInfo);
+    }
+
+    private static PojoInfo readPojoInfo(ModelInput in) throws IOException {
+        return new PojoInfo(
+            in.readString(),
+            in.readString(),
+            in.readString(),
+            readList(in, ModelCache::readAnnotationInfo),
+            readList(in, ModelCache::readPropertyInfo),
+            in.readString()
+        );
+    }
+
+    private static void writePojoInfo(ModelOutput out, PojoInfo pojoInfo) throws IOException {
+        out.writeString(pojoInfo.name());
+        out.writeString(pojoInfo.modelSubdir());
+        out.writeString(pojoInfo.modelSubpackage());
+        writeList(out, pojoInfo.annotations(), ModelCache::writeAnnotationInfo);
+        writeList(out, pojoInfo.properties(), ModelCache::writePropertyInfo);
+        out.writeString(pojoInfo.deprecationMessage());
+    }
+
+    private static PropertyInfo readPropertyInfo(ModelInput in) throws IOException {
+        return new PropertyInfo(
+            in.readString(),
+            readTypeInfo(in),
+            in.readBoolean(),
+            readList(in, ModelCache::readAnnotationInfo),
+            in.readString()
+        );
+    }
+
+    private static void writePropertyInfo(ModelOutput out, PropertyInfo propertyInfo) throws IOException {
+        out.writeString(propertyInfo.name());
+        writeTypeInfo(out, propertyInfo.type());
+        out.writeBoolean(propertyInfo.required());
+        writeList(out, propertyInfo.annotations(), ModelCache::writeAnnotationInfo);
+        out.writeString(propertyInfo.deprecationMessage());
+    }
+
+    private static TypeInfo readTypeInfo(ModelInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+
+        return new TypeInfo(
+            in.readString(),
+            in.readString(),
+            in.readBoolean(),
+            readTypeInfo(in),
+            in.readBoolean(),
+            readTypeInfo(in),
+            in.readString(),
+            in.readString(),
+            in.readInteger(),
+            in.readInteger(),
+            readList(in, ModelCache::readAnnotationInfo),
+            readImportInfo(in)
+        );
+    }
+
+    private static void writeTypeInfo(ModelOutput out, TypeInfo typeInfo) throws IOException {
+        out.writeBoolean(nonNull(typeInfo));
+        if (isNull(typeInfo)) {
+            return;
+        }
+
+        out.writeString(typeInfo.name());
+        out.writeString(typeInfo.description());
+        out.writeBoolean(typeInfo.nullable());
+        writeTypeInfo(out, typeInfo.keyType());
+        out.writeBoolean(typeInfo.primitive());
+        writeTypeInfo(out, typeInfo.itemType());
+        out.writeString(typeInfo.schemaFormat());
+        out.writeString(typeInfo.schemaPattern());
+        out.writeInteger(typeInfo.schemaMinLength());
+        out.writeInteger(typeInfo.schemaMaxLength());
+        writeList(out, typeInfo.annotations(), ModelCache::writeAnnotationInfo);
+        writeImportInfo(out, typeInfo.imports());
+    }
+
+    private static AnnotationInfo readAnnotationInfo(ModelInput in) throws IOException {
+        return new AnnotationInfo(in.readString(), readImportInfo(in));
+    }
+
+    private static void writeAnnotationInfo(ModelOutput out, AnnotationInfo annotationInfo) throws IOException {
+        out.writeString(annotationInfo.annotation());
+        writeImportInfo(out, annotationInfo.imports());
+    }
+
+    private static ImportInfo readImportInfo(ModelInput in) throws IOException {
+        List<String> normalImports = in.readStrings();
+        List<String> staticImports = in.readStrings();
+        return normalImports.isEmpty() && staticImports.isEmpty() ? ImportInfo.empty() : new ImportInfo(new HashSet<>(normalImports), new HashSet<>(staticImports));
+    }
+
+    private static void writeImportInfo(ModelOutput out, ImportInfo importInfo) throws IOException {
+        out.writeStrings(importInfo.normalImports());
+        out.writeStrings(importInfo.staticImports());
+    }
+
+    private static <T> List<T> readList(ModelInput in, Decoder<T> decoder) throws IOException {
+        int size = in.readInt();
+        List<T> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(decoder.read(in));
+        }
+        return items;
+    }
+
+    private static <T> void writeList(ModelOutput out, List<T> items, ItemEncoder<T> encoder) throws IOException {
+        out.writeInt(items.size());
+        for (T item : items) {
+            encoder.write(out, item);
+        }
+    }
+
+    private static String readGeneratorVersion() {
+        try (InputStream in = ModelCache.class.getResourceAsStream("/META-INF/maven/io.github.torand/jsonschema2java/pom.properties")) {
+            if (nonNull(in)) {
+                Properties properties = new Properties();
+                properties.load(in);
+                return properties.getProperty("version", "unknown");
+            }
+        } catch (IOException e) {
+            // Fall through
+        }
+        return "unknown";
+    }
+
+    /**
+     * The information collected from a schema file.
+     * @param enumInfo the enum information, or null if the schema is not an enum.
+     * @param pojoInfo the pojo information, or null if the schema is not a class.
+     */
+    public record Model(EnumInfo enumInfo, PojoInfo pojoInfo) {
+    }
+
+    @FunctionalInterface
+    private interface Decoder<T> {
+        T read(ModelInput in) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        void write(ModelOutput out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ItemEncoder<T> {
+        void write(ModelOutput out, T item) throws IOException;
+    }
+
+    /**
+     * Binary output writing each distinct string once, referring to it by index on subsequent occurrences.
+     */
+    private static class ModelOutput extends DataOutputStream {
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+
+        ModelOutput(OutputStream out) {
+            super(out);
+        }
+
+        void writeString(String value) throws IOException {
+            if (isNull(value)) {
+                writeInt(-1);
+                return;
+            }
+
+            Integer index = stringIndexes.get(value);
+            if (nonNull(index)) {
+                writeInt(index);
+                return;
+            }
+
+            stringIndexes.put(value, stringIndexes.size());
+            writeInt(stringIndexes.size() - 1);
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            write(bytes);
+        }
+
+        void writeStrings(Collection<String> values) throws IOException {
+            writeInt(values.size());
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        void writeInteger(Integer value) throws IOException {
+            writeBoolean(nonNull(value));
+            if (nonNull(value)) {
+                writeInt(value);
+            }
+        }
+    }
+
+    /**
+     * Binary input reading strings written by {@link ModelOutput}.
+     */
+    private static class ModelInput extends DataInputStream {
+        private final List<String> strings = new ArrayList<>();
+
+        ModelInput(InputStream in) {
+            super(in);
+        }
+
+        String readString() throws IOException {
+            int index = readInt();
+            if (index == -1) {
+                return null;
+            }
+
+            if (index < strings.size()) {
+                return strings.get(index);
+            }
+
+            if (index != strings.size()) {
+                throw new IOException("Invalid string index %d".formatted(index));
+            }
+
+            byte[] bytes = new byte[readInt()];
+            readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(value);
+            return value;
+        }
+
+        List<String> readStrings() throws IOException {
+            int size = readInt();
+            List<String> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(readString());
+            }
+            return values;
+        }
+
+        Integer readInteger() throws IOException {
+            return readBoolean() ? readInt() : null;
+        }
+    }
+}
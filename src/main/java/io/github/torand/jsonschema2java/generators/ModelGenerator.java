@@ -18,88 +18,581 @@ package io.github.torand.jsonschema2java.generators;
 import io.github.torand.jsonschema2java.collectors.EnumInfoCollector;
 import io.github.torand.jsonschema2java.collectors.PojoInfoCollector;
 import io.github.torand.jsonschema2java.collectors.SchemaResolver;
+import io.github.torand.jsonschema2java.collectors.SchemaSourceCache;
+import io.github.torand.jsonschema2java.collectors.SharedSchemaCache;
 import io.github.torand.jsonschema2java.model.EnumInfo;
 import io.github.torand.jsonschema2java.model.PojoInfo;
 import io.github.torand.jsonschema2java.utils.JsonSchema2JavaException;
 import io.github.torand.jsonschema2java.utils.JsonSchemaDef;
 import io.github.torand.jsonschema2java.writers.EnumWriter;
+import io.github.torand.jsonschema2java.writers.FileWriteListener;
+import io.github.torand.jsonschema2java.writers.JacksonModuleWriter;
+import io.github.torand.jsonschema2java.writers.JsonDeserializerWriter;
+import io.github.torand.jsonschema2java.writers.JsonSerializerWriter;
+import io.github.torand.jsonschema2java.writers.ValidationExceptionWriter;
+import io.github.torand.jsonschema2java.writers.ValidatorWriter;
 import io.github.torand.jsonschema2java.writers.PojoWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static io.github.torand.jsonschema2java.utils.HashUtils.sha256;
 import static io.github.torand.jsonschema2java.utils.StringUtils.pluralSuffix;
 import static io.github.torand.jsonschema2java.writers.WriterFactory.createEnumWriter;
+import static io.github.torand.jsonschema2java.writers.WriterFactory.createJacksonModuleWriter;
+import static io.github.torand.jsonschema2java.writers.WriterFactory.createJsonDeserializerWriter;
+import static io.github.torand.jsonschema2java.writers.WriterFactory.createJsonSerializerWriter;
+import static io.github.torand.jsonschema2java.writers.WriterFactory.createValidationExceptionWriter;
+import static io.github.torand.jsonschema2java.writers.WriterFactory.createValidatorWriter;
 import static io.github.torand.jsonschema2java.writers.WriterFactory.createPojoWriter;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 /**
  * Generates source code for models (pojos).
  */
 public class ModelGenerator {
     private static final Logger logger = LoggerFactory.getLogger(ModelGenerator.class);
+    private static final int SLOWEST_SCHEMAS_LOGGED = 10;
 
     private final Options opts;
     private final SchemaResolver schemaResolver;
+    private GenerationMetrics metrics;
+    private boolean metricsUsed;
+    private final SharedSchemaCache sharedCache;
+    private final String optionsFingerprint;
+    private final ModelCache modelCache;
+    private final AtomicInteger unchangedFileCount = new AtomicInteger();
+    private final AtomicInteger cachedModelCount = new AtomicInteger();
+    private final Map<Path, String> jacksonPojoClassNames = new ConcurrentHashMap<>();
 
     public ModelGenerator(Options opts) {
+        this(opts, new SchemaSourceCache(opts));
+    }
+
+    /**
+     * Constructs a {@link ModelGenerator} object reading schema files through specified cache.
+     * @param opts the plugin options.
+     * @param sourceCache the schema source cache, possibly shared with the schema validator.
+     */
+    public ModelGenerator(Options opts, SchemaSourceCache sourceCache) {
+        this(opts, new SchemaResolver(opts, sourceCache));
+    }
+
+    /**
+     * Constructs a {@link ModelGenerator} object resolving schemas through specified resolver.
+     * @param opts the plugin options.
+     * @param schemaResolver the schema resolver, possibly kept between generations.
+     */
+    public ModelGenerator(Options opts, SchemaResolver schemaResolver) {
+        this(opts, schemaResolver, new GenerationMetrics());
+    }
+
+    /**
+     * Constructs a {@link ModelGenerator} object resolving schemas through specified resolver, and recording timing
+     * and output sizes in specified metrics.
+     * @param opts the plugin options.
+     * @param schemaResolver the schema resolver, possibly kept between generations.
+     * @param metrics the generation metrics, possibly holding the times of earlier stages (discovery and validation).
+     */
+    public ModelGenerator(Options opts, SchemaResolver schemaResolver, GenerationMetrics metrics) {
         this.opts = opts;
-        this.schemaResolver = new SchemaResolver(opts);
+        this.schemaResolver = schemaResolver;
+        this.metrics = metrics;
+        this.sharedCache = schemaResolver.getSourceCache().getSharedCache();
+        this.optionsFingerprint = opts.getFingerprint();
+        this.modelCache = nonNull(opts.modelCacheDir()) ? new ModelCache(Path.of(opts.modelCacheDir()), opts, schemaResolver.getSourceCache()) : null;
     }
 
     public void generate(List<Path> schemaFiles) {
-        int enumCount = 0;
-        int pojoCount = 0;
+        generate(schemaFiles, opts.incremental() ? GenerationManifest.load(opts) : null);
+    }
+
+    /**
+     * Generates source code for specified schema files, tracking the generated source code files in specified manifest.
+     * In incremental mode only stale schema files are generated. Source code files generated by the previous run from
+     * schema files no longer found are deleted.
+     * @param schemaFiles all schema files found.
+     * @param manifest the manifest of the previous run, or null if not tracked.
+     */
+    public void generate(List<Path> schemaFiles, GenerationManifest manifest) {
+        // Each run reports its own metrics, since the generator may be reused (e.g. by the watch goal).
+        // The metrics given to the constructor may hold the times of earlier stages, so are used by the first run.
+        if (metricsUsed) {
+            metrics = new GenerationMetrics();
+        }
+        metricsUsed = true;
+        long resolutionNanosBefore = schemaResolver.getResolutionNanos();
 
-        for (Path schemaFile : schemaFiles) {
-            JsonSchemaDef schema = schemaResolver.load(schemaFile);
-            String pojoName = schema.getName() + opts.pojoNameSuffix();
+        List<Path> staleSchemaFiles = nonNull(manifest) && opts.incremental() ? manifest.getStaleSchemaFiles(schemaFiles) : schemaFiles;
 
-            if (schema.isEnum()) {
-                generateEnumFile(pojoName, schema);
-                enumCount++;
+        if (nonNull(manifest)) {
+            deleteRemovedOutputFiles(schemaFiles, manifest);
+        }
+
+        // Incremental runs only need the part of the graph reachable from stale schemas, unless the full graph is exported
+        SchemaDependencyGraph dependencyGraph = needsDependencyGraph(manifest)
+            ? SchemaDependencyGraph.build(nonNull(opts.dependencyGraphFile()) ? schemaFiles : staleSchemaFiles, schemaResolver, modelCache)
+            : null;
+
+        if (nonNull(opts.dependencyGraphFile())) {
+            dependencyGraph.export(Path.of(opts.dependencyGraphFile()));
+            logger.info("Exported dependency graph of {} schema{} to {}", dependencyGraph.size(), pluralSuffix(dependencyGraph.size()), opts.dependencyGraphFile());
+        }
+
+        generate(staleSchemaFiles, dependencyGraph, manifest);
+        generateJacksonModule(schemaFiles, manifest);
+        generateValidationException();
+
+        if (nonNull(manifest)) {
+            manifest.save(schemaFiles);
+
+            int skippedCount = schemaFiles.size() - staleSchemaFiles.size();
+            if (skippedCount > 0) {
+                logger.info("Skipped {} unchanged schema{}", skippedCount, pluralSuffix(skippedCount));
             }
+        }
 
-            if (schema.isClass()) {
-                generatePojoFile(pojoName, schema);
-                pojoCount++;
+        if (nonNull(opts.metricsReportFile())) {
+            metrics.writeReport(Path.of(opts.metricsReportFile()), schemaResolver.getResolutionNanos() - resolutionNanosBefore);
+            metrics.logSlowestSchemas(SLOWEST_SCHEMAS_LOGGED);
+            logger.info("Wrote metrics report to {}", opts.metricsReportFile());
+        }
+    }
+
+    /**
+     * Generates source code for specified schema files, regardless of incremental mode.
+     * @param schemaFiles the schema files.
+     * @param dependencyGraph the dependency graph, covering at least the specified schema files, or null to build it
+     *                        only if needed.
+     */
+    public void generate(List<Path> schemaFiles, SchemaDependencyGraph dependencyGraph) {
+        generate(schemaFiles, dependencyGraph, null);
+    }
+
+    /**
+     * Deletes the source code files generated by the previous run from schema files no longer found.
+     * @param schemaFiles all schema files found.
+     * @param manifest the manifest of the previous run.
+     */
+    public void deleteRemovedOutputFiles(List<Path> schemaFiles, GenerationManifest manifest) {
+        List<Path> removedOutputFiles = manifest.getRemovedOutputFiles(schemaFiles);
+        for (Path outputFile : removedOutputFiles) {
+            try {
+                Files.deleteIfExists(outputFile);
+            } catch (IOException e) {
+                throw new JsonSchema2JavaException("Failed to delete file %s".formatted(outputFile), e);
             }
         }
 
-        logger.info("Generated {} enum{}, {} pojo{} in directory {}", enumCount, pluralSuffix(enumCount), pojoCount, pluralSuffix(pojoCount), opts.getModelOutputDir(null));
+        if (!removedOutputFiles.isEmpty()) {
+            logger.info("Deleted {} file{} generated from removed schemas", removedOutputFiles.size(), pluralSuffix(removedOutputFiles.size()));
+        }
     }
 
-    private void generateEnumFile(String name, JsonSchemaDef schema) {
-        if (opts.verbose()) {
-            logger.info("Generating model enum {}", name);
+    /**
+     * Generates the Jackson module registering the serializers and deserializers of the pojos generated from specified
+     * schema files, if serializers or deserializers are enabled.
+     * @param schemaFiles all schema files found.
+     */
+    public void generateJacksonModule(List<Path> schemaFiles) {
+        generateJacksonModule(schemaFiles, null);
+    }
+
+    /**
+     * Generates the Jackson module registering the serializers and deserializers of the pojos generated from specified
+     * schema files, if serializers or deserializers are enabled. Pojos of schema files not generated by this generator
+     * are looked up in specified manifest.
+     * @param schemaFiles all schema files found.
+     * @param manifest the manifest, or null if not tracked.
+     */
+    public void generateJacksonModule(List<Path> schemaFiles, GenerationManifest manifest) {
+        if (!opts.generateJsonSerializers() && !opts.generateJsonDeserializers()) {
+            return;
+        }
+        if (opts.useKotlinSyntax()) {
+            logger.warn("Jackson serializers and deserializers are generated for Java only, ignoring options generateJsonSerializers and generateJsonDeserializers");
+            return;
+        }
+
+        List<String> pojoClassNames = new ArrayList<>();
+        schemaFiles.forEach(schemaFile -> {
+            String pojoClassName = jacksonPojoClassNames.get(schemaFile.toAbsolutePath().normalize());
+            // Schema files skipped in incremental mode are known only by the source code generated in a previous run
+            if (isNull(pojoClassName) && nonNull(manifest)) {
+                pojoClassName = manifest.getOutputFiles(schemaFile).stream()
+                    .map(this::getJacksonPojoClassName)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElse(null);
+            }
+            if (nonNull(pojoClassName)) {
+                pojoClassNames.add(pojoClassName);
+            }
+        });
+
+        String moduleFilename = JacksonModuleWriter.CLASS_NAME + opts.getFileExtension();
+        try (JacksonModuleWriter moduleWriter = createJacksonModuleWriter(moduleFilename, opts, FileWriteListener.NONE)) {
+            moduleWriter.write(pojoClassNames);
+        } catch (IOException e) {
+            throw new JsonSchema2JavaException("Failed to write file %s".formatted(moduleFilename), e);
+        }
+
+        logger.info("Generated Jackson module for {} pojo{}", pojoClassNames.size(), pluralSuffix(pojoClassNames.size()));
+    }
+
+    private void generateValidationException() {
+        if (!opts.generateValidators()) {
+            return;
+        }
+        if (opts.useKotlinSyntax()) {
+            logger.warn("Validators are generated for Java only, ignoring option generateValidators");
+            return;
+        }
+
+        String exceptionFilename = ValidationExceptionWriter.CLASS_NAME + opts.getFileExtension();
+        try (ValidationExceptionWriter exceptionWriter = createValidationExceptionWriter(exceptionFilename, opts, FileWriteListener.NONE)) {
+            exceptionWriter.write();
+        } catch (IOException e) {
+            throw new JsonSchema2JavaException("Failed to write file %s".formatted(exceptionFilename), e);
+        }
+    }
+
+    /**
+     * Gets the fully qualified name of the pojo of a generated serializer or deserializer file, or null if the file is neither.
+     */
+    private String getJacksonPojoClassName(Path outputFile) {
+        String filename = outputFile.getFileName().toString();
+        String suffix = Stream.of(JsonSerializerWriter.CLASS_NAME_SUFFIX, JsonDeserializerWriter.CLASS_NAME_SUFFIX)
+            .map(classNameSuffix -> classNameSuffix + opts.getFileExtension())
+            .filter(filename::endsWith)
+            .findFirst()
+            .orElse(null);
+        if (isNull(suffix)) {
+            return null;
+        }
+
+        Path outputDir = Path.of(opts.outputDir()).toAbsolutePath().normalize();
+        String relativeName = outputDir.relativize(outputFile.toAbsolutePath().normalize()).toString();
+        return opts.rootPackage() + "." + relativeName.substring(0, relativeName.length() - suffix.length()).replace(outputFile.getFileSystem().getSeparator(), ".");
+    }
+
+    /**
+     * Generates source code for specified schema files, regardless of incremental mode, recording the generated source
+     * code files in specified manifest.
+     * @param schemaFiles the schema files.
+     * @param dependencyGraph the dependency graph, covering at least the specified schema files, or null to build it
+     *                        only if needed.
+     * @param manifest the manifest, or null if not tracked.
+     */
+    public void generate(List<Path> schemaFiles, SchemaDependencyGraph dependencyGraph, GenerationManifest manifest) {
+        AtomicInteger enumCount = new AtomicInteger();
+        AtomicInteger pojoCount = new AtomicInteger();
+        unchangedFileCount.set(0);
+        cachedModelCount.set(0);
+
+        if (isNull(dependencyGraph) && needsDependencyGraph(manifest)) {
+            dependencyGraph = SchemaDependencyGraph.build(schemaFiles, schemaResolver, modelCache);
+        }
+
+        List<Path> orderedSchemaFiles = schemaFiles;
+        if (nonNull(dependencyGraph)) {
+            SchemaDependencyGraph graph = dependencyGraph;
+            graph.getCycles().forEach(cycle ->
+                logger.warn("Schema reference cycle: {}", graph.formatCycle(cycle))
+            );
+
+            // Referenced schemas first, so shared types are resolved once before the schemas referring to them
+            orderedSchemaFiles = graph.getGenerationOrder(schemaFiles);
+        }
+
+        // With a bounded schema cache, schemas are released as soon as no schema left to generate depends on them
+        Map<Path, AtomicInteger> pendingUses = opts.maxCachedSchemas() > 0 ? countPendingUses(orderedSchemaFiles, dependencyGraph) : null;
+
+        SchemaDependencyGraph graph = dependencyGraph;
+        Consumer<Path> schemaFileGenerator = schemaFile -> {
+            generateModelFile(schemaFile, graph, manifest, enumCount, pojoCount);
+            if (nonNull(pendingUses)) {
+                releaseUnusedSchemas(schemaFile, graph, pendingUses);
+            }
+        };
+
+        int workerCount = Math.min(opts.getWorkerCount(), orderedSchemaFiles.size());
+        if (workerCount > 1) {
+            generateInParallel(orderedSchemaFiles, workerCount, dependencyGraph, schemaFileGenerator);
+        } else {
+            orderedSchemaFiles.forEach(schemaFileGenerator);
+        }
+
+        logger.info("Generated {} enum{}, {} pojo{} in directory {}", enumCount.get(), pluralSuffix(enumCount.get()), pojoCount.get(), pluralSuffix(pojoCount.get()), opts.getModelOutputDir(null));
+
+        int unchangedCount = unchangedFileCount.get();
+        if (unchangedCount > 0) {
+            logger.info("Skipped writing {} unchanged file{}", unchangedCount, pluralSuffix(unchangedCount));
+        }
+
+        int cachedCount = cachedModelCount.get();
+        if (cachedCount > 0) {
+            logger.info("Read model of {} unchanged schema{} from cache", cachedCount, pluralSuffix(cachedCount));
+        }
+    }
+
+    private void generateInParallel(List<Path> schemaFiles, int workerCount, SchemaDependencyGraph dependencyGraph, Consumer<Path> schemaFileGenerator) {
+        // Referenced schemas first, and within each level the largest schemas first,
+        // to avoid a single large schema being processed last while other workers are idle
+        Comparator<Path> largestFirst = Comparator.comparingLong(ModelGenerator::getFileSize).reversed();
+        List<Path> orderedSchemaFiles = schemaFiles.stream()
+            .sorted(nonNull(dependencyGraph) ? Comparator.comparingInt(dependencyGraph::getLevel).thenComparing(largestFirst) : largestFirst)
+            .toList();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            orderedSchemaFiles.forEach(schemaFile ->
+                futures.add(executor.submit(() -> schemaFileGenerator.accept(schemaFile)))
+            );
+
+            for (Future<?> future : futures) {
+                awaitCompletion(future);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns whether the dependency graph is needed: to track references in the manifest, to export it, to release
+     * schemas from a bounded cache, or to key cached models. Other runs avoid reading all referenced schemas up front.
+     */
+    private boolean needsDependencyGraph(GenerationManifest manifest) {
+        return nonNull(manifest) || nonNull(opts.dependencyGraphFile()) || opts.maxCachedSchemas() > 0 || nonNull(modelCache) || nonNull(sharedCache);
+    }
+
+    private static Map<Path, AtomicInteger> countPendingUses(List<Path> schemaFiles, SchemaDependencyGraph dependencyGraph) {
+        Map<Path, AtomicInteger> pendingUses = new ConcurrentHashMap<>();
+        schemaFiles.forEach(schemaFile ->
+            dependencyGraph.getReachableRefs(schemaFile).keySet().forEach(usedFile ->
+                pendingUses.computeIfAbsent(usedFile, k -> new AtomicInteger()).incrementAndGet()
+            )
+        );
+        return pendingUses;
+    }
+
+    private void releaseUnusedSchemas(Path schemaFile, SchemaDependencyGraph dependencyGraph, Map<Path, AtomicInteger> pendingUses) {
+        dependencyGraph.getReachableRefs(schemaFile).keySet().forEach(usedFile -> {
+            AtomicInteger uses = pendingUses.get(usedFile);
+            if (nonNull(uses) && uses.decrementAndGet() == 0) {
+                schemaResolver.invalidate(usedFile);
+            }
+        });
+    }
+
+    private void generateModelFile(Path schemaFile, SchemaDependencyGraph dependencyGraph, GenerationManifest manifest, AtomicInteger enumCount, AtomicInteger pojoCount) {
+        GenerationMetrics.SchemaMetrics schemaMetrics = metrics.getSchemaMetrics(schemaFile);
+
+        String modelCacheKey = nonNull(modelCache) ? modelCache.getKey(schemaFile, dependencyGraph) : null;
+        ModelCache.Model model = nonNull(modelCacheKey) ? modelCache.get(modelCacheKey).orElse(null) : null;
+        if (nonNull(model)) {
+            cachedModelCount.incrementAndGet();
+        } else {
+            model = collectModel(schemaFile, dependencyGraph, schemaMetrics);
+            if (nonNull(modelCacheKey)) {
+                modelCache.put(modelCacheKey, model);
+            }
+        }
+
+        List<Path> outputFiles = new ArrayList<>();
+
+        if (nonNull(model.enumInfo())) {
+            outputFiles.add(writeEnumFile(model.enumInfo(), schemaMetrics));
+            enumCount.incrementAndGet();
+        }
+
+        if (nonNull(model.pojoInfo())) {
+            outputFiles.add(writePojoFile(model.pojoInfo(), schemaMetrics));
+            pojoCount.incrementAndGet();
+        }
+
+        Path normalizedSchemaFile = schemaFile.toAbsolutePath().normalize();
+        if (nonNull(model.pojoInfo()) && (opts.generateJsonSerializers() || opts.generateJsonDeserializers()) && !opts.useKotlinSyntax()) {
+            if (opts.generateJsonSerializers()) {
+                outputFiles.add(writeJsonSerializerFile(model.pojoInfo(), schemaMetrics));
+            }
+            if (opts.generateJsonDeserializers()) {
+                outputFiles.add(writeJsonDeserializerFile(model.pojoInfo(), schemaMetrics));
+            }
+            jacksonPojoClassNames.put(normalizedSchemaFile, opts.getModelPackage(model.pojoInfo().modelSubpackage()) + "." + model.pojoInfo().name());
+        } else {
+            jacksonPojoClassNames.remove(normalizedSchemaFile);
+        }
+
+        if (nonNull(model.pojoInfo()) && opts.generateValidators() && !opts.useKotlinSyntax()) {
+            outputFiles.add(writeValidatorFile(model.pojoInfo(), schemaMetrics));
+        }
+
+        if (nonNull(manifest)) {
+            manifest.recordSchemaFile(schemaFile, outputFiles, dependencyGraph.getReachableRefs(schemaFile));
+        }
+    }
+
+    private ModelCache.Model collectModel(Path schemaFile, SchemaDependencyGraph dependencyGraph, GenerationMetrics.SchemaMetrics schemaMetrics) {
+        long startTime = System.nanoTime();
+        JsonSchemaDef schema = schemaResolver.load(schemaFile);
+        schemaMetrics.addLoadTime(System.nanoTime() - startTime);
+
+        String name = schema.getName() + opts.pojoNameSuffix();
+        String sharedCacheKey = nonNull(sharedCache) ? getSharedCacheKey(schemaFile, dependencyGraph) : null;
+
+        startTime = System.nanoTime();
+        EnumInfo enumInfo = schema.isEnum() ? collectEnumInfo(name, schema, schemaFile, sharedCacheKey) : null;
+        PojoInfo pojoInfo = schema.isClass() ? collectPojoInfo(name, schema, schemaFile, sharedCacheKey) : null;
+        schemaMetrics.addCollectTime(System.nanoTime() - startTime);
+
+        return new ModelCache.Model(enumInfo, pojoInfo);
+    }
+
+    /**
+     * Gets the key of the collected information of specified schema file in the shared cache: a hash of the options
+     * and the contents of the schema file and all schema files referenced by it (transitively).
+     */
+    private String getSharedCacheKey(Path schemaFile, SchemaDependencyGraph dependencyGraph) {
+        SchemaSourceCache sourceCache = schemaResolver.getSourceCache();
+
+        StringBuilder key = new StringBuilder(optionsFingerprint);
+        new TreeSet<>(dependencyGraph.getReachableRefs(schemaFile).keySet()).forEach(file ->
+            key.append('\n').append(file).append('=').append(sourceCache.getContentHash(file))
+        );
+
+        return sha256(key.toString());
+    }
+
+    private static void awaitCompletion(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JsonSchema2JavaException("Interrupted while generating source code", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new JsonSchema2JavaException(e.getCause());
         }
+    }
+
+    private FileWriteListener createFileWriteListener(GenerationMetrics.SchemaMetrics schemaMetrics) {
+        return (file, written, size) -> {
+            if (!written) {
+                unchangedFileCount.incrementAndGet();
+            }
+            schemaMetrics.fileClosed(written, size);
+        };
+    }
+
+    private static long getFileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
 
+    private EnumInfo collectEnumInfo(String name, JsonSchemaDef schema, Path schemaFile, String sharedCacheKey) {
         EnumInfoCollector enumInfoCollector = new EnumInfoCollector(opts);
-        EnumInfo enumInfo = enumInfoCollector.getEnumInfo(name, schema);
+        return nonNull(sharedCacheKey)
+            ? sharedCache.getEnumInfo(schemaFile, sharedCacheKey, () -> enumInfoCollector.getEnumInfo(name, schema))
+            : enumInfoCollector.getEnumInfo(name, schema);
+    }
 
-        String enumFilename = name + opts.getFileExtension();
-        try (EnumWriter enumWriter = createEnumWriter(enumFilename, opts, enumInfo.modelSubdir())) {
+    private PojoInfo collectPojoInfo(String name, JsonSchemaDef schema, Path schemaFile, String sharedCacheKey) {
+        PojoInfoCollector pojoInfoCollector = new PojoInfoCollector(opts, schemaResolver);
+        return nonNull(sharedCacheKey)
+            ? sharedCache.getPojoInfo(schemaFile, sharedCacheKey, () -> pojoInfoCollector.getPojoInfo(name, schema))
+            : pojoInfoCollector.getPojoInfo(name, schema);
+    }
+
+    private Path writeEnumFile(EnumInfo enumInfo, GenerationMetrics.SchemaMetrics schemaMetrics) {
+        if (opts.verbose()) {
+            logger.info("Generating model enum {}", enumInfo.name());
+        }
+
+        long startTime = System.nanoTime();
+        String enumFilename = enumInfo.name() + opts.getFileExtension();
+        try (EnumWriter enumWriter = createEnumWriter(enumFilename, opts, enumInfo.modelSubdir(), createFileWriteListener(schemaMetrics))) {
             enumWriter.write(enumInfo);
         } catch (IOException e) {
             throw new JsonSchema2JavaException("Failed to write file %s".formatted(enumFilename), e);
         }
+        schemaMetrics.addWriteTime(System.nanoTime() - startTime);
+
+        return Path.of(opts.getModelOutputDir(enumInfo.modelSubdir()), enumFilename);
     }
 
-    private void generatePojoFile(String name, JsonSchemaDef schema) {
+    private Path writePojoFile(PojoInfo pojoInfo, GenerationMetrics.SchemaMetrics schemaMetrics) {
         if (opts.verbose()) {
-            logger.info("Generating model class {}", name);
+            logger.info("Generating model class {}", pojoInfo.name());
         }
 
-        PojoInfoCollector pojoInfoCollector = new PojoInfoCollector(opts, schemaResolver);
-        PojoInfo pojoInfo = pojoInfoCollector.getPojoInfo(name, schema);
-
-        String pojoFilename = name + opts.getFileExtension();
-        try (PojoWriter pojoWriter = createPojoWriter(pojoFilename, opts, pojoInfo.modelSubdir())) {
+        long startTime = System.nanoTime();
+        String pojoFilename = pojoInfo.name() + opts.getFileExtension();
+        try (PojoWriter pojoWriter = createPojoWriter(pojoFilename, opts, pojoInfo.modelSubdir(), createFileWriteListener(schemaMetrics))) {
             pojoWriter.write(pojoInfo);
         } catch (IOException e) {
             throw new JsonSchema2JavaException("Failed to write file %s".formatted(pojoFilename), e);
         }
+        schemaMetrics.addWriteTime(System.nanoTime() - startTime);
+
+        return Path.of(opts.getModelOutputDir(pojoInfo.modelSubdir()), pojoFilename);
+    }
+
+    private Path writeJsonSerializerFile(PojoInfo pojoInfo, GenerationMetrics.SchemaMetrics schemaMetrics) {
+        long startTime = System.nanoTime();
+        String serializerFilename = pojoInfo.name() + JsonSerializerWriter.CLASS_NAME_SUFFIX + opts.getFileExtension();
+        try (JsonSerializerWriter serializerWriter = createJsonSerializerWriter(serializerFilename, opts, pojoInfo.modelSubdir(), createFileWriteListener(schemaMetrics))) {
+            serializerWriter.write(pojoInfo);
+        } catch (IOException e) {
+            throw new JsonSchema2JavaException("Failed to write file %s".formatted(serializerFilename), e);
+        }
+        schemaMetrics.addWriteTime(System.nanoTime() - startTime);
+
+        return Path.of(opts.getModelOutputDir(pojoInfo.modelSubdir()), serializerFilename);
+    }
+
+    private Path writeJsonDeserializerFile(PojoInfo pojoInfo, GenerationMetrics.SchemaMetrics schemaMetrics) {
+        long startTime = System.nanoTime();
+        String deserializerFilename = pojoInfo.name() + JsonDeserializerWriter.CLASS_NAME_SUFFIX + opts.getFileExtension();
+        try (JsonDeserializerWriter deserializerWriter = createJsonDeserializerWriter(deserializerFilename, opts, pojoInfo.modelSubdir(), createFileWriteListener(schemaMetrics))) {
+            deserializerWriter.write(pojoInfo);
+        } catch (IOException e) {
+            throw new JsonSchema2JavaException("Failed to write file %s".formatted(deserializerFilename), e);
+        }
+        schemaMetrics.addWriteTime(System.nanoTime() - startTime);
+
+        return Path.of(opts.getModelOutputDir(pojoInfo.modelSubdir()), deserializerFilename);
+    }
+
+    private Path writeValidatorFile(PojoInfo pojoInfo, GenerationMetrics.SchemaMetrics schemaMetrics) {
+        long startTime = System.nanoTime();
+        String validatorFilename = pojoInfo.name() + ValidatorWriter.CLASS_NAME_SUFFIX + opts.getFileExtension();
+        try (ValidatorWriter validatorWriter = createValidatorWriter(validatorFilename, opts, pojoInfo.modelSubdir(), createFileWriteListener(schemaMetrics))) {
+            validatorWriter.write(pojoInfo);
+        } catch (IOException e) {
+            throw new JsonSchema2JavaException("Failed to write file %s".formatted(validatorFilename), e);
+        }
+        schemaMetrics.addWriteTime(System.nanoTime() - startTime);
+
+        return Path.of(opts.getModelOutputDir(pojoInfo.modelSubdir()), validatorFilename);
     }
 }
@@ -18,6 +18,7 @@ package io.github.torand.jsonschema2java.generators;
 import java.net.URI;
 
 import static io.github.torand.javacommons.lang.StringHelper.isBlank;
+import static io.github.torand.jsonschema2java.utils.HashUtils.sha256;
 
 /**
  * Contains configuration of the source code generators.
@@ -37,6 +38,19 @@ import static io.github.torand.javacommons.lang.StringHelper.isBlank;
  * @param indentWithTab the flag to output indents with the tab character.
  * @param indentSize the number of spaces for each indent level, when not using the tab character.
  * @param verbose the flag to enable verbose logging.
+ * @param parallelism the number of worker threads generating source code files, or 0 to use one worker per available processor.
+ * @param incremental the flag to regenerate only source code files of new or changed schemas, and schemas referencing them.
+ * @param skipUnchangedFiles the flag to leave generated files untouched when their content is unchanged, preserving their last modified time.
+ * @param dependencyGraphFile the file to export the schema dependency graph to, in DOT format if ending with .dot or .gv, otherwise in JSON format. Not exported if null.
+ * @param metricsReportFile the file to write a JSON report of generation times and output sizes to. Not written if null.
+ * @param maxCachedSchemas the maximum number of parsed and resolved schemas kept in memory, evicting the least recently used and releasing schemas no longer referenced by schemas left to generate, or 0 for no limit.
+ * @param shareSchemaCache whether to share parsed schemas, validation results and collected pojo and enum information with other plugin executions in the same JVM, such as other modules of a reactor build and subsequent Maven daemon builds. Ignored if 'maxCachedSchemas' is set.
+ * @param modelCacheDir the directory to cache the collected model in, in a binary format, so source code files are written without parsing schema files that are unchanged since cached. Not cached if null.
+ * @param generateJsonSerializers whether to generate a reflection-free Jackson serializer for each pojo, and a Jackson module registering them. Java only.
+ * @param generateJsonDeserializers whether to generate a reflection-free Jackson deserializer for each pojo, registered by the generated Jackson module. Java only.
+ * @param generateValidators whether to generate a reflection-free validator for each pojo, checking the constraints of its Jakarta Bean Validation annotations. Java only.
+ * @param usePrimitiveTypes whether to use primitive types for integer, number and boolean properties that cannot be null, narrowing integers to short or byte when their minimum and maximum fit.
+ * @param usePrimitiveArrays whether to map arrays of non-nullable integers and float/double numbers without unique items to primitive arrays, e.g. int[]. The equals, hashCode and toString methods of records and Kotlin data classes do not look at the array elements.
  */
 public record Options (
     String searchRootDir,
@@ -54,7 +68,20 @@ public record Options (
     boolean useKotlinSyntax,
     boolean indentWithTab,
     int indentSize,
-    boolean verbose
+    boolean verbose,
+    int parallelism,
+    boolean incremental,
+    boolean skipUnchangedFiles,
+    String dependencyGraphFile,
+    String metricsReportFile,
+    int maxCachedSchemas,
+    boolean shareSchemaCache,
+    String modelCacheDir,
+    boolean generateJsonSerializers,
+    boolean generateJsonDeserializers,
+    boolean generateValidators,
+    boolean usePrimitiveTypes,
+    boolean usePrimitiveArrays
  ) {
     /**
      * Returns the default settings.
@@ -77,11 +104,24 @@ public record Options (
             false,
             false,
             4,
+            false,
+            1,
+            false,
+            true,
+            null,
+            null,
+            0,
+            false,
+            null,
+            false,
+            false,
+            false,
+            false,
             false
         );
     }
 
-    private Options with(String searchRootDir, String outputDir, URI schemaIdRootUri, String rootPackage, boolean pojosAsRecords, String durationClassName, String dateTimeClassName, boolean addMpOpenApiAnnotations, boolean addJsonPropertyAnnotations, boolean useKotlinSyntax, boolean verbose) {
+    private Options with(String searchRootDir, String outputDir, URI schemaIdRootUri, String rootPackage, boolean pojosAsRecords, String durationClassName, String dateTimeClassName, boolean addMpOpenApiAnnotations, boolean addJsonPropertyAnnotations, boolean useKotlinSyntax, boolean verbose, int parallelism, boolean incremental, boolean skipUnchangedFiles, String dependencyGraphFile, String metricsReportFile, int maxCachedSchemas, boolean shareSchemaCache, String modelCacheDir, boolean generateJsonSerializers, boolean generateJsonDeserializers, boolean generateValidators, boolean usePrimitiveTypes, boolean usePrimitiveArrays) {
         return new Options(
             searchRootDir,
             outputDir,
@@ -98,7 +138,20 @@ public record Options (
             useKotlinSyntax,
             this.indentWithTab,
             this.indentSize,
-            verbose
+            verbose,
+            parallelism,
+            incremental,
+            skipUnchangedFiles,
+            dependencyGraphFile,
+            metricsReportFile,
+            maxCachedSchemas,
+            shareSchemaCache,
+            modelCacheDir,
+            generateJsonSerializers,
+            generateJsonDeserializers,
+            generateValidators,
+            usePrimitiveTypes,
+            usePrimitiveArrays
         );
     }
 
@@ -108,7 +161,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withSearchRootDir(String searchRootDir) {
-        return with(searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose);
+        return with(searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
     }
 
     /**
@@ -117,7 +170,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withOutputDir(String outputDir) {
-        return with(this.searchRootDir, outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose);
+        return with(this.searchRootDir, outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
     }
 
     /**
@@ -126,7 +179,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withSchemaIdRootUri(URI schemaIdRootUri) {
-        return with(this.searchRootDir, this.outputDir, schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose);
+        return with(this.searchRootDir, this.outputDir, schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
     }
 
     /**
@@ -135,7 +188,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withRootPackage(String rootPackage) {
-        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose);
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
     }
 
     /**
@@ -144,7 +197,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withPojosAsRecords(boolean pojosAsRecords) {
-        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose);
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
     }
 
     /**
@@ -153,7 +206,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withDurationClassName(String durationClassName) {
-        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose);
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
     }
 
     /**
@@ -162,7 +215,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withDateTimeClassName(String dateTimeClassName) {
-        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose);
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
     }
 
     /**
@@ -171,7 +224,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withAddMpOpenApiAnnotations(boolean addMpOpenApiAnnotations) {
-        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose);
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
     }
 
     /**
@@ -180,7 +233,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withAddJsonPropertyAnnotations(boolean addJsonPropertyAnnotations) {
-        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose);
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
     }
 
     /**
@@ -189,7 +242,7 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withUseKotlinSyntax(boolean useKotlinSyntax) {
-        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, useKotlinSyntax, this.verbose);
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
     }
 
     /**
@@ -198,7 +251,124 @@ public record Options (
      * @return the new and updated {@link Options} object.
      */
     public Options withVerbose(boolean verbose) {
-        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, verbose);
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified parallelism.
+     * @param parallelism the number of worker threads, or 0 to use one worker per available processor.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withParallelism(int parallelism) {
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified incremental flag.
+     * @param incremental the incremental flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withIncremental(boolean incremental) {
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified skip unchanged files flag.
+     * @param skipUnchangedFiles the skip unchanged files flag.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withSkipUnchangedFiles(boolean skipUnchangedFiles) {
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified dependency graph file.
+     * @param dependencyGraphFile the dependency graph file.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withDependencyGraphFile(String dependencyGraphFile) {
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified metrics report file.
+     * @param metricsReportFile the metrics report file.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withMetricsReportFile(String metricsReportFile) {
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified maximum number of cached schemas.
+     * @param maxCachedSchemas the maximum number of cached schemas.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withMaxCachedSchemas(int maxCachedSchemas) {
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified schema cache sharing setting.
+     * @param shareSchemaCache whether to share the schema cache with other plugin executions in the same JVM.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withShareSchemaCache(boolean shareSchemaCache) {
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified model cache directory.
+     * @param modelCacheDir the model cache directory.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withModelCacheDir(String modelCacheDir) {
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified JSON serializers generation setting.
+     * @param generateJsonSerializers whether to generate Jackson serializers.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withGenerateJsonSerializers(boolean generateJsonSerializers) {
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified JSON deserializers generation setting.
+     * @param generateJsonDeserializers whether to generate Jackson deserializers.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withGenerateJsonDeserializers(boolean generateJsonDeserializers) {
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified flag for generating validators.
+     * @param generateValidators whether to generate validators.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withGenerateValidators(boolean generateValidators) {
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, generateValidators, this.usePrimitiveTypes, this.usePrimitiveArrays);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified flag for using primitive types.
+     * @param usePrimitiveTypes whether to use primitive types.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withUsePrimitiveTypes(boolean usePrimitiveTypes) {
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, usePrimitiveTypes, this.usePrimitiveArrays);
+    }
+
+    /**
+     * Returns a new {@link Options} object with specified flag for using primitive arrays.
+     * @param usePrimitiveArrays whether to use primitive arrays.
+     * @return the new and updated {@link Options} object.
+     */
+    public Options withUsePrimitiveArrays(boolean usePrimitiveArrays) {
+        return with(this.searchRootDir, this.outputDir, this.schemaIdRootUri, this.rootPackage, this.pojosAsRecords, this.durationClassName, this.dateTimeClassName, this.addMpOpenApiAnnotations, this.addJsonPropertyAnnotations, this.useKotlinSyntax, this.verbose, this.parallelism, this.incremental, this.skipUnchangedFiles, this.dependencyGraphFile, this.metricsReportFile, this.maxCachedSchemas, this.shareSchemaCache, this.modelCacheDir, this.generateJsonSerializers, this.generateJsonDeserializers, this.generateValidators, this.usePrimitiveTypes, usePrimitiveArrays);
     }
 
     /**
@@ -226,4 +396,20 @@ public record Options (
     public String getFileExtension() {
         return useKotlinSyntax ? ".kt" : ".java";
     }
+
+    /**
+     * Gets a fingerprint of the settings affecting the generated source code.
+     * @return the fingerprint.
+     */
+    public String getFingerprint() {
+        return sha256(withVerbose(false).withParallelism(1).withIncremental(false).withSkipUnchangedFiles(true).withDependencyGraphFile(null).withMetricsReportFile(null).withMaxCachedSchemas(0).withShareSchemaCache(true).withModelCacheDir(null).toString());
+    }
+
+    /**
+     * Gets the effective number of worker threads generating source code files.
+     * @return the number of worker threads.
+     */
+    public int getWorkerCount() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
 }
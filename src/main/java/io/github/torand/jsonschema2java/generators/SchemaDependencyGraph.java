@@ -0,0 +1,447 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.generators;
+
+import io.github.torand.jsonschema2java.collectors.SchemaResolver;
+import io.github.torand.jsonschema2java.utils.JsonSchema2JavaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Graph of the $ref dependencies between schema files.
+ * Each node is a schema file, and each edge goes from a schema file to a schema file referenced by it.
+ * The graph is used to schedule generation (referenced schemas first), to detect reference cycles, and
+ * can be exported in DOT or JSON format to find the most referenced schemas.
+ */
+public class SchemaDependencyGraph {
+    private static final Logger logger = LoggerFactory.getLogger(SchemaDependencyGraph.class);
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private final Map<Path, String> names;
+    private final Map<Path, Set<Path>> refsByFile;
+    private final Map<Path, Set<Path>> dependentsByFile = new HashMap<>();
+    private final Map<Path, Integer> levels;
+    private final List<List<Path>> cycles;
+
+    /**
+     * Constructs a {@link SchemaDependencyGraph} object from specified schema files and their references.
+     * Levels and cycles are computed up front, so the graph is immutable and may be shared between worker threads.
+     * @param names the schema names by schema file.
+     * @param refsByFile the referenced schema files by schema file, covering all schema files.
+     */
+    SchemaDependencyGraph(Map<Path, String> names, Map<Path, Set<Path>> refsByFile) {
+        this.names = names;
+        this.refsByFile = refsByFile;
+        refsByFile.forEach((schemaFile, refs) ->
+            refs.forEach(refFile -> dependentsByFile.computeIfAbsent(refFile, k -> new LinkedHashSet<>()).add(schemaFile))
+        );
+        this.levels = computeLevels();
+        this.cycles = new CycleFinder().find();
+    }
+
+    /**
+     * Builds the dependency graph of specified schema files, including any schema file referenced by them.
+     * @param schemaFiles the schema files.
+     * @param schemaResolver the schema resolver.
+     * @return the dependency graph.
+     */
+    public static SchemaDependencyGraph build(List<Path> schemaFiles, SchemaResolver schemaResolver) {
+        return build(schemaFiles, schemaResolver, null);
+    }
+
+    /**
+     * Builds the dependency graph of specified schema files, including any schema file referenced by them,
+     * reading the $ref URIs of unchanged schema files from specified model cache instead of parsing them.
+     * @param schemaFiles the schema files.
+     * @param schemaResolver the schema resolver.
+     * @param modelCache the model cache, or null if not cached.
+     * @return the dependency graph.
+     */
+    public static SchemaDependencyGraph build(List<Path> schemaFiles, SchemaResolver schemaResolver, ModelCache modelCache) {
+        Map<Path, String> names = new LinkedHashMap<>();
+        Map<Path, Set<Path>> refsByFile = new LinkedHashMap<>();
+
+        Deque<Path> pending = new ArrayDeque<>();
+        schemaFiles.forEach(schemaFile -> pending.add(normalize(schemaFile)));
+
+        while (!pending.isEmpty()) {
+            Path schemaFile = pending.poll();
+            if (refsByFile.containsKey(schemaFile)) {
+                continue;
+            }
+
+            if (Files.notExists(schemaFile)) {
+                // Reported when generating the referring schema
+                names.put(schemaFile, schemaFile.getFileName().toString().replace(".json", ""));
+                refsByFile.put(schemaFile, Set.of());
+                continue;
+            }
+
+            Set<Path> refs = new LinkedHashSet<>();
+            for (URI ref : getRefs(schemaFile, schemaResolver, modelCache)) {
+                Optional<Path> refFile = schemaResolver.findSchemaFile(ref);
+                if (refFile.isPresent()) {
+                    refs.add(normalize(refFile.get()));
+                } else if (!ref.toString().startsWith("#")) {
+                    // Local refs (fragment only) stay within the schema file, so only other refs are reported
+                    logger.warn("Ignoring $ref {} in {}, as it is not below the schema id root URI", ref, schemaFile);
+                }
+            }
+
+            names.put(schemaFile, SchemaResolver.getSchemaName(schemaFile));
+            refsByFile.put(schemaFile, refs);
+            pending.addAll(refs);
+        }
+
+        return new SchemaDependencyGraph(names, refsByFile);
+    }
+
+    private static Set<URI> getRefs(Path schemaFile, SchemaResolver schemaResolver, ModelCache modelCache) {
+        if (isNull(modelCache)) {
+            return schemaResolver.load(schemaFile).refs();
+        }
+
+        String contentHash = schemaResolver.getSourceCache().getContentHash(schemaFile);
+        return modelCache.getRefs(contentHash).orElseGet(() -> {
+            Set<URI> refs = schemaResolver.load(schemaFile).refs();
+            modelCache.putRefs(contentHash, refs);
+            return refs;
+        });
+    }
+
+    /**
+     * Gets the number of schema files in the graph.
+     * @return the number of schema files.
+     */
+    public int size() {
+        return refsByFile.size();
+    }
+
+    /**
+     * Gets the schema files referenced directly or indirectly from specified schema file, including the file itself,
+     * each mapped to the schema files it references directly.
+     * @param schemaFile the schema file.
+     * @return the referenced schema files, each with its direct references.
+     */
+    public Map<Path, Set<Path>> getReachableRefs(Path schemaFile) {
+        Map<Path, Set<Path>> reachableRefs = new LinkedHashMap<>();
+
+        Deque<Path> pending = new ArrayDeque<>();
+        pending.add(normalize(schemaFile));
+        while (!pending.isEmpty()) {
+            Path file = pending.poll();
+            if (!reachableRefs.containsKey(file)) {
+                Set<Path> refs = refsByFile.getOrDefault(file, Set.of());
+                reachableRefs.put(file, refs);
+                pending.addAll(refs);
+            }
+        }
+
+        return reachableRefs;
+    }
+
+    /**
+     * Gets the schema files referring directly or indirectly to specified schema file.
+     * @param schemaFile the schema file.
+     * @return the dependent schema files.
+     */
+    public Set<Path> getTransitiveDependents(Path schemaFile) {
+        Path start = normalize(schemaFile);
+        Set<Path> visited = new LinkedHashSet<>();
+
+        Deque<Path> pending = new ArrayDeque<>(dependentsByFile.getOrDefault(start, Set.of()));
+        while (!pending.isEmpty()) {
+            Path file = pending.poll();
+            if (visited.add(file)) {
+                pending.addAll(dependentsByFile.getOrDefault(file, Set.of()));
+            }
+        }
+
+        visited.remove(start);
+        return visited;
+    }
+
+    /**
+     * Gets the number of schema files referring directly to specified schema file.
+     * @param schemaFile the schema file.
+     * @return the number of dependent schema files.
+     */
+    public int getDependentCount(Path schemaFile) {
+        return dependentsByFile.getOrDefault(normalize(schemaFile), Set.of()).size();
+    }
+
+    /**
+     * Orders specified schema files so that referenced schemas come before the schemas referring to them.
+     * Schema files with no dependency between them keep their relative order.
+     * Schema files in, or depending on, a reference cycle are placed last.
+     * @param schemaFiles the schema files to order.
+     * @return the ordered schema files.
+     */
+    public List<Path> getGenerationOrder(List<Path> schemaFiles) {
+        return schemaFiles.stream()
+            .sorted(Comparator.comparingInt(schemaFile -> levels.getOrDefault(normalize(schemaFile), Integer.MAX_VALUE)))
+            .toList();
+    }
+
+    /**
+     * Gets the level of specified schema file, i.e. the length of the longest chain of references from it.
+     * Schema files referencing no other schemas are at level 0.
+     * @param schemaFile the schema file.
+     * @return the level, or {@link Integer#MAX_VALUE} if the schema file is in, or depends on, a reference cycle.
+     */
+    public int getLevel(Path schemaFile) {
+        return levels.getOrDefault(normalize(schemaFile), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the reference cycles of the graph, each given as the schema files involved.
+     * @return the reference cycles.
+     */
+    public List<List<Path>> getCycles() {
+        return cycles;
+    }
+
+    /**
+     * Formats specified reference cycle as a chain of schema names.
+     * @param cycle the reference cycle.
+     * @return the formatted reference cycle.
+     */
+    public String formatCycle(List<Path> cycle) {
+        StringJoiner joiner = new StringJoiner(" -> ");
+        cycle.forEach(schemaFile -> joiner.add(names.get(schemaFile)));
+        joiner.add(names.get(cycle.get(0)));
+        return joiner.toString();
+    }
+
+    /**
+     * Kahn's algorithm, processing each schema file when all schema files referenced by it have been processed.
+     */
+    private Map<Path, Integer> computeLevels() {
+        Map<Path, Integer> fileLevels = new HashMap<>();
+        Map<Path, Integer> pendingRefCounts = new HashMap<>();
+        Deque<Path> ready = new ArrayDeque<>();
+
+        refsByFile.forEach((schemaFile, refs) -> {
+            pendingRefCounts.put(schemaFile, refs.size());
+            if (refs.isEmpty()) {
+                ready.add(schemaFile);
+                fileLevels.put(schemaFile, 0);
+            }
+        });
+
+        while (!ready.isEmpty()) {
+            Path schemaFile = ready.poll();
+            int level = fileLevels.get(schemaFile);
+
+            for (Path dependent : dependentsByFile.getOrDefault(schemaFile, Set.of())) {
+                fileLevels.merge(dependent, level + 1, Math::max);
+                if (pendingRefCounts.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        // Schema files never becoming ready are in, or depend on, a cycle
+        pendingRefCounts.forEach((schemaFile, count) -> {
+            if (count > 0) {
+                fileLevels.remove(schemaFile);
+            }
+        });
+
+        return fileLevels;
+    }
+
+    /**
+     * Tarjan's algorithm, finding the strongly connected components of the graph having more than one schema file,
+     * or a single schema file referring to itself.
+     * The depth-first search keeps its own stack of visits, so long reference chains do not overflow the thread stack.
+     */
+    private class CycleFinder {
+        private final Map<Path, Integer> indexes = new HashMap<>();
+        private final Map<Path, Integer> lowLinks = new HashMap<>();
+        private final Deque<Path> stack = new ArrayDeque<>();
+        private final Set<Path> onStack = new HashSet<>();
+        private final List<List<Path>> components = new ArrayList<>();
+
+        List<List<Path>> find() {
+            // Only schema files not reachable by Kahn's algorithm can be part of a cycle
+            refsByFile.keySet().stream()
+                .filter(schemaFile -> !levels.containsKey(schemaFile))
+                .filter(schemaFile -> !indexes.containsKey(schemaFile))
+                .toList()
+                .forEach(this::visit);
+            return components;
+        }
+
+        private void visit(Path rootFile) {
+            Deque<Visit> visits = new ArrayDeque<>();
+            visits.push(enter(rootFile));
+
+            while (!visits.isEmpty()) {
+                Visit visit = visits.peek();
+                if (visit.refs().hasNext()) {
+                    Path refFile = visit.refs().next();
+                    if (!indexes.containsKey(refFile)) {
+                        visits.push(enter(refFile));
+                    } else if (onStack.contains(refFile)) {
+                        lowLinks.merge(visit.schemaFile(), indexes.get(refFile), Math::min);
+                    }
+                } else {
+                    visits.pop();
+                    leave(visit.schemaFile());
+                    if (!visits.isEmpty()) {
+                        lowLinks.merge(visits.peek().schemaFile(), lowLinks.get(visit.schemaFile()), Math::min);
+                    }
+                }
+            }
+        }
+
+        private Visit enter(Path schemaFile) {
+            int index = indexes.size();
+            indexes.put(schemaFile, index);
+            lowLinks.put(schemaFile, index);
+            stack.push(schemaFile);
+            onStack.add(schemaFile);
+            return new Visit(schemaFile, refsByFile.getOrDefault(schemaFile, Set.of()).iterator());
+        }
+
+        private void leave(Path schemaFile) {
+            if (lowLinks.get(schemaFile).equals(indexes.get(schemaFile))) {
+                List<Path> component = new ArrayList<>();
+                Path member;
+                do {
+                    member = stack.pop();
+                    onStack.remove(member);
+                    component.add(member);
+                } while (!member.equals(schemaFile));
+
+                if (component.size() > 1 || refsByFile.getOrDefault(schemaFile, Set.of()).contains(schemaFile)) {
+                    Collections.reverse(component);
+                    components.add(component);
+                }
+            }
+        }
+    }
+
+    /**
+     * A schema file being visited by the depth-first search, with its references not yet followed.
+     */
+    private record Visit(Path schemaFile, Iterator<Path> refs) {
+    }
+
+    /**
+     * Writes the graph to specified file, in DOT format if the file name ends with ".dot" or ".gv", otherwise in JSON format.
+     * @param file the file to write.
+     */
+    public void export(Path file) {
+        String filename = file.getFileName().toString();
+        String content = filename.endsWith(".dot") || filename.endsWith(".gv") ? toDot() : toJson();
+
+        try {
+            if (nonNull(file.getParent())) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new JsonSchema2JavaException("Failed to write dependency graph file %s".formatted(file), e);
+        }
+    }
+
+    /**
+     * Formats the graph in the DOT language of Graphviz.
+     * Each node is labeled with the schema name and the number of schemas referring directly to it.
+     * @return the formatted graph.
+     */
+    public String toDot() {
+        StringBuilder dot = new StringBuilder();
+        dot.append("digraph schemas {\n");
+        dot.append("  node [shape=box];\n");
+
+        // Node ids based on position, as schemas in different subdirectories may have the same name
+        Map<Path, String> nodeIds = new HashMap<>();
+        names.forEach((schemaFile, name) -> {
+            String nodeId = "n" + nodeIds.size();
+            nodeIds.put(schemaFile, nodeId);
+            dot.append("  %s [label=\"%s\\n%d dependents\"];\n".formatted(nodeId, name, getDependentCount(schemaFile)));
+        });
+
+        refsByFile.forEach((schemaFile, refs) ->
+            refs.forEach(refFile -> dot.append("  %s -> %s;\n".formatted(nodeIds.get(schemaFile), nodeIds.get(refFile))))
+        );
+
+        dot.append("}\n");
+        return dot.toString();
+    }
+
+    /**
+     * Formats the graph as JSON. Schemas are listed with the most directly referenced first.
+     * @return the formatted graph.
+     */
+    public String toJson() {
+        ObjectNode root = MAPPER.createObjectNode();
+
+        ArrayNode schemasNode = root.putArray("schemas");
+        names.keySet().stream()
+            .map(schemaFile -> Map.entry(schemaFile, getDependentCount(schemaFile)))
+            .sorted(Map.Entry.<Path, Integer>comparingByValue().reversed().thenComparing(entry -> names.get(entry.getKey())))
+            .forEach(entry -> {
+                Path schemaFile = entry.getKey();
+                ObjectNode schemaNode = schemasNode.addObject();
+                schemaNode.put("name", names.get(schemaFile));
+                schemaNode.put("file", schemaFile.toString());
+                ArrayNode refsNode = schemaNode.putArray("references");
+                refsByFile.get(schemaFile).forEach(refFile -> refsNode.add(names.get(refFile)));
+                schemaNode.put("dependents", entry.getValue());
+                int level = getLevel(schemaFile);
+                if (level == Integer.MAX_VALUE) {
+                    schemaNode.putNull("level");
+                } else {
+                    schemaNode.put("level", level);
+                }
+            });
+
+        ArrayNode cyclesNode = root.putArray("cycles");
+        getCycles().forEach(cycle -> {
+            ArrayNode cycleNode = cyclesNode.addArray();
+            cycle.forEach(schemaFile -> cycleNode.add(names.get(schemaFile)));
+        });
+
+        try {
+            return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(root);
+        } catch (JacksonException e) {
+            throw new JsonSchema2JavaException("Failed to format dependency graph", e);
+        }
+    }
+
+    private static Path normalize(Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+}
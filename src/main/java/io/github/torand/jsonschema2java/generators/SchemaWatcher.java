@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.generators;
+
+import io.github.torand.jsonschema2java.collectors.SchemaFileFinder;
+import io.github.torand.jsonschema2java.collectors.SchemaResolver;
+import io.github.torand.jsonschema2java.collectors.SchemaSourceCache;
+import io.github.torand.jsonschema2java.collectors.SchemaValidator;
+import io.github.torand.jsonschema2java.utils.JsonSchema2JavaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.torand.jsonschema2java.utils.StringUtils.pluralSuffix;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.nonNull;
+
+/**
+ * Watches the schema search directory and regenerates the source code affected by each change.
+ * Parsed and resolved schemas are kept in memory between changes, so only changed schema files are read again,
+ * and only source code files of changed schemas and schemas referring to them are regenerated.
+ * The source code files generated from each schema are tracked by the manifest in the output directory, so the
+ * source code files of deleted schemas are deleted too.
+ */
+public class SchemaWatcher {
+    private static final Logger logger = LoggerFactory.getLogger(SchemaWatcher.class);
+
+    /**
+     * Time to wait for more events after an event, so a burst of events (e.g. an editor saving via a temporary file)
+     * is handled as one change.
+     */
+    private static final long SETTLE_MILLIS = 100;
+
+    private final Options opts;
+    private final Path rootDir;
+    private final SchemaFileFinder schemaFileFinder;
+    private final SchemaResolver schemaResolver;
+    private final SchemaValidator schemaValidator;
+    private final ModelGenerator modelGenerator;
+
+    private List<Path> schemaFiles = List.of();
+
+    /**
+     * Constructs a {@link SchemaWatcher} object.
+     * @param opts the plugin options.
+     * @param schemaFileFinder the schema file finder.
+     */
+    public SchemaWatcher(Options opts, SchemaFileFinder schemaFileFinder) {
+        SchemaSourceCache sourceCache = new SchemaSourceCache(opts);
+
+        this.opts = opts;
+        this.rootDir = Path.of(opts.searchRootDir()).toAbsolutePath().normalize();
+        this.schemaFileFinder = schemaFileFinder;
+        this.schemaResolver = new SchemaResolver(opts, sourceCache);
+        this.schemaValidator = new SchemaValidator(sourceCache);
+        this.modelGenerator = new ModelGenerator(opts, schemaResolver);
+    }
+
+    /**
+     * Generates source code for all schema files, then regenerates affected source code on every change
+     * until the current thread is interrupted.
+     * @throws InterruptedException if interrupted while waiting for changes.
+     */
+    public void watch() throws InterruptedException {
+        generateAll();
+
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            Map<WatchKey, Path> watchedDirs = new HashMap<>();
+            registerDirectories(rootDir, watchService, watchedDirs);
+            logger.info("Watching {} for schema changes. Press Ctrl+C to stop.", rootDir);
+
+            while (!watchedDirs.isEmpty()) {
+                WatchKey key = watchService.take();
+
+                Set<Path> changedFiles = new LinkedHashSet<>();
+                boolean overflow = false;
+                while (nonNull(key)) {
+                    overflow |= pollEvents(key, watchService, watchedDirs, changedFiles);
+                    key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+
+                if (overflow) {
+                    logger.warn("Too many changes to track, regenerating all schemas");
+                    schemaFiles.forEach(schemaResolver::invalidate);
+                    generateAll();
+                } else if (!changedFiles.isEmpty()) {
+                    onSchemaFilesChanged(changedFiles);
+                }
+            }
+        } catch (IOException e) {
+            throw new JsonSchema2JavaException("Failed to watch directory %s".formatted(rootDir), e);
+        }
+    }
+
+    /**
+     * Generates source code for all schema files found.
+     */
+    public void generateAll() {
+        long startTime = System.nanoTime();
+        schemaFiles = findNormalizedSchemaFiles();
+
+        try {
+            if (isValid(schemaFiles)) {
+                modelGenerator.generate(schemaFiles, GenerationManifest.load(opts));
+                logger.info("Generated {} schema{} in {} ms", schemaFiles.size(), pluralSuffix(schemaFiles.size()), elapsedMillis(startTime));
+            }
+        } catch (RuntimeException e) {
+            logger.error("Failed to generate source code: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Regenerates source code of specified changed (created, modified or deleted) schema files, and any schema files
+     * referring to them directly or indirectly. Source code files of deleted schema files are deleted.
+     * @param changedFiles the changed schema files.
+     * @return the schema files regenerated.
+     */
+    public Set<Path> onSchemaFilesChanged(Collection<Path> changedFiles) {
+        long startTime = System.nanoTime();
+
+        List<Path> normalizedChangedFiles = changedFiles.stream().map(file -> file.toAbsolutePath().normalize()).toList();
+        normalizedChangedFiles.forEach(schemaResolver::invalidate);
+        schemaFiles = findNormalizedSchemaFiles();
+
+        Set<Path> affectedFiles = new LinkedHashSet<>();
+        try {
+            if (!isValid(normalizedChangedFiles.stream().filter(Files::exists).toList())) {
+                return affectedFiles;
+            }
+
+            GenerationManifest manifest = GenerationManifest.load(opts);
+            modelGenerator.deleteRemovedOutputFiles(schemaFiles, manifest);
+
+            SchemaDependencyGraph dependencyGraph = SchemaDependencyGraph.build(schemaFiles, schemaResolver);
+            normalizedChangedFiles.forEach(changedFile -> {
+                affectedFiles.add(changedFile);
+                affectedFiles.addAll(dependencyGraph.getTransitiveDependents(changedFile));
+            });
+            affectedFiles.retainAll(schemaFiles);
+
+            if (!affectedFiles.isEmpty()) {
+                modelGenerator.generate(List.copyOf(affectedFiles), dependencyGraph, manifest);
+            }
+
+            // Created and deleted schemas change the set of serializers registered
+            modelGenerator.generateJacksonModule(schemaFiles, manifest);
+            manifest.save(schemaFiles);
+        } catch (RuntimeException e) {
+            logger.error("Failed to generate source code: {}", e.getMessage());
+        }
+
+        logger.info("Regenerated {} schema{} affected by {} changed file{} in {} ms",
+            affectedFiles.size(), pluralSuffix(affectedFiles.size()), normalizedChangedFiles.size(), pluralSuffix(normalizedChangedFiles.size()), elapsedMillis(startTime));
+
+        return affectedFiles;
+    }
+
+    private boolean pollEvents(WatchKey key, WatchService watchService, Map<WatchKey, Path> watchedDirs, Set<Path> changedFiles) throws IOException {
+        boolean overflow = false;
+        Path dir = watchedDirs.get(key);
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                overflow = true;
+            } else if (nonNull(dir)) {
+                Path file = dir.resolve((Path)event.context());
+                if (event.kind() == ENTRY_CREATE && Files.isDirectory(file)) {
+                    registerDirectories(file, watchService, watchedDirs);
+                } else if (schemaFileFinder.matches(file)) {
+                    changedFiles.add(file);
+                }
+            }
+        }
+
+        if (!key.reset()) {
+            watchedDirs.remove(key);
+        }
+
+        return overflow;
+    }
+
+    private static void registerDirectories(Path dir, WatchService watchService, Map<WatchKey, Path> watchedDirs) throws IOException {
+        Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path subDir, BasicFileAttributes attribs) throws IOException {
+                watchedDirs.put(subDir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), subDir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private boolean isValid(List<Path> files) {
+        Map<Path, List<String>> messagesByFile = schemaValidator.validateAll(files, opts.getWorkerCount());
+        messagesByFile.forEach((schemaFile, messages) -> {
+            logger.error("File {} is not a valid JSON Schema file:", schemaFile);
+            messages.forEach(logger::error);
+        });
+        return messagesByFile.isEmpty();
+    }
+
+    private List<Path> findNormalizedSchemaFiles() {
+        return schemaFileFinder.find(opts.getWorkerCount()).stream()
+            .map(file -> file.toAbsolutePath().normalize())
+            .toList();
+    }
+
+    private static long elapsedMillis(long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when a $ref is resolved.
+ */
+@Name("io.github.torand.jsonschema2java.RefResolved")
+@Label("Ref Resolved")
+@Description("A $ref resolved to a schema, either from the resolution cache or by loading the referenced schema file")
+@Category("JSONSchema2Java")
+public class RefResolvedEvent extends Event {
+
+    @Label("Ref")
+    public String ref;
+
+    @Label("Schema Name")
+    @Description("Name of the referenced schema, or null if not found")
+    public String schemaName;
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+}
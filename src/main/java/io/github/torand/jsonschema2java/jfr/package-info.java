@@ -0,0 +1,4 @@
+/**
+ * Provides JDK Flight Recorder events emitted by the generation stages.
+ */
+package io.github.torand.jsonschema2java.jfr;
@@ -17,7 +17,6 @@ package io.github.torand.jsonschema2java.model;
 
 import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
 
 import static java.util.Collections.emptyList;
 
@@ -43,10 +42,7 @@ public interface EntityInfo {
      * @return the aggregated set of all imports.
      */
     default Set<String> aggregatedImports() {
-        Set<String> imports = new TreeSet<>();
-        imports.addAll(aggregatedNormalImports());
-        imports.addAll(aggregatedStaticImports());
-        return imports;
+        return ImportSet.copyOf(aggregatedNormalImports()).union(aggregatedStaticImports());
     }
 
     /**
@@ -17,10 +17,8 @@ package io.github.torand.jsonschema2java.model;
 
 import java.util.Collection;
 import java.util.Set;
-import java.util.TreeSet;
 
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
-import static java.util.Collections.emptySet;
 
 /**
  * Describes a collection of imports and static imports.
@@ -31,20 +29,24 @@ public record ImportInfo(
     Set<String> normalImports,
     Set<String> staticImports
 ) implements ImportsSupplier {
+    private static final ImportInfo EMPTY = new ImportInfo(ImportSet.empty(), ImportSet.empty());
 
     /**
-     * Creates an {@link ImportInfo} object with no imports.
-     * @return the empty {@link ImportInfo} object.
+     * Constructs an {@link ImportInfo} object.
+     * @param normalImports the normal (non-static) imports.
+     * @param staticImports the static imports.
      */
-    public static ImportInfo empty() {
-        return new ImportInfo();
+    public ImportInfo {
+        normalImports = ImportSet.copyOf(normalImports);
+        staticImports = ImportSet.copyOf(staticImports);
     }
 
     /**
-     * Constructs an {@link ImportInfo} object.
+     * Creates an {@link ImportInfo} object with no imports.
+     * @return the empty {@link ImportInfo} object.
      */
-    private ImportInfo() {
-        this(emptySet(), emptySet());
+    public static ImportInfo empty() {
+        return EMPTY;
     }
 
     @Override
@@ -55,50 +57,56 @@ public record ImportInfo(
     /**
      * Returns a new {@link ImportInfo} object with specified normal import added.
      * @param normalImport the import to add.
-     * @return the new and updated {@link ImportInfo} object.
+     * @return the new and updated {@link ImportInfo} object, or this object if the import is already present.
      */
     public ImportInfo withAddedNormalImport(String normalImport) {
-        Set<String> newNormalImports = new TreeSet<>(this.normalImports);
-        newNormalImports.add(normalImport);
-        return new ImportInfo(newNormalImports, staticImports);
+        return with(normal().with(normalImport), statics());
     }
 
     /**
      * Returns a new {@link ImportInfo} object with specified static import added.
      * @param staticImport the static import to add.
-     * @return the new and updated {@link ImportInfo} object.
+     * @return the new and updated {@link ImportInfo} object, or this object if the import is already present.
      */
     public ImportInfo withAddedStaticImport(String staticImport) {
-        Set<String> newStaticImports = new TreeSet<>(this.staticImports);
-        newStaticImports.add(staticImport);
-        return new ImportInfo(normalImports, newStaticImports);
+        return with(normal(), statics().with(staticImport));
     }
 
     /**
      * Returns a new {@link ImportInfo} object with all imports from specified supplier added.
      * @param importSupplier the imports to add.
-     * @return the new and updated {@link ImportInfo} object.
+     * @return the new and updated {@link ImportInfo} object, or this object if no imports were added.
      */
     public ImportInfo withAddedImports(ImportsSupplier importSupplier) {
-        Set<String> newNormalImports = new TreeSet<>(this.normalImports);
-        newNormalImports.addAll(importSupplier.imports().normalImports());
-        Set<String> newStaticImports = new TreeSet<>(this.staticImports);
-        newStaticImports.addAll(importSupplier.imports().staticImports());
-
-        return new ImportInfo(newNormalImports, newStaticImports);
+        ImportInfo other = importSupplier.imports();
+        return with(normal().union(other.normalImports()), statics().union(other.staticImports()));
     }
 
     /**
      * Returns a new {@link ImportInfo} object with all imports from specified suppliers added.
      * @param importSuppliers the imports to add.
-     * @return the new and updated {@link ImportInfo} object.
+     * @return the new and updated {@link ImportInfo} object, or this object if no imports were added.
      */
     public ImportInfo withAddedImports(Collection<? extends ImportsSupplier> importSuppliers) {
-        Set<String> newNormalImports = new TreeSet<>(this.normalImports);
-        streamSafely(importSuppliers).map(ImportsSupplier::imports).map(ImportInfo::normalImports).forEach(newNormalImports::addAll);
-        Set<String> newStaticImports = new TreeSet<>(this.staticImports);
-        streamSafely(importSuppliers).map(ImportsSupplier::imports).map(ImportInfo::staticImports).forEach(newStaticImports::addAll);
+        ImportInfo result = this;
+        for (ImportsSupplier importSupplier : streamSafely(importSuppliers).toList()) {
+            result = result.withAddedImports(importSupplier);
+        }
+        return result;
+    }
+
+    private ImportSet normal() {
+        return (ImportSet) normalImports;
+    }
+
+    private ImportSet statics() {
+        return (ImportSet) staticImports;
+    }
 
+    private ImportInfo with(ImportSet newNormalImports, ImportSet newStaticImports) {
+        if (newNormalImports == normalImports && newStaticImports == staticImports) {
+            return this;
+        }
         return new ImportInfo(newNormalImports, newStaticImports);
     }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.model;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, sorted set of import names backed by an array.
+ * Import names are interned, and adding names that are already present returns the same instance,
+ * so sets can be shared between entities and merged without copying.
+ * The interned names are bounded, and discarded when the bound is reached, to not grow across builds in a long-lived JVM.
+ */
+public final class ImportSet extends AbstractSet<String> {
+    static final int MAX_INTERNED_NAMES = 4096;
+
+    private static final Map<String, String> INTERNED_NAMES = new ConcurrentHashMap<>();
+    private static final ImportSet EMPTY = new ImportSet(new String[0]);
+
+    private final String[] names;
+
+    private ImportSet(String[] names) {
+        this.names = names;
+    }
+
+    /**
+     * Returns the empty {@link ImportSet}.
+     * @return the empty {@link ImportSet} object.
+     */
+    public static ImportSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns an {@link ImportSet} with the specified import names.
+     * @param names the import names.
+     * @return the {@link ImportSet} object, which is the specified object if already an {@link ImportSet}.
+     */
+    public static ImportSet copyOf(Collection<String> names) {
+        if (names instanceof ImportSet importSet) {
+            return importSet;
+        }
+        if (names.isEmpty()) {
+            return EMPTY;
+        }
+        return new ImportSet(sortedDistinct(names.stream().map(ImportSet::intern).toArray(String[]::new), names.size()));
+    }
+
+    /**
+     * Returns the union of specified import sets.
+     * @param importSets the import sets.
+     * @return the union {@link ImportSet} object.
+     */
+    public static ImportSet unionOf(Collection<? extends Set<String>> importSets) {
+        ImportSet largest = EMPTY;
+        int total = 0;
+        for (Set<String> importSet : importSets) {
+            total += importSet.size();
+            if (importSet.size() > largest.size()) {
+                largest = copyOf(importSet);
+            }
+        }
+        if (total == largest.size()) {
+            return largest;
+        }
+
+        String[] all = new String[total];
+        int pos = 0;
+        for (Set<String> importSet : importSets) {
+            for (String name : copyOf(importSet).names) {
+                all[pos++] = name;
+            }
+        }
+
+        ImportSet union = new ImportSet(sortedDistinct(all, total));
+        return union.size() == largest.size() ? largest : union;
+    }
+
+    /**
+     * Returns an {@link ImportSet} with specified import name added.
+     * @param name the import name to add.
+     * @return the new {@link ImportSet} object, or this object if the import name is already present.
+     */
+    public ImportSet with(String name) {
+        int idx = Arrays.binarySearch(names, name);
+        if (idx >= 0) {
+            return this;
+        }
+
+        int insertIdx = -(idx + 1);
+        String[] newNames = new String[names.length + 1];
+        System.arraycopy(names, 0, newNames, 0, insertIdx);
+        newNames[insertIdx] = intern(name);
+        System.arraycopy(names, insertIdx, newNames, insertIdx + 1, names.length - insertIdx);
+        return new ImportSet(newNames);
+    }
+
+    /**
+     * Returns the union of this and specified import names.
+     * @param other the import names to add.
+     * @return the union {@link ImportSet} object, which is one of the operands if the other adds nothing.
+     */
+    public ImportSet union(Set<String> other) {
+        ImportSet otherSet = copyOf(other);
+        if (otherSet.names.length == 0 || otherSet == this) {
+            return this;
+        }
+        if (names.length == 0) {
+            return otherSet;
+        }
+
+        String[] merged = new String[names.length + otherSet.names.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < names.length && j < otherSet.names.length) {
+            int cmp = names[i].compareTo(otherSet.names[j]);
+            if (cmp < 0) {
+                merged[k++] = names[i++];
+            } else if (cmp > 0) {
+                merged[k++] = otherSet.names[j++];
+            } else {
+                merged[k++] = names[i++];
+                j++;
+            }
+        }
+        while (i < names.length) {
+            merged[k++] = names[i++];
+        }
+        while (j < otherSet.names.length) {
+            merged[k++] = otherSet.names[j++];
+        }
+
+        if (k == names.length) {
+            return this;
+        }
+        if (k == otherSet.names.length) {
+            return otherSet;
+        }
+        return new ImportSet(k == merged.length ? merged : Arrays.copyOf(merged, k));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof String name && Arrays.binarySearch(names, name) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < names.length;
+            }
+
+            @Override
+            public String next() {
+                if (idx >= names.length) {
+                    throw new NoSuchElementException();
+                }
+                return names[idx++];
+            }
+        };
+    }
+
+    /**
+     * Gets the number of import names currently interned.
+     * @return the number of interned import names.
+     */
+    static int internedNameCount() {
+        return INTERNED_NAMES.size();
+    }
+
+    private static String intern(String name) {
+        // Interning only saves memory, so names interned earlier may safely be discarded
+        if (INTERNED_NAMES.size() >= MAX_INTERNED_NAMES) {
+            INTERNED_NAMES.clear();
+        }
+        String interned = INTERNED_NAMES.putIfAbsent(name, name);
+        return interned != null ? interned : name;
+    }
+
+    private static String[] sortedDistinct(String[] names, int length) {
+        Arrays.sort(names, 0, length);
+        int distinct = 0;
+        for (int i = 0; i < length; i++) {
+            if (distinct == 0 || !names[distinct - 1].equals(names[i])) {
+                names[distinct++] = names[i];
+            }
+        }
+        return distinct == names.length ? names : Arrays.copyOf(names, distinct);
+    }
+}
@@ -48,6 +48,15 @@ public record PojoInfo (
         this(name, null, null, emptyList(), emptyList(), null);
     }
 
+    /**
+     * Returns a new {@link Builder} for incrementally populating a {@link PojoInfo} object.
+     * @param name the class name.
+     * @return the new {@link Builder} object.
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
     /**
      * Returns a new {@link PojoInfo} object with specified model subdirectory.
      * @param modelSubdir the model subdirectory.
@@ -63,7 +72,7 @@ public record PojoInfo (
      * @return the new and updated {@link PojoInfo} object.
      */
     public PojoInfo withModelSubpackage(String modelSubpackage) {
-        return new PojoInfo(name, modelSubpackage, modelSubpackage, annotations, properties, deprecationMessage);
+        return new PojoInfo(name, modelSubdir, modelSubpackage, annotations, properties, deprecationMessage);
     }
 
     /**
@@ -115,17 +124,91 @@ public record PojoInfo (
 
     @Override
     public Set<String> aggregatedNormalImports() {
-        Set<String> aggregated = new TreeSet<>();
-        properties.stream().map(p -> p.aggregatedNormalImports()).forEach(aggregated::addAll);
-        annotations.stream().map(a -> a.imports().normalImports()).forEach(aggregated::addAll);
-        return aggregated;
+        List<Set<String>> importSets = new ArrayList<>(properties.size() + annotations.size());
+        properties.forEach(p -> importSets.add(p.aggregatedNormalImports()));
+        annotations.forEach(a -> importSets.add(a.imports().normalImports()));
+        return ImportSet.unionOf(importSets);
     }
 
     @Override
     public Set<String> aggregatedStaticImports() {
-        Set<String> aggregated = new TreeSet<>();
-        properties.stream().map(p -> p.aggregatedStaticImports()).forEach(aggregated::addAll);
-        annotations.stream().map(a -> a.imports().staticImports()).forEach(aggregated::addAll);
-        return aggregated;
+        List<Set<String>> importSets = new ArrayList<>(properties.size() + annotations.size());
+        properties.forEach(p -> importSets.add(p.aggregatedStaticImports()));
+        annotations.forEach(a -> importSets.add(a.imports().staticImports()));
+        return ImportSet.unionOf(importSets);
+    }
+
+    /**
+     * Mutable builder of {@link PojoInfo} objects, collecting annotations and properties without copying them.
+     */
+    public static final class Builder {
+        private final String name;
+        private String modelSubdir;
+        private String modelSubpackage;
+        private final List<AnnotationInfo> annotations = new ArrayList<>();
+        private final List<PropertyInfo> properties = new ArrayList<>();
+        private String deprecationMessage;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Sets the model subdirectory.
+         * @param modelSubdir the model subdirectory.
+         * @return this builder.
+         */
+        public Builder modelSubdir(String modelSubdir) {
+            this.modelSubdir = modelSubdir;
+            return this;
+        }
+
+        /**
+         * Sets the model subpackage.
+         * @param modelSubpackage the model subpackage.
+         * @return this builder.
+         */
+        public Builder modelSubpackage(String modelSubpackage) {
+            this.modelSubpackage = modelSubpackage;
+            return this;
+        }
+
+        /**
+         * Adds an annotation.
+         * @param annotation the annotation to add.
+         * @return this builder.
+         */
+        public Builder addAnnotation(AnnotationInfo annotation) {
+            this.annotations.add(annotation);
+            return this;
+        }
+
+        /**
+         * Adds a property.
+         * @param property the property to add.
+         * @return this builder.
+         */
+        public Builder addProperty(PropertyInfo property) {
+            this.properties.add(property);
+            return this;
+        }
+
+        /**
+         * Sets the deprecation message.
+         * @param deprecationMessage the deprecation message.
+         * @return this builder.
+         */
+        public Builder deprecationMessage(String deprecationMessage) {
+            this.deprecationMessage = deprecationMessage;
+            return this;
+        }
+
+        /**
+         * Returns an immutable {@link PojoInfo} object with the state of this builder.
+         * @return the {@link PojoInfo} object.
+         */
+        public PojoInfo build() {
+            return new PojoInfo(name, modelSubdir, modelSubpackage, List.copyOf(annotations), List.copyOf(properties), deprecationMessage);
+        }
     }
 }
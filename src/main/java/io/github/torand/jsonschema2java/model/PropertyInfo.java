@@ -15,10 +15,10 @@
  */
 package io.github.torand.jsonschema2java.model;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
 
 import static java.util.Collections.emptyList;
 import static java.util.Objects.nonNull;
@@ -47,6 +47,15 @@ public record PropertyInfo (
         this(name, null, false, emptyList(), null);
     }
 
+    /**
+     * Returns a new {@link Builder} for incrementally populating a {@link PropertyInfo} object.
+     * @param name the property name.
+     * @return the new {@link Builder} object.
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
     /**
      * Returns a new {@link PropertyInfo} object with specified type.
      * @param type the property type.
@@ -95,15 +104,82 @@ public record PropertyInfo (
 
     @Override
     public Set<String> aggregatedNormalImports() {
-        Set<String> aggregated = new TreeSet<>(type.aggregatedNormalImports());
-        annotations.stream().map(a -> a.imports().normalImports()).forEach(aggregated::addAll);
+        ImportSet aggregated = ImportSet.copyOf(type.aggregatedNormalImports());
+        for (AnnotationInfo annotation : annotations) {
+            aggregated = aggregated.union(annotation.imports().normalImports());
+        }
         return aggregated;
     }
 
     @Override
     public Set<String> aggregatedStaticImports() {
-        Set<String> aggregated = new TreeSet<>(type.aggregatedStaticImports());
-        annotations.stream().map(a -> a.imports().staticImports()).forEach(aggregated::addAll);
+        ImportSet aggregated = ImportSet.copyOf(type.aggregatedStaticImports());
+        for (AnnotationInfo annotation : annotations) {
+            aggregated = aggregated.union(annotation.imports().staticImports());
+        }
         return aggregated;
     }
+
+    /**
+     * Mutable builder of {@link PropertyInfo} objects, avoiding a record copy for every property set.
+     */
+    public static final class Builder {
+        private final String name;
+        private TypeInfo type;
+        private boolean required;
+        private final List<AnnotationInfo> annotations = new ArrayList<>();
+        private String deprecationMessage;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Sets the property type.
+         * @param type the property type.
+         * @return this builder.
+         */
+        public Builder type(TypeInfo type) {
+            this.type = type;
+            return this;
+        }
+
+        /**
+         * Sets the required flag.
+         * @param required the required flag.
+         * @return this builder.
+         */
+        public Builder required(boolean required) {
+            this.required = required;
+            return this;
+        }
+
+        /**
+         * Adds an annotation.
+         * @param annotation the annotation to add.
+         * @return this builder.
+         */
+        public Builder addAnnotation(AnnotationInfo annotation) {
+            this.annotations.add(annotation);
+            return this;
+        }
+
+        /**
+         * Sets the deprecation message.
+         * @param deprecationMessage the deprecation message.
+         * @return this builder.
+         */
+        public Builder deprecationMessage(String deprecationMessage) {
+            this.deprecationMessage = deprecationMessage;
+            return this;
+        }
+
+        /**
+         * Returns an immutable {@link PropertyInfo} object with the state of this builder.
+         * @return the {@link PropertyInfo} object.
+         */
+        public PropertyInfo build() {
+            return new PropertyInfo(name, type, required, List.copyOf(annotations), deprecationMessage);
+        }
+    }
 }
@@ -64,6 +64,22 @@ public record TypeInfo (
         this(null, null, false, null, false, null, null, null, null, null, emptyList(), ImportInfo.empty());
     }
 
+    /**
+     * Returns a new {@link Builder} for incrementally populating a {@link TypeInfo} object.
+     * @return the new {@link Builder} object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a new {@link Builder} initialized with the state of this object.
+     * @return the new {@link Builder} object.
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
     /**
      * Returns a new {@link TypeInfo} object with specified name.
      * @param name the name.
@@ -237,27 +253,202 @@ public record TypeInfo (
 
     @Override
     public Set<String> aggregatedNormalImports() {
-        ImportInfo imports = this.imports.withAddedImports(annotations);
-        if (nonNull(keyType)) {
-            imports = imports.withAddedImports(keyType);
-        }
-        if (nonNull(itemType)) {
-            imports = imports.withAddedImports(itemType);
-        }
-
-        return imports.normalImports();
+        return aggregatedImportInfo().normalImports();
     }
 
     @Override
     public Set<String> aggregatedStaticImports() {
-        ImportInfo imports = this.imports.withAddedImports(annotations);
+        return aggregatedImportInfo().staticImports();
+    }
+
+    private ImportInfo aggregatedImportInfo() {
+        ImportInfo aggregated = this.imports.withAddedImports(annotations);
         if (nonNull(keyType)) {
-            imports = imports.withAddedImports(keyType);
+            aggregated = aggregated.withAddedImports(keyType);
         }
         if (nonNull(itemType)) {
-            imports = imports.withAddedImports(itemType);
+            aggregated = aggregated.withAddedImports(itemType);
+        }
+        return aggregated;
+    }
+
+    /**
+     * Mutable builder of {@link TypeInfo} objects, avoiding a record copy for every property set.
+     */
+    public static final class Builder {
+        private String name;
+        private String description;
+        private boolean nullable;
+        private TypeInfo keyType;
+        private boolean primitive;
+        private TypeInfo itemType;
+        private String schemaFormat;
+        private String schemaPattern;
+        private Integer schemaMinLength;
+        private Integer schemaMaxLength;
+        private final List<AnnotationInfo> annotations = new ArrayList<>();
+        private ImportInfo imports = ImportInfo.empty();
+
+        private Builder() {
         }
 
-        return imports.staticImports();
+        private Builder(TypeInfo typeInfo) {
+            this.name = typeInfo.name;
+            this.description = typeInfo.description;
+            this.nullable = typeInfo.nullable;
+            this.keyType = typeInfo.keyType;
+            this.primitive = typeInfo.primitive;
+            this.itemType = typeInfo.itemType;
+            this.schemaFormat = typeInfo.schemaFormat;
+            this.schemaPattern = typeInfo.schemaPattern;
+            this.schemaMinLength = typeInfo.schemaMinLength;
+            this.schemaMaxLength = typeInfo.schemaMaxLength;
+            this.annotations.addAll(typeInfo.annotations);
+            this.imports = typeInfo.imports;
+        }
+
+        /**
+         * Gets the type name set so far.
+         * @return the type name.
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Gets the nullable flag set so far.
+         * @return the nullable flag.
+         */
+        public boolean nullable() {
+            return nullable;
+        }
+
+        /**
+         * Sets the type name.
+         * @param name the type name.
+         * @return this builder.
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the type description.
+         * @param description the type description.
+         * @return this builder.
+         */
+        public Builder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        /**
+         * Sets the nullable flag.
+         * @param nullable the nullable flag.
+         * @return this builder.
+         */
+        public Builder nullable(boolean nullable) {
+            this.nullable = nullable;
+            return this;
+        }
+
+        /**
+         * Sets the key type.
+         * @param keyType the key type.
+         * @return this builder.
+         */
+        public Builder keyType(TypeInfo keyType) {
+            this.keyType = keyType;
+            return this;
+        }
+
+        /**
+         * Sets the primitive flag.
+         * @param primitive the primitive flag.
+         * @return this builder.
+         */
+        public Builder primitive(boolean primitive) {
+            this.primitive = primitive;
+            return this;
+        }
+
+        /**
+         * Sets the item type.
+         * @param itemType the item type.
+         * @return this builder.
+         */
+        public Builder itemType(TypeInfo itemType) {
+            this.itemType = itemType;
+            return this;
+        }
+
+        /**
+         * Sets the schema string format.
+         * @param schemaFormat the schema string format.
+         * @return this builder.
+         */
+        public Builder schemaFormat(String schemaFormat) {
+            this.schemaFormat = schemaFormat;
+            return this;
+        }
+
+        /**
+         * Sets the schema string pattern.
+         * @param schemaPattern the schema string pattern.
+         * @return this builder.
+         */
+        public Builder schemaPattern(String schemaPattern) {
+            this.schemaPattern = schemaPattern;
+            return this;
+        }
+
+        /**
+         * Sets the schema string minimum length.
+         * @param schemaMinLength the schema string minimum length.
+         * @return this builder.
+         */
+        public Builder schemaMinLength(Integer schemaMinLength) {
+            this.schemaMinLength = schemaMinLength;
+            return this;
+        }
+
+        /**
+         * Sets the schema string maximum length.
+         * @param schemaMaxLength the schema string maximum length.
+         * @return this builder.
+         */
+        public Builder schemaMaxLength(Integer schemaMaxLength) {
+            this.schemaMaxLength = schemaMaxLength;
+            return this;
+        }
+
+        /**
+         * Adds an annotation.
+         * @param annotation the annotation to add.
+         * @return this builder.
+         */
+        public Builder addAnnotation(AnnotationInfo annotation) {
+            this.annotations.add(annotation);
+            return this;
+        }
+
+        /**
+         * Adds a normal import.
+         * @param normalImport the import to add.
+         * @return this builder.
+         */
+        public Builder addNormalImport(String normalImport) {
+            this.imports = imports.withAddedNormalImport(normalImport);
+            return this;
+        }
+
+        /**
+         * Returns an immutable {@link TypeInfo} object with the state of this builder.
+         * @return the {@link TypeInfo} object.
+         */
+        public TypeInfo build() {
+            return new TypeInfo(name, description, nullable, keyType, primitive, itemType, schemaFormat, schemaPattern, schemaMinLength, schemaMaxLength, List.copyOf(annotations), imports);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * A collection of hashing utilities.
+ */
+public final class HashUtils {
+    private HashUtils() {}
+
+    /**
+     * Returns the SHA-256 hash of specified bytes, as a hexadecimal string.
+     * @param bytes the bytes to hash.
+     * @return the hexadecimal hash string.
+     */
+    public static String sha256(byte[] bytes) {
+        return HexFormat.of().formatHex(createSha256Digest().digest(bytes));
+    }
+
+    /**
+     * Returns the SHA-256 hash of specified string, encoded as UTF-8, as a hexadecimal string.
+     * @param value the string to hash.
+     * @return the hexadecimal hash string.
+     */
+    public static String sha256(String value) {
+        return sha256(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest createSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new JsonSchema2JavaException(e);
+        }
+    }
+}
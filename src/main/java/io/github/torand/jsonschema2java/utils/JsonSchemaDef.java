@@ -21,31 +21,102 @@ import tools.jackson.databind.JsonNode;
 
 import java.math.BigDecimal;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static io.github.torand.javacommons.stream.StreamHelper.streamSafely;
-import static java.lang.Boolean.TRUE;
-import static java.util.Objects.isNull;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.nonNull;
-import static java.util.stream.Collectors.toMap;
 
 /**
  * Represents a JSON Schema definition.
+ * The keywords of the schema (and its subschemas) are parsed once, when the definition is constructed.
  */
 public class JsonSchemaDef {
+    private static final int TYPE_STRING = 1;
+    private static final int TYPE_NUMBER = 1 << 1;
+    private static final int TYPE_INTEGER = 1 << 2;
+    private static final int TYPE_BOOLEAN = 1 << 3;
+    private static final int TYPE_OBJECT = 1 << 4;
+    private static final int TYPE_ARRAY = 1 << 5;
+    private static final int TYPE_NULL = 1 << 6;
+
+    // Keywords holding a subschema or an array of subschemas, and keywords holding subschemas by name
+    private static final List<String> SUBSCHEMA_KEYWORDS = List.of("items", "additionalProperties", "not", "allOf", "oneOf", "anyOf");
+    private static final List<String> NAMED_SUBSCHEMA_KEYWORDS = List.of("properties", "$defs", "definitions");
+
     private final String name;
     private final JsonNode schema;
 
+    private final List<String> types;
+    private final int typeMask;
+    private final boolean hasEnum;
+    private final List<String> enums;
+    private final Set<String> required;
+    private final Map<String, JsonSchemaDef> properties;
+    private final List<JsonSchemaDef> allOf;
+    private final boolean hasAnyOf;
+    private final List<JsonSchemaDef> oneOf;
+    private final JsonSchemaDef items;
+    private final Object additionalProperties;
+    private final Extensions extensions;
+    private final URI ref;
+    private final String description;
+    private final boolean deprecated;
+    private final String defaultValue;
+    private final String format;
+    private final String pattern;
+    private final boolean uniqueItems;
+    private final Integer minItems;
+    private final Integer maxItems;
+    private final Integer minLength;
+    private final Integer maxLength;
+    private final BigDecimal minimum;
+    private final BigDecimal maximum;
+
     public JsonSchemaDef(String name, Schema schema) {
-        this.name = name;
-        this.schema = schema.getSchemaNode();
+        this(name, schema.getSchemaNode());
     }
 
     public JsonSchemaDef(String name, JsonNode schema) {
         this.name = name;
         this.schema = schema;
+
+        this.types = textsOf(schema.get("type"));
+        this.typeMask = types.stream().mapToInt(JsonSchemaDef::typeBit).reduce(0, (a, b) -> a | b);
+        this.hasEnum = schema.has("enum");
+        this.enums = textsOf(schema.get("enum"));
+        this.required = required(schema.get("required"));
+        this.properties = properties(schema.get("properties"));
+        this.allOf = subschemas(schema.get("allOf"));
+        this.hasAnyOf = schema.has("anyOf");
+        this.oneOf = subschemas(schema.get("oneOf"));
+        this.items = schema.has("items") ? new JsonSchemaDef("$", schema.get("items")) : null;
+        this.additionalProperties = additionalProperties(schema.get("additionalProperties"));
+        this.extensions = extensions(schema);
+        this.ref = ref(schema.get("$ref"));
+        this.description = textOf(schema.get("description"));
+        this.deprecated = isTrue(schema.get("deprecated"));
+        this.defaultValue = textOf(schema.get("default"));
+        this.format = textOf(schema.get("format"));
+        this.pattern = textOf(schema.get("pattern"));
+        this.uniqueItems = isTrue(schema.get("uniqueItems"));
+        this.minItems = intOf(schema.get("minItems"));
+        this.maxItems = intOf(schema.get("maxItems"));
+        this.minLength = intOf(schema.get("minLength"));
+        this.maxLength = intOf(schema.get("maxLength"));
+        this.minimum = decimalOf(schema.get("minimum"));
+        this.maximum = decimalOf(schema.get("maximum"));
     }
 
     public String getName() {
@@ -53,171 +124,259 @@ public class JsonSchemaDef {
     }
 
     public boolean isEnum() {
-        return types().anyMatch("string"::equals) && has("/enum");
+        return (typeMask & TYPE_STRING) != 0 && hasEnum;
     }
 
     public boolean isClass() {
-        return types().anyMatch("object"::equals) || hasAllOf();
+        return (typeMask & TYPE_OBJECT) != 0 || hasAllOf();
     }
 
     public String description() {
-        return schema.at("/description").asText(null);
+        return description;
     }
 
     public boolean isDeprecated() {
-        return isTrue("/deprecated");
+        return deprecated;
     }
 
     public boolean hasAllOf() {
-        return has("/allOf");
+        return nonNull(allOf);
     }
 
     public boolean hasAnyOf() {
-        return has("/anyOf");
+        return hasAnyOf;
     }
 
     public boolean hasOneOf() {
-        return has("/oneOf");
+        return nonNull(oneOf);
     }
 
     public Stream<JsonSchemaDef> allOf() {
-        JsonNode arrayNode = schema.at("/allOf");
-        if (isNull(arrayNode) || arrayNode.isNull() || arrayNode.isEmpty()) {
-            return Stream.empty();
-        }
-        return streamSafely(arrayNode.values()).map(e -> new JsonSchemaDef("$", e));
+        return streamSafely(allOf);
     }
 
     public Stream<JsonSchemaDef> oneOf() {
-        JsonNode arrayNode = schema.at("/oneOf");
-        if (isNull(arrayNode) || arrayNode.isNull() || arrayNode.isEmpty()) {
-            return Stream.empty();
-        }
-        return streamSafely(arrayNode.values()).map(e -> new JsonSchemaDef("$", e));
+        return streamSafely(oneOf);
     }
 
     public URI ref() {
-        String refValue = schema.at("/$ref").asText(null);
-        return nonNull(refValue) ? URI.create(refValue) : null;
+        return ref;
+    }
+
+    /**
+     * Gets the $ref URIs of the schema and its subschemas. Only keywords holding subschemas are followed, so $ref
+     * keys in e.g. examples, default and const values are not included.
+     * @return the $ref URIs.
+     */
+    public Set<URI> refs() {
+        Set<URI> refs = new LinkedHashSet<>();
+        collectRefs(schema, refs);
+        return refs;
     }
 
     public boolean hasTypes() {
-        return types().findAny().isPresent();
+        return !types.isEmpty();
     }
 
     public boolean hasType(String typeName) {
-        return types().anyMatch(typeName::equals);
+        int typeBit = typeBit(typeName);
+        return typeBit != 0 ? (typeMask & typeBit) != 0 : types.contains(typeName);
     }
 
     public Stream<String> types() {
-        return arrayOf("/type");
+        return types.stream();
     }
 
     public Stream<String> enums() {
-        return arrayOf("/enum");
+        return enums.stream();
     }
 
     public boolean isRequired(String propertyName) {
-        return required().anyMatch(propertyName::equals);
+        return required.contains(propertyName);
     }
 
     public Stream<String> required() {
-        return arrayOf("/required");
+        return required.stream();
     }
 
     public Map<String, JsonSchemaDef> properties() {
-        Map<String, JsonSchemaDef> props = new LinkedHashMap<>();
-        streamSafely(schema.at("/properties").properties())
-            .forEach(e -> props.put(e.getKey(), new JsonSchemaDef("$", e.getValue())));
-        return props;
+        return properties;
     }
 
     public String defaultValue() {
-        return schema.at("/default").asText(null);
+        return defaultValue;
     }
 
     public String format() {
-        return schema.at("/format").asText(null);
+        return format;
     }
 
     public String pattern() {
-        return schema.at("/pattern").asText(null);
+        return pattern;
     }
 
     public boolean uniqueItems() {
-        return isTrue("/uniqueItems");
+        return uniqueItems;
     }
 
     public Integer minItems() {
-        return has("/minItems") ? schema.at("/minItems").asInt() : null;
+        return minItems;
     }
 
     public Integer maxItems() {
-        return has("/maxItems") ? schema.at("/maxItems").asInt() : null;
+        return maxItems;
     }
 
     public Integer minLength() {
-        return has("/minLength") ? schema.at("/minLength").asInt() : null;
+        return minLength;
     }
 
     public Integer maxLength() {
-        return has("/maxLength") ? schema.at("/maxLength").asInt() : null;
+        return maxLength;
     }
 
     public BigDecimal minimum() {
-        return has("/minimum") ? BigDecimal.valueOf(schema.at("/minimum").asDouble()) : null;
+        return minimum;
     }
 
     public BigDecimal maximum() {
-        return has("/maximum") ? BigDecimal.valueOf(schema.at("/maximum").asDouble()) : null;
+        return maximum;
     }
 
     public JsonSchemaDef items() {
-        if (!has("/items")) {
-            return null;
-        }
-
-        return new JsonSchemaDef("$", schema.at("/items"));
+        return items;
     }
 
     public Object additionalProperties() {
-        if (!has("/additionalProperties")) {
-            return null;
+        return additionalProperties;
+    }
+
+    public Extensions extensions() {
+        return extensions;
+    }
+
+    private static int typeBit(String typeName) {
+        return switch (typeName) {
+            case "string" -> TYPE_STRING;
+            case "number" -> TYPE_NUMBER;
+            case "integer" -> TYPE_INTEGER;
+            case "boolean" -> TYPE_BOOLEAN;
+            case "object" -> TYPE_OBJECT;
+            case "array" -> TYPE_ARRAY;
+            case "null" -> TYPE_NULL;
+            default -> 0;
+        };
+    }
+
+    private static void collectRefs(JsonNode node, Set<URI> refs) {
+        if (!isPresent(node) || !node.isObject()) {
+            return;
         }
 
-        if (schema.at("/additionalProperties").isBoolean()) {
-            return schema.at("/additionalProperties").asBoolean();
+        JsonNode refNode = node.get("$ref");
+        if (isPresent(refNode) && refNode.isString()) {
+            refs.add(URI.create(refNode.asString()));
         }
 
-        return new JsonSchemaDef("$", schema.at("/additionalProperties"));
+        SUBSCHEMA_KEYWORDS.forEach(keyword -> {
+            JsonNode subschema = node.get(keyword);
+            if (isPresent(subschema) && subschema.isArray()) {
+                subschema.values().forEach(element -> collectRefs(element, refs));
+            } else {
+                collectRefs(subschema, refs);
+            }
+        });
+        NAMED_SUBSCHEMA_KEYWORDS.forEach(keyword -> {
+            JsonNode subschemas = node.get(keyword);
+            if (isPresent(subschemas) && subschemas.isObject()) {
+                subschemas.values().forEach(subschema -> collectRefs(subschema, refs));
+            }
+        });
     }
 
-    public Extensions extensions() {
-        Map<String, Object> extensionProps = streamSafely(schema.properties())
-            .filter(entry -> entry.getKey().startsWith("x-"))
-            .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+    private static boolean isPresent(JsonNode node) {
+        return nonNull(node) && !node.isMissingNode();
+    }
 
-        return Extensions.extensions(extensionProps);
+    private static boolean isTrue(JsonNode node) {
+        return isPresent(node) && node.isBoolean() && node.asBoolean();
     }
 
-    private boolean has(String jsonPtrExpr) {
-        return !schema.at(jsonPtrExpr).isMissingNode();
+    private static String textOf(JsonNode node) {
+        return isPresent(node) ? node.asText(null) : null;
     }
 
-    private boolean isTrue(String jsonPtrExpr) {
-        return schema.at(jsonPtrExpr).isBoolean() && TRUE.equals(schema.at(jsonPtrExpr).asBoolean());
+    private static Integer intOf(JsonNode node) {
+        return isPresent(node) ? node.asInt() : null;
     }
 
-    private Stream<String> arrayOf(String jsonPtrExpr) {
-        JsonNode arrayNode = schema.at(jsonPtrExpr);
-        if (isNull(arrayNode) || arrayNode.isNull() || arrayNode.isMissingNode()) {
-            return Stream.empty();
+    private static BigDecimal decimalOf(JsonNode node) {
+        return isPresent(node) ? BigDecimal.valueOf(node.asDouble()) : null;
+    }
+
+    private static URI ref(JsonNode node) {
+        String refValue = textOf(node);
+        return nonNull(refValue) ? URI.create(refValue) : null;
+    }
+
+    private static List<String> textsOf(JsonNode node) {
+        if (!isPresent(node) || node.isNull()) {
+            return emptyList();
         }
-        if (arrayNode.isArray()) {
-            return streamSafely(arrayNode.values()).map(JsonNode::asText);
+        if (node.isArray()) {
+            List<String> texts = new ArrayList<>(node.size());
+            node.values().forEach(element -> texts.add(element.asText()));
+            return unmodifiableList(texts);
         } else {
-            return Stream.of(arrayNode.asText());
+            return List.of(node.asText());
+        }
+    }
+
+    private static Set<String> required(JsonNode node) {
+        List<String> names = textsOf(node);
+        return names.isEmpty() ? emptySet() : unmodifiableSet(new LinkedHashSet<>(names));
+    }
+
+    private static Map<String, JsonSchemaDef> properties(JsonNode node) {
+        if (!isPresent(node) || node.isEmpty()) {
+            return emptyMap();
+        }
+        Map<String, JsonSchemaDef> props = new LinkedHashMap<>();
+        node.properties().forEach(e -> props.put(e.getKey(), new JsonSchemaDef("$", e.getValue())));
+        return unmodifiableMap(props);
+    }
+
+    private static List<JsonSchemaDef> subschemas(JsonNode node) {
+        if (!isPresent(node)) {
+            return null;
+        }
+        if (node.isNull() || node.isEmpty()) {
+            return emptyList();
+        }
+        List<JsonSchemaDef> subschemas = new ArrayList<>(node.size());
+        node.values().forEach(element -> subschemas.add(new JsonSchemaDef("$", element)));
+        return unmodifiableList(subschemas);
+    }
+
+    private static Object additionalProperties(JsonNode node) {
+        if (!isPresent(node)) {
+            return null;
+        }
+        if (node.isBoolean()) {
+            return node.asBoolean();
         }
+        return new JsonSchemaDef("$", node);
+    }
+
+    private static Extensions extensions(JsonNode schema) {
+        Map<String, Object> extensionProps = new LinkedHashMap<>();
+        schema.properties().forEach(entry -> {
+            if (entry.getKey().startsWith("x-")) {
+                extensionProps.put(entry.getKey(), entry.getValue());
+            }
+        });
+
+        return Extensions.extensions(extensionProps);
     }
 
     @Override
@@ -23,9 +23,19 @@ public final class KotlinTypeMapper {
 
     public static String toKotlinNative(String typeName) {
         return switch (typeName) {
-            case "Integer" -> "Int";
+            case "Integer", "int" -> "Int";
+            case "long" -> "Long";
+            case "short" -> "Short";
             case "byte" -> "Byte";
+            case "float" -> "Float";
+            case "double" -> "Double";
+            case "boolean" -> "Boolean";
             case "byte[]" -> "ByteArray";
+            case "short[]" -> "ShortArray";
+            case "int[]" -> "IntArray";
+            case "long[]" -> "LongArray";
+            case "float[]" -> "FloatArray";
+            case "double[]" -> "DoubleArray";
             default -> typeName;
         };
     }
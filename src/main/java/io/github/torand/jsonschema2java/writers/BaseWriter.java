@@ -26,7 +26,11 @@ import java.io.Writer;
  */
 public abstract class BaseWriter implements AutoCloseable {
 
+    private static final int CACHED_INDENT_LEVELS = 8;
+
     private final Writer writer;
+    private final String indent;
+    private final String[] indents;
 
     /**
      * The plugin options.
@@ -41,6 +45,11 @@ public abstract class BaseWriter implements AutoCloseable {
     protected BaseWriter(Writer writer, Options opts) {
         this.writer = writer;
         this.opts = opts;
+        this.indent = opts.indentWithTab() ? "\t" : " ".repeat(opts.indentSize());
+        this.indents = new String[CACHED_INDENT_LEVELS];
+        for (int level = 0; level < CACHED_INDENT_LEVELS; level++) {
+            this.indents[level] = indent.repeat(level);
+        }
     }
 
     /**
@@ -50,7 +59,7 @@ public abstract class BaseWriter implements AutoCloseable {
      */
     protected void write(String format, Object... args) {
         try {
-            writer.append(format.formatted(args));
+            writer.append(format(format, args));
         } catch (IOException e) {
             throw new JsonSchema2JavaException("Failed to append to writer", e);
         }
@@ -63,7 +72,7 @@ public abstract class BaseWriter implements AutoCloseable {
      */
     protected void writeLine(String format, Object... args) {
         try {
-            writer.append(format.formatted(args)).append("\n");
+            writer.append(format(format, args)).append('\n');
         } catch (IOException e) {
             throw new JsonSchema2JavaException("Failed to append to writer", e);
         }
@@ -74,7 +83,7 @@ public abstract class BaseWriter implements AutoCloseable {
      */
     protected void writeNewLine() {
         try {
-            writer.append("\n");
+            writer.append('\n');
         } catch (IOException e) {
             throw new JsonSchema2JavaException("Failed to append to writer", e);
         }
@@ -85,18 +94,19 @@ public abstract class BaseWriter implements AutoCloseable {
      * @param levels the number of indent levels.
      */
     protected void writeIndent(int levels) {
-        String indent = "\t";
-        if (!opts.indentWithTab()) {
-            indent = " ".repeat(opts.indentSize());
+        try {
+            writer.append(levels < CACHED_INDENT_LEVELS ? indents[levels] : indent.repeat(levels));
+        } catch (IOException e) {
+            throw new JsonSchema2JavaException("Failed to append to writer", e);
         }
+    }
 
-        for (int level = 0; level < levels; level++) {
-            try {
-                writer.append(indent);
-            } catch (IOException e) {
-                throw new JsonSchema2JavaException("Failed to append to writer", e);
-            }
+    private static String format(String format, Object... args) {
+        // Strings without arguments need formatting only to unescape '%%'
+        if (args.length == 0 && format.indexOf('%') == -1) {
+            return format;
         }
+        return format.formatted(args);
     }
 
     @Override
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.writers;
+
+import java.nio.file.Path;
+
+/**
+ * Receives notifications about generated source code files being closed.
+ */
+@FunctionalInterface
+public interface FileWriteListener {
+
+    /**
+     * A listener ignoring all notifications.
+     */
+    FileWriteListener NONE = (file, written, size) -> {};
+
+    /**
+     * Invoked when a generated source code file is closed.
+     * @param file the file path.
+     * @param written true if the file was written; false if it was left untouched since its content was unchanged.
+     * @param size the size of the file content, in bytes.
+     */
+    void fileClosed(Path file, boolean written, long size);
+}
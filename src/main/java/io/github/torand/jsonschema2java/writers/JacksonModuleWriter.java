@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.writers;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Defines a code writer for a Jackson module registering the generated serializers and deserializers.
+ */
+public interface JacksonModuleWriter extends AutoCloseable {
+
+    /**
+     * Name of the module class, written to the root model package.
+     */
+    String CLASS_NAME = "ModelJacksonModule";
+
+    /**
+     * Writes code for a module registering the serializers and deserializers of specified pojos.
+     * @param pojoClassNames the fully qualified class names of the pojos.
+     */
+    void write(List<String> pojoClassNames);
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.writers;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Writer buffering the complete content of an output file in memory, and writing it UTF-8 encoded to disk in a single operation on close.
+ * The buffer is pooled per thread and reused for subsequent files.
+ * Optionally, an existing file with identical content is left untouched, preserving its last modified time.
+ */
+final class OutputFileWriter extends Writer {
+    private static final int INITIAL_BUFFER_CAPACITY = 16 * 1024;
+    private static final int MAX_POOLED_BUFFER_CAPACITY = 1024 * 1024;
+
+    private static final ThreadLocal<StringBuilder> POOLED_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_CAPACITY));
+
+    private final Path outputFile;
+    private final boolean skipUnchanged;
+    private final FileWriteListener listener;
+    private StringBuilder buffer;
+
+    OutputFileWriter(Path outputFile, boolean skipUnchanged, FileWriteListener listener) {
+        this.outputFile = outputFile;
+        this.skipUnchanged = skipUnchanged;
+        this.listener = listener;
+        this.buffer = acquireBuffer();
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        ensureOpen().append(cbuf, off, len);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        ensureOpen().append((char) c);
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        ensureOpen().append(str, off, off + len);
+    }
+
+    @Override
+    public Writer append(CharSequence csq) throws IOException {
+        ensureOpen().append(csq);
+        return this;
+    }
+
+    @Override
+    public Writer append(char c) throws IOException {
+        ensureOpen().append(c);
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        // Content is written to disk on close only
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+
+        byte[] content;
+        try {
+            content = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        } finally {
+            releaseBuffer(buffer);
+            buffer = null;
+        }
+
+        boolean write = !skipUnchanged || !hasContent(outputFile, content);
+        if (write) {
+            Files.write(outputFile, content);
+        }
+
+        listener.fileClosed(outputFile, write, content.length);
+    }
+
+    private static boolean hasContent(Path file, byte[] content) throws IOException {
+        // Compare sizes first, to avoid reading files that have obviously changed
+        if (Files.notExists(file) || Files.size(file) != content.length) {
+            return false;
+        }
+
+        return Arrays.equals(Files.readAllBytes(file), content);
+    }
+
+    private StringBuilder ensureOpen() throws IOException {
+        if (buffer == null) {
+            throw new IOException("Writer for %s is closed".formatted(outputFile));
+        }
+        return buffer;
+    }
+
+    private static StringBuilder acquireBuffer() {
+        StringBuilder pooled = POOLED_BUFFER.get();
+        if (pooled == null) {
+            // Pooled buffer is in use by another open writer on this thread
+            return new StringBuilder(INITIAL_BUFFER_CAPACITY);
+        }
+
+        POOLED_BUFFER.set(null);
+        pooled.setLength(0);
+        return pooled;
+    }
+
+    private static void releaseBuffer(StringBuilder buffer) {
+        if (buffer.capacity() <= MAX_POOLED_BUFFER_CAPACITY) {
+            POOLED_BUFFER.set(buffer);
+        } else {
+            // Let an oversized buffer be garbage collected, and start over with a buffer of initial capacity
+            POOLED_BUFFER.remove();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.writers;
+
+import java.io.IOException;
+
+/**
+ * Defines a code writer for the exception thrown by the generated validators, holding the constraint violations found.
+ */
+public interface ValidationExceptionWriter extends AutoCloseable {
+
+    /**
+     * Name of the exception class, written to the root model package.
+     */
+    String CLASS_NAME = "ModelValidationException";
+
+    /**
+     * Name of the constraint violation class, nested in the exception class.
+     */
+    String VIOLATION_CLASS_NAME = CLASS_NAME + ".Violation";
+
+    /**
+     * Writes code for the exception class.
+     */
+    void write();
+
+    @Override
+    void close() throws IOException;
+}
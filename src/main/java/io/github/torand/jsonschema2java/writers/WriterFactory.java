@@ -16,13 +16,18 @@
 package io.github.torand.jsonschema2java.writers;
 
 import io.github.torand.jsonschema2java.generators.Options;
+import io.github.torand.jsonschema2java.jfr.FileWrittenEvent;
 import io.github.torand.jsonschema2java.writers.java.JavaEnumWriter;
+import io.github.torand.jsonschema2java.writers.java.JavaJacksonModuleWriter;
+import io.github.torand.jsonschema2java.writers.java.JavaJsonDeserializerWriter;
+import io.github.torand.jsonschema2java.writers.java.JavaJsonSerializerWriter;
 import io.github.torand.jsonschema2java.writers.java.JavaPojoWriter;
+import io.github.torand.jsonschema2java.writers.java.JavaValidationExceptionWriter;
+import io.github.torand.jsonschema2java.writers.java.JavaValidatorWriter;
 import io.github.torand.jsonschema2java.writers.kotlin.KotlinEnumWriter;
 import io.github.torand.jsonschema2java.writers.kotlin.KotlinPojoWriter;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
 import java.nio.file.Path;
@@ -34,23 +39,135 @@ public final class WriterFactory {
     private WriterFactory() {}
 
     public static EnumWriter createEnumWriter(String filename, Options opts, String modelSubdir) throws IOException {
-        Writer fileWriter = createFileWriter(filename, opts.getModelOutputDir(modelSubdir));
+        return createEnumWriter(filename, opts, modelSubdir, FileWriteListener.NONE);
+    }
+
+    /**
+     * Creates an enum writer notifying specified listener when the file is closed.
+     * @param filename the file name.
+     * @param opts the plugin options.
+     * @param modelSubdir the model subdirectory, if any.
+     * @param listener the listener.
+     * @return the enum writer.
+     * @throws IOException if the output directory could not be created.
+     */
+    public static EnumWriter createEnumWriter(String filename, Options opts, String modelSubdir, FileWriteListener listener) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.getModelOutputDir(modelSubdir), opts, listener);
         return opts.useKotlinSyntax() ? new KotlinEnumWriter(fileWriter, opts) : new JavaEnumWriter(fileWriter, opts);
     }
 
     public static PojoWriter createPojoWriter(String filename, Options opts, String modelSubdir) throws IOException {
-        Writer fileWriter = createFileWriter(filename, opts.getModelOutputDir(modelSubdir));
+        return createPojoWriter(filename, opts, modelSubdir, FileWriteListener.NONE);
+    }
+
+    /**
+     * Creates a pojo writer notifying specified listener when the file is closed.
+     * @param filename the file name.
+     * @param opts the plugin options.
+     * @param modelSubdir the model subdirectory, if any.
+     * @param listener the listener.
+     * @return the pojo writer.
+     * @throws IOException if the output directory could not be created.
+     */
+    public static PojoWriter createPojoWriter(String filename, Options opts, String modelSubdir, FileWriteListener listener) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.getModelOutputDir(modelSubdir), opts, listener);
         return opts.useKotlinSyntax() ? new KotlinPojoWriter(fileWriter, opts) : new JavaPojoWriter(fileWriter, opts);
     }
 
-    private static Writer createFileWriter(String filename, String directory) throws IOException {
+    /**
+     * Creates a Jackson serializer writer notifying specified listener when the file is closed.
+     * Serializers are generated for Java only.
+     * @param filename the file name.
+     * @param opts the plugin options.
+     * @param modelSubdir the model subdirectory, if any.
+     * @param listener the listener.
+     * @return the serializer writer.
+     * @throws IOException if the output directory could not be created.
+     */
+    public static JsonSerializerWriter createJsonSerializerWriter(String filename, Options opts, String modelSubdir, FileWriteListener listener) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.getModelOutputDir(modelSubdir), opts, listener);
+        return new JavaJsonSerializerWriter(fileWriter, opts);
+    }
+
+    /**
+     * Creates a Jackson deserializer writer notifying specified listener when the file is closed.
+     * Deserializers are generated for Java only.
+     * @param filename the file name.
+     * @param opts the plugin options.
+     * @param modelSubdir the model subdirectory, if any.
+     * @param listener the listener.
+     * @return the deserializer writer.
+     * @throws IOException if the output directory could not be created.
+     */
+    public static JsonDeserializerWriter createJsonDeserializerWriter(String filename, Options opts, String modelSubdir, FileWriteListener listener) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.getModelOutputDir(modelSubdir), opts, listener);
+        return new JavaJsonDeserializerWriter(fileWriter, opts);
+    }
+
+    /**
+     * Creates a Jackson module writer notifying specified listener when the file is closed.
+     * The module is written to the root model package.
+     * @param filename the file name.
+     * @param opts the plugin options.
+     * @param listener the listener.
+     * @return the module writer.
+     * @throws IOException if the output directory could not be created.
+     */
+    public static JacksonModuleWriter createJacksonModuleWriter(String filename, Options opts, FileWriteListener listener) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.getModelOutputDir(null), opts, listener);
+        return new JavaJacksonModuleWriter(fileWriter, opts);
+    }
+
+    /**
+     * Creates a validator writer notifying specified listener when the file is closed.
+     * Validators are generated for Java only.
+     * @param filename the file name.
+     * @param opts the plugin options.
+     * @param modelSubdir the model subdirectory, if any.
+     * @param listener the listener.
+     * @return the validator writer.
+     * @throws IOException if the output directory could not be created.
+     */
+    public static ValidatorWriter createValidatorWriter(String filename, Options opts, String modelSubdir, FileWriteListener listener) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.getModelOutputDir(modelSubdir), opts, listener);
+        return new JavaValidatorWriter(fileWriter, opts);
+    }
+
+    /**
+     * Creates a validation exception writer notifying specified listener when the file is closed.
+     * The exception is written to the root model package.
+     * @param filename the file name.
+     * @param opts the plugin options.
+     * @param listener the listener.
+     * @return the validation exception writer.
+     * @throws IOException if the output directory could not be created.
+     */
+    public static ValidationExceptionWriter createValidationExceptionWriter(String filename, Options opts, FileWriteListener listener) throws IOException {
+        Writer fileWriter = createFileWriter(filename, opts.getModelOutputDir(null), opts, listener);
+        return new JavaValidationExceptionWriter(fileWriter, opts);
+    }
+
+    private static Writer createFileWriter(String filename, String directory, Options opts, FileWriteListener listener) throws IOException {
         Path outputPath = Path.of(directory);
         File outputPathFile = outputPath.toFile();
         if (!outputPathFile.exists()) {
             outputPathFile.mkdirs();
         }
 
-        File outputFile = new File(outputPathFile, filename);
-        return new FileWriter(outputFile);
+        // The event spans rendering and writing the file
+        FileWrittenEvent event = new FileWrittenEvent();
+        event.begin();
+
+        FileWriteListener eventListener = (file, written, size) -> {
+            if (event.shouldCommit()) {
+                event.file = file.toString();
+                event.size = size;
+                event.written = written;
+                event.commit();
+            }
+            listener.fileClosed(file, written, size);
+        };
+
+        return new OutputFileWriter(outputPath.resolve(filename), opts.skipUnchangedFiles(), eventListener);
     }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.writers.java;
+
+import io.github.torand.jsonschema2java.model.AnnotationInfo;
+import io.github.torand.jsonschema2java.model.PojoInfo;
+import io.github.torand.jsonschema2java.model.PropertyInfo;
+import io.github.torand.jsonschema2java.model.TypeInfo;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.function.Predicate.not;
+
+/**
+ * Helpers shared by the writers of Jackson serializers and deserializers.
+ */
+final class JacksonWriterSupport {
+
+    static final Set<String> INTEGER_TYPES = Set.of("Byte", "Short", "Integer", "Long", "byte", "short", "int", "long");
+    static final Set<String> DECIMAL_TYPES = Set.of("Double", "Float", "BigDecimal", "double", "float");
+    static final Set<String> BOOLEAN_TYPES = Set.of("Boolean", "boolean");
+    static final Set<String> STRING_VALUE_TYPES = Set.of("URI", "UUID");
+    static final Set<String> STREAMED_ARRAY_TYPES = Set.of("int[]", "long[]", "double[]");
+
+    private static final Set<String> PRIMITIVE_TYPES = Set.of("byte", "short", "int", "long", "double", "float", "boolean");
+
+    private static final String JSON_SERIALIZE_ANNOTATION = "@JsonSerialize(";
+    private static final String JSON_SERIALIZE_FQN = "com.fasterxml.jackson.databind.annotation.JsonSerialize";
+    private static final String JSON_DESERIALIZE_ANNOTATION = "@JsonDeserialize(";
+    private static final String JSON_DESERIALIZE_FQN = "com.fasterxml.jackson.databind.annotation.JsonDeserialize";
+    private static final String JSON_FORMAT_ANNOTATION = "@JsonFormat(pattern = ";
+
+    private JacksonWriterSupport() {}
+
+    /**
+     * Returns whether the pojo or any of its properties is deprecated, making references to them trigger compiler warnings.
+     */
+    static boolean isAnyDeprecated(PojoInfo pojoInfo) {
+        return pojoInfo.isDeprecated() || pojoInfo.properties().stream().anyMatch(PropertyInfo::isDeprecated);
+    }
+
+    static boolean isJavaPrimitive(String typeName) {
+        return PRIMITIVE_TYPES.contains(typeName);
+    }
+
+    /**
+     * Returns whether the type is read and written directly as a JSON scalar, without delegating to Jackson.
+     */
+    static boolean isDirectScalar(TypeInfo type) {
+        String name = type.name();
+        return isNull(type.itemType())
+            && ("String".equals(name) || "byte[]".equals(name) || INTEGER_TYPES.contains(name) || DECIMAL_TYPES.contains(name)
+                || BOOLEAN_TYPES.contains(name) || STRING_VALUE_TYPES.contains(name));
+    }
+
+    /**
+     * Returns whether the type is an array of items read and written directly as JSON scalars.
+     */
+    static boolean isDirectArray(TypeInfo type) {
+        if (!type.isArray()) {
+            return false;
+        }
+        TypeInfo itemType = type.itemType();
+        return isDirectScalar(itemType)
+            && getCustomSerializer(itemType).isEmpty()
+            && getCustomDeserializer(itemType).isEmpty();
+    }
+
+    static Optional<String> getCustomSerializer(TypeInfo type) {
+        return getAnnotationClassImport(type, JSON_SERIALIZE_ANNOTATION, JSON_SERIALIZE_FQN);
+    }
+
+    static Optional<String> getCustomDeserializer(TypeInfo type) {
+        return getAnnotationClassImport(type, JSON_DESERIALIZE_ANNOTATION, JSON_DESERIALIZE_FQN);
+    }
+
+    /**
+     * Gets the date and time pattern of a java.time type, as an escaped Java string literal.
+     */
+    static Optional<String> getFormatPattern(TypeInfo type) {
+        boolean isJavaTimeType = type.imports().normalImports().stream().anyMatch(i -> i.startsWith("java.time."));
+        if (!isJavaTimeType) {
+            return Optional.empty();
+        }
+        // The annotation value is already an escaped Java string literal
+        return type.annotations().stream()
+            .map(AnnotationInfo::annotation)
+            .filter(a -> a.startsWith(JSON_FORMAT_ANNOTATION))
+            .map(a -> a.substring(JSON_FORMAT_ANNOTATION.length(), a.length() - 1))
+            .findFirst();
+    }
+
+    /**
+     * Adds the imports of the type and its key and item types, excluding the imports of their annotations.
+     */
+    static void addTypeImports(TypeInfo type, Set<String> imports) {
+        imports.addAll(type.imports().normalImports());
+        if (nonNull(type.keyType())) {
+            addTypeImports(type.keyType(), imports);
+        }
+        if (nonNull(type.itemType())) {
+            addTypeImports(type.itemType(), imports);
+        }
+    }
+
+    static String toConstantName(String propertyName) {
+        StringBuilder constant = new StringBuilder();
+        for (int i = 0; i < propertyName.length(); i++) {
+            char c = propertyName.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && Character.isLowerCase(propertyName.charAt(i - 1))) {
+                constant.append('_');
+            }
+            constant.append(Character.isJavaIdentifierPart(c) ? Character.toUpperCase(c) : '_');
+        }
+        if (constant.isEmpty() || !Character.isJavaIdentifierStart(constant.charAt(0))) {
+            constant.insert(0, '_');
+        }
+        return constant.toString();
+    }
+
+    static String uniqueName(String name, Set<String> usedNames) {
+        String unique = name;
+        int suffix = 2;
+        while (!usedNames.add(unique)) {
+            unique = name + "_" + suffix++;
+        }
+        return unique;
+    }
+
+    private static Optional<String> getAnnotationClassImport(TypeInfo type, String annotationPrefix, String annotationFqn) {
+        return type.annotations().stream()
+            .filter(a -> a.annotation().startsWith(annotationPrefix))
+            .map(AnnotationInfo::imports)
+            .flatMap(i -> i.normalImports().stream())
+            .filter(not(annotationFqn::equals))
+            .findFirst();
+    }
+}
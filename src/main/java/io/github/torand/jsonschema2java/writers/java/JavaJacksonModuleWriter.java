@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.writers.java;
+
+import io.github.torand.jsonschema2java.generators.Options;
+import io.github.torand.jsonschema2java.utils.PackageUtils;
+import io.github.torand.jsonschema2java.writers.BaseWriter;
+import io.github.torand.jsonschema2java.writers.JacksonModuleWriter;
+import io.github.torand.jsonschema2java.writers.JsonDeserializerWriter;
+import io.github.torand.jsonschema2java.writers.JsonSerializerWriter;
+
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.github.torand.jsonschema2java.utils.PackageUtils.getClassNameFromFqn;
+import static io.github.torand.jsonschema2java.utils.PackageUtils.isFqnInPackage;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * Writes Java code for a Jackson module registering the generated pojo serializers and deserializers.
+ */
+public class JavaJacksonModuleWriter extends BaseWriter implements JacksonModuleWriter {
+
+    public JavaJacksonModuleWriter(Writer writer, Options opts) {
+        super(writer, opts);
+    }
+
+    @Override
+    public void write(List<String> pojoClassNames) {
+        String modulePackage = opts.getModelPackage(null);
+        List<String> sortedClassNames = pojoClassNames.stream().sorted().toList();
+
+        // Classes sharing a simple name across subpackages are referenced by their fully qualified names
+        Map<String, Long> simpleNameCounts = sortedClassNames.stream()
+            .collect(groupingBy(PackageUtils::getClassNameFromFqn, counting()));
+
+        Set<String> imports = new TreeSet<>();
+        imports.add("com.fasterxml.jackson.databind.module.SimpleModule");
+        sortedClassNames.stream()
+            .filter(fqn -> !isFqnInPackage(fqn, modulePackage))
+            .filter(fqn -> simpleNameCounts.get(getClassNameFromFqn(fqn)) == 1)
+            .forEach(fqn -> {
+                imports.add(fqn);
+                if (opts.generateJsonSerializers()) {
+                    imports.add(fqn + JsonSerializerWriter.CLASS_NAME_SUFFIX);
+                }
+                if (opts.generateJsonDeserializers()) {
+                    imports.add(fqn + JsonDeserializerWriter.CLASS_NAME_SUFFIX);
+                }
+            });
+
+        writeLine("package %s;", modulePackage);
+        writeNewLine();
+        imports.forEach(i -> writeLine("import %s;", i));
+        writeNewLine();
+
+        writeLine("public class %s extends SimpleModule {", CLASS_NAME);
+        writeNewLine();
+        writeIndent(1);
+        writeLine("public %s() {", CLASS_NAME);
+        writeIndent(2);
+        writeLine("super(\"%s\");", CLASS_NAME);
+        sortedClassNames.forEach(fqn -> {
+            String className = simpleNameCounts.get(getClassNameFromFqn(fqn)) == 1 ? getClassNameFromFqn(fqn) : fqn;
+            if (opts.generateJsonSerializers()) {
+                writeIndent(2);
+                writeLine("addSerializer(%s.class, new %s%s());", className, className, JsonSerializerWriter.CLASS_NAME_SUFFIX);
+            }
+            if (opts.generateJsonDeserializers()) {
+                writeIndent(2);
+                writeLine("addDeserializer(%s.class, new %s%s());", className, className, JsonDeserializerWriter.CLASS_NAME_SUFFIX);
+            }
+        });
+        writeIndent(1);
+        writeLine("}");
+        writeLine("}");
+    }
+}
@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.writers.java;
+
+import io.github.torand.jsonschema2java.generators.Options;
+import io.github.torand.jsonschema2java.model.PojoInfo;
+import io.github.torand.jsonschema2java.model.PropertyInfo;
+import io.github.torand.jsonschema2java.model.TypeInfo;
+import io.github.torand.jsonschema2java.utils.PackageUtils;
+import io.github.torand.jsonschema2java.writers.BaseWriter;
+import io.github.torand.jsonschema2java.writers.JsonDeserializerWriter;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
+import static io.github.torand.jsonschema2java.utils.PackageUtils.getClassNameFromFqn;
+import static io.github.torand.jsonschema2java.utils.PackageUtils.isFqnInPackage;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.BOOLEAN_TYPES;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.DECIMAL_TYPES;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.addTypeImports;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.getCustomDeserializer;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.getFormatPattern;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.isAnyDeprecated;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.isDirectArray;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.isDirectScalar;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.isJavaPrimitive;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.toConstantName;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.uniqueName;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Writes Java code for a Jackson deserializer of a pojo.
+ * <p>
+ * The deserializer reads the properties from the {@code JsonParser} into local variables and calls the canonical
+ * constructor of the pojo. Properties arriving in declared order are matched by a single comparison each, and any
+ * other properties are dispatched by a switch on the property name.
+ */
+public class JavaJsonDeserializerWriter extends BaseWriter implements JsonDeserializerWriter {
+
+    private static final Set<String> RESERVED_NAMES = Set.of("p", "ctxt", "propertyName");
+
+    public JavaJsonDeserializerWriter(Writer writer, Options opts) {
+        super(writer, opts);
+    }
+
+    @Override
+    public void write(PojoInfo pojoInfo) {
+        String pojoName = pojoInfo.name();
+        String deserializerName = pojoName + CLASS_NAME_SUFFIX;
+
+        Set<String> usedConstants = new HashSet<>();
+        Set<String> usedVariables = new HashSet<>(RESERVED_NAMES);
+        Set<String> usedMethods = new HashSet<>();
+        Set<String> imports = new TreeSet<>();
+
+        imports.add("com.fasterxml.jackson.core.JsonParser");
+        imports.add("com.fasterxml.jackson.core.JsonToken");
+        imports.add("com.fasterxml.jackson.databind.DeserializationContext");
+        imports.add("com.fasterxml.jackson.databind.DeserializationFeature");
+        imports.add("com.fasterxml.jackson.databind.deser.std.StdDeserializer");
+        imports.add("java.io.IOException");
+
+        Map<PropertyInfo, PropertyNames> propertyNames = new LinkedHashMap<>();
+        pojoInfo.properties().forEach(propInfo -> {
+            TypeInfo type = propInfo.type();
+            String constant = toConstantName(propInfo.name());
+            String deserializer = getCustomDeserializer(type).orElse(null);
+            String pattern = isNull(deserializer) ? getFormatPattern(type).orElse(null) : null;
+            boolean needsJavaType = isNull(deserializer) && (nonNull(type.itemType()) || nonNull(type.keyType()));
+            String readMethod = uniqueName("read" + capitalize(propInfo.name()), usedMethods);
+
+            propertyNames.put(propInfo, new PropertyNames(
+                uniqueName(constant, usedConstants),
+                uniqueName(propInfo.name(), usedVariables),
+                readMethod,
+                isNull(deserializer) && isDirectArray(type) ? uniqueName(readMethod + "Item", usedMethods) : null,
+                nonNull(deserializer) ? uniqueName(constant + "_DESERIALIZER", usedConstants) : null,
+                nonNull(pattern) ? uniqueName(constant + "_FORMATTER", usedConstants) : null,
+                needsJavaType ? uniqueName(constant + "_TYPE", usedConstants) : null
+            ));
+
+            addTypeImports(type, imports);
+            if (nonNull(deserializer)) {
+                imports.add(deserializer);
+            }
+            if (nonNull(pattern)) {
+                imports.add("java.time.format.DateTimeFormatter");
+            }
+            if (needsJavaType) {
+                imports.add("com.fasterxml.jackson.core.type.TypeReference");
+                imports.add("com.fasterxml.jackson.databind.JavaType");
+                imports.add("com.fasterxml.jackson.databind.type.TypeFactory");
+            }
+            if (isNull(deserializer) && isDirectArray(type)) {
+                imports.add(type.name().equals("Set") ? "java.util.LinkedHashSet" : "java.util.ArrayList");
+            }
+        });
+
+        writeLine("package %s;", opts.getModelPackage(pojoInfo.modelSubpackage()));
+        writeNewLine();
+        writeImports(imports, opts.getModelPackage(pojoInfo.modelSubpackage()));
+
+        if (isAnyDeprecated(pojoInfo)) {
+            writeLine("@SuppressWarnings(\"deprecation\")");
+        }
+        writeLine("public class %s extends StdDeserializer<%s> {", deserializerName, pojoName);
+
+        writeConstants(propertyNames);
+
+        writeNewLine();
+        writeIndent(1);
+        writeLine("public %s() {", deserializerName);
+        writeIndent(2);
+        writeLine("super(%s.class);", pojoName);
+        writeIndent(1);
+        writeLine("}");
+
+        writeDeserializeMethod(pojoName, propertyNames);
+
+        propertyNames.forEach((propInfo, names) -> writeReadMethods(propInfo.type(), names));
+
+        writeLine("}");
+    }
+
+    private void writeImports(Set<String> imports, String pojoPackage) {
+        imports.stream()
+            .filter(not(PackageUtils::isJavaPackage))
+            .filter(i -> !isFqnInPackage(i, pojoPackage))
+            .forEach(i -> writeLine("import %s;", i));
+        writeNewLine();
+        imports.stream()
+            .filter(PackageUtils::isJavaPackage)
+            .filter(not(PackageUtils::isFundamentalJavaClass))
+            .forEach(i -> writeLine("import %s;", i));
+        writeNewLine();
+    }
+
+    private void writeConstants(Map<PropertyInfo, PropertyNames> propertyNames) {
+        if (propertyNames.isEmpty()) {
+            return;
+        }
+
+        writeNewLine();
+        propertyNames.forEach((propInfo, names) -> {
+            writeIndent(1);
+            writeLine("private static final String %s = \"%s\";", names.nameConstant(), propInfo.name());
+        });
+
+        List<String> valueConstants = propertyNames.entrySet().stream()
+            .flatMap(e -> {
+                PropertyInfo propInfo = e.getKey();
+                PropertyNames names = e.getValue();
+                TypeInfo type = propInfo.type();
+                List<String> constants = new ArrayList<>();
+                if (nonNull(names.deserializerConstant())) {
+                    String className = getClassNameFromFqn(getCustomDeserializer(type).orElseThrow());
+                    constants.add("private static final %s %s = new %s();".formatted(className, names.deserializerConstant(), className));
+                }
+                if (nonNull(names.formatterConstant())) {
+                    constants.add("private static final DateTimeFormatter %s = DateTimeFormatter.ofPattern(%s);".formatted(names.formatterConstant(), getFormatPattern(type).orElseThrow()));
+                }
+                if (nonNull(names.typeConstant())) {
+                    constants.add("private static final JavaType %s = TypeFactory.defaultInstance().constructType(new TypeReference<%s>() {});".formatted(names.typeConstant(), type.getFullName()));
+                }
+                return constants.stream();
+            })
+            .toList();
+
+        if (nonEmpty(valueConstants)) {
+            writeNewLine();
+            valueConstants.forEach(c -> {
+                writeIndent(1);
+                writeLine(c);
+            });
+        }
+    }
+
+    private void writeDeserializeMethod(String pojoName, Map<PropertyInfo, PropertyNames> propertyNames) {
+        writeNewLine();
+        writeIndent(1);
+        writeLine("@Override");
+        writeIndent(1);
+        writeLine("public %s deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {", pojoName);
+        writeIndent(2);
+        writeLine("String propertyName;");
+        writeIndent(2);
+        writeLine("if (p.isExpectedStartObjectToken()) {");
+        writeIndent(3);
+        writeLine("propertyName = p.nextFieldName();");
+        writeIndent(2);
+        writeLine("} else if (p.hasToken(JsonToken.FIELD_NAME)) {");
+        writeIndent(3);
+        writeLine("propertyName = p.currentName();");
+        writeIndent(2);
+        writeLine("} else if (p.hasToken(JsonToken.END_OBJECT)) {");
+        writeIndent(3);
+        writeLine("propertyName = null;");
+        writeIndent(2);
+        writeLine("} else {");
+        writeIndent(3);
+        writeLine("return (%s) ctxt.handleUnexpectedToken(%s.class, p);", pojoName, pojoName);
+        writeIndent(2);
+        writeLine("}");
+
+        if (!propertyNames.isEmpty()) {
+            writeNewLine();
+            propertyNames.forEach((propInfo, names) -> {
+                writeIndent(2);
+                writeLine("%s %s = %s;", propInfo.type().getFullName(), names.variable(), getDefaultValue(propInfo.type()));
+            });
+
+            writeNewLine();
+            writeIndent(2);
+            writeLine("// Fast path: properties arriving in declared order are matched by a single comparison each");
+            propertyNames.forEach((propInfo, names) -> {
+                writeIndent(2);
+                writeLine("if (%s.equals(propertyName)) {", names.nameConstant());
+                writeIndent(3);
+                writeLine("p.nextToken();");
+                writeIndent(3);
+                writeLine("%s = %s(p, ctxt);", names.variable(), names.readMethod());
+                writeIndent(3);
+                writeLine("propertyName = p.nextFieldName();");
+                writeIndent(2);
+                writeLine("}");
+            });
+        }
+
+        writeNewLine();
+        writeIndent(2);
+        writeLine("// Remaining properties, in any order");
+        writeIndent(2);
+        writeLine("while (propertyName != null) {");
+        writeIndent(3);
+        writeLine("p.nextToken();");
+        writeIndent(3);
+        writeLine("switch (propertyName) {");
+        propertyNames.forEach((propInfo, names) -> {
+            writeIndent(4);
+            writeLine("case %s:", names.nameConstant());
+            writeIndent(5);
+            writeLine("%s = %s(p, ctxt);", names.variable(), names.readMethod());
+            writeIndent(5);
+            writeLine("break;");
+        });
+        writeIndent(4);
+        writeLine("default:");
+        writeIndent(5);
+        writeLine("if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {");
+        writeIndent(6);
+        writeLine("handleUnknownProperty(p, ctxt, %s.class, propertyName);", pojoName);
+        writeIndent(5);
+        writeLine("} else {");
+        writeIndent(6);
+        writeLine("p.skipChildren();");
+        writeIndent(5);
+        writeLine("}");
+        writeIndent(3);
+        writeLine("}");
+        writeIndent(3);
+        writeLine("propertyName = p.nextFieldName();");
+        writeIndent(2);
+        writeLine("}");
+
+        writeNewLine();
+        writeIndent(2);
+        writeLine("return new %s(%s);", pojoName, propertyNames.values().stream().map(PropertyNames::variable).collect(joining(", ")));
+        writeIndent(1);
+        writeLine("}");
+    }
+
+    private void writeReadMethods(TypeInfo type, PropertyNames names) {
+        boolean isDirectArray = nonNull(names.itemReadMethod());
+
+        writeNewLine();
+        writeIndent(1);
+        writeLine("private static %s %s(JsonParser p, DeserializationContext ctxt) throws IOException {", type.getFullName(), names.readMethod());
+        if (!isJavaPrimitive(type.name())) {
+            writeIndent(2);
+            writeLine("if (p.hasToken(JsonToken.VALUE_NULL)) {");
+            writeIndent(3);
+            writeLine("return null;");
+            writeIndent(2);
+            writeLine("}");
+        }
+
+        if (nonNull(names.deserializerConstant())) {
+            writeIndent(2);
+            writeLine("return %s.deserialize(p, ctxt);", names.deserializerConstant());
+        } else if (nonNull(names.formatterConstant())) {
+            writeIndent(2);
+            writeLine("if (p.hasToken(JsonToken.VALUE_STRING)) {");
+            writeIndent(3);
+            writeLine("return %s.parse(p.getText(), %s::from);", names.formatterConstant(), type.name());
+            writeIndent(2);
+            writeLine("}");
+            writeIndent(2);
+            writeLine("return ctxt.readValue(p, %s.class);", type.name());
+        } else if (isDirectArray) {
+            String collectionClass = type.name().equals("Set") ? "LinkedHashSet" : "ArrayList";
+            writeIndent(2);
+            writeLine("if (p.isExpectedStartArrayToken()) {");
+            writeIndent(3);
+            writeLine("%s values = new %s<>();", type.getFullName(), collectionClass);
+            writeIndent(3);
+            writeLine("while (p.nextToken() != JsonToken.END_ARRAY) {");
+            writeIndent(4);
+            writeLine("values.add(%s(p, ctxt));", names.itemReadMethod());
+            writeIndent(3);
+            writeLine("}");
+            writeIndent(3);
+            writeLine("return values;");
+            writeIndent(2);
+            writeLine("}");
+            writeIndent(2);
+            writeLine("return ctxt.readValue(p, %s);", names.typeConstant());
+        } else if (isDirectScalar(type)) {
+            writeDirectScalarRead(type);
+        } else if (nonNull(names.typeConstant())) {
+            writeIndent(2);
+            writeLine("return ctxt.readValue(p, %s);", names.typeConstant());
+        } else {
+            // Nested pojos, enums and unformatted dates are handled by their registered deserializers
+            writeIndent(2);
+            writeLine("return ctxt.readValue(p, %s.class);", type.name());
+        }
+
+        writeIndent(1);
+        writeLine("}");
+
+        if (isDirectArray) {
+            writeReadMethods(type.itemType(), new PropertyNames(null, null, names.itemReadMethod(), null, null, null, null));
+        }
+    }
+
+    private void writeDirectScalarRead(TypeInfo type) {
+        String name = type.name();
+        String expectedToken;
+        String value;
+        if ("String".equals(name)) {
+            expectedToken = "p.hasToken(JsonToken.VALUE_STRING)";
+            value = "p.getText()";
+        } else if ("Byte".equals(name) || "byte".equals(name)) {
+            expectedToken = "p.hasToken(JsonToken.VALUE_NUMBER_INT)";
+            value = "p.getByteValue()";
+        } else if ("Short".equals(name) || "short".equals(name)) {
+            expectedToken = "p.hasToken(JsonToken.VALUE_NUMBER_INT)";
+            value = "p.getShortValue()";
+        } else if ("Integer".equals(name) || "int".equals(name)) {
+            expectedToken = "p.hasToken(JsonToken.VALUE_NUMBER_INT)";
+            value = "p.getIntValue()";
+        } else if ("Long".equals(name) || "long".equals(name)) {
+            expectedToken = "p.hasToken(JsonToken.VALUE_NUMBER_INT)";
+            value = "p.getLongValue()";
+        } else if (DECIMAL_TYPES.contains(name)) {
+            expectedToken = "p.currentToken().isNumeric()";
+            value = switch (name) {
+                case "Float", "float" -> "p.getFloatValue()";
+                case "BigDecimal" -> "p.getDecimalValue()";
+                default -> "p.getDoubleValue()";
+            };
+        } else if (BOOLEAN_TYPES.contains(name)) {
+            expectedToken = "p.currentToken().isBoolean()";
+            value = "p.getBooleanValue()";
+        } else if ("URI".equals(name)) {
+            expectedToken = "p.hasToken(JsonToken.VALUE_STRING)";
+            value = "URI.create(p.getText())";
+        } else if ("UUID".equals(name)) {
+            expectedToken = "p.hasToken(JsonToken.VALUE_STRING)";
+            value = "UUID.fromString(p.getText())";
+        } else {
+            expectedToken = "p.hasToken(JsonToken.VALUE_STRING)";
+            value = "p.getBinaryValue(ctxt.getBase64Variant())";
+        }
+
+        writeIndent(2);
+        writeLine("if (%s) {", expectedToken);
+        writeIndent(3);
+        writeLine("return %s;", value);
+        writeIndent(2);
+        writeLine("}");
+        // Other tokens are coerced, or reported, according to the mapper configuration
+        writeIndent(2);
+        writeLine("return ctxt.readValue(p, %s.class);", name);
+    }
+
+    private static String getDefaultValue(TypeInfo type) {
+        return switch (type.name()) {
+            case "byte", "short", "int", "long", "double", "float" -> "0";
+            case "boolean" -> "false";
+            default -> "null";
+        };
+    }
+
+    private static String capitalize(String name) {
+        return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * The names generated for a property.
+     */
+    private record PropertyNames(String nameConstant, String variable, String readMethod, String itemReadMethod, String deserializerConstant, String formatterConstant, String typeConstant) {
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.writers.java;
+
+import io.github.torand.jsonschema2java.generators.Options;
+import io.github.torand.jsonschema2java.model.PojoInfo;
+import io.github.torand.jsonschema2java.model.PropertyInfo;
+import io.github.torand.jsonschema2java.model.TypeInfo;
+import io.github.torand.jsonschema2java.utils.PackageUtils;
+import io.github.torand.jsonschema2java.writers.BaseWriter;
+import io.github.torand.jsonschema2java.writers.JsonSerializerWriter;
+
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.github.torand.javacommons.collection.CollectionHelper.nonEmpty;
+import static io.github.torand.jsonschema2java.utils.PackageUtils.getClassNameFromFqn;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.BOOLEAN_TYPES;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.DECIMAL_TYPES;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.INTEGER_TYPES;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.STREAMED_ARRAY_TYPES;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.STRING_VALUE_TYPES;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.getCustomSerializer;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.getFormatPattern;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.isAnyDeprecated;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.isDirectArray;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.isJavaPrimitive;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.toConstantName;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.uniqueName;
+import static java.util.Objects.nonNull;
+import static java.util.function.Predicate.not;
+
+/**
+ * Writes Java code for a Jackson serializer of a pojo.
+ * <p>
+ * The serializer writes each property directly to the {@code JsonGenerator} using precomputed property names,
+ * delegating to the serializer provider only for values without a direct streaming representation.
+ */
+public class JavaJsonSerializerWriter extends BaseWriter implements JsonSerializerWriter {
+
+    public JavaJsonSerializerWriter(Writer writer, Options opts) {
+        super(writer, opts);
+    }
+
+    @Override
+    public void write(PojoInfo pojoInfo) {
+        String pojoName = pojoInfo.name();
+        String serializerName = pojoName + CLASS_NAME_SUFFIX;
+
+        Map<PropertyInfo, String> nameConstants = new LinkedHashMap<>();
+        Map<PropertyInfo, String> formatterConstants = new LinkedHashMap<>();
+        Map<PropertyInfo, String> customSerializerConstants = new LinkedHashMap<>();
+        Set<String> usedConstants = new HashSet<>();
+        Set<String> imports = new TreeSet<>();
+
+        imports.add("com.fasterxml.jackson.core.JsonGenerator");
+        imports.add("com.fasterxml.jackson.core.io.SerializedString");
+        imports.add("com.fasterxml.jackson.databind.SerializerProvider");
+        imports.add("com.fasterxml.jackson.databind.ser.std.StdSerializer");
+        imports.add("com.fasterxml.jackson.annotation.JsonInclude");
+
+        pojoInfo.properties().forEach(propInfo -> {
+            String constant = toConstantName(propInfo.name());
+            nameConstants.put(propInfo, uniqueName(constant, usedConstants));
+
+            getCustomSerializer(propInfo.type()).ifPresent(fqn -> {
+                customSerializerConstants.put(propInfo, uniqueName(constant + "_SERIALIZER", usedConstants));
+                imports.add(fqn);
+            });
+
+            if (!customSerializerConstants.containsKey(propInfo) && getFormatPattern(propInfo.type()).isPresent()) {
+                formatterConstants.put(propInfo, uniqueName(constant + "_FORMATTER", usedConstants));
+                imports.add("java.time.format.DateTimeFormatter");
+            }
+
+            if (!customSerializerConstants.containsKey(propInfo) && isDirectArray(propInfo.type())) {
+                propInfo.type().itemType().imports().normalImports().stream()
+                    .filter(PackageUtils::isJavaPackage)
+                    .forEach(imports::add);
+            }
+        });
+
+        imports.add("java.io.IOException");
+
+        writeLine("package %s;", opts.getModelPackage(pojoInfo.modelSubpackage()));
+        writeNewLine();
+        writeImports(imports);
+
+        if (isAnyDeprecated(pojoInfo)) {
+            writeLine("@SuppressWarnings(\"deprecation\")");
+        }
+        writeLine("public class %s extends StdSerializer<%s> {", serializerName, pojoName);
+
+        if (nonEmpty(pojoInfo.properties())) {
+            writeNewLine();
+            nameConstants.forEach((propInfo, constant) -> {
+                writeIndent(1);
+                writeLine("private static final SerializedString %s = new SerializedString(\"%s\");", constant, propInfo.name());
+            });
+        }
+
+        if (!formatterConstants.isEmpty() || !customSerializerConstants.isEmpty()) {
+            writeNewLine();
+            formatterConstants.forEach((propInfo, constant) -> {
+                writeIndent(1);
+                writeLine("private static final DateTimeFormatter %s = DateTimeFormatter.ofPattern(%s);", constant, getFormatPattern(propInfo.type()).orElseThrow());
+            });
+            customSerializerConstants.forEach((propInfo, constant) -> {
+                String serializerClassName = getClassNameFromFqn(getCustomSerializer(propInfo.type()).orElseThrow());
+                writeIndent(1);
+                writeLine("private static final %s %s = new %s();", serializerClassName, constant, serializerClassName);
+            });
+        }
+
+        writeNewLine();
+        writeIndent(1);
+        writeLine("public %s() {", serializerName);
+        writeIndent(2);
+        writeLine("super(%s.class);", pojoName);
+        writeIndent(1);
+        writeLine("}");
+
+        writeNewLine();
+        writeIndent(1);
+        writeLine("@Override");
+        writeIndent(1);
+        writeLine("public void serialize(%s value, JsonGenerator gen, SerializerProvider provider) throws IOException {", pojoName);
+        if (nonEmpty(pojoInfo.properties())) {
+            writeIndent(2);
+            writeLine("JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();");
+            writeIndent(2);
+            writeLine("boolean writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;");
+        }
+        writeIndent(2);
+        writeLine("gen.writeStartObject(value);");
+        pojoInfo.properties().forEach(propInfo ->
+            writeProperty(propInfo, nameConstants.get(propInfo), formatterConstants.get(propInfo), customSerializerConstants.get(propInfo))
+        );
+        writeIndent(2);
+        writeLine("gen.writeEndObject();");
+        writeIndent(1);
+        writeLine("}");
+        writeLine("}");
+    }
+
+    private void writeImports(Set<String> imports) {
+        imports.stream()
+            .filter(not(PackageUtils::isJavaPackage))
+            .forEach(i -> writeLine("import %s;", i));
+        writeNewLine();
+        imports.stream()
+            .filter(PackageUtils::isJavaPackage)
+            .filter(not(PackageUtils::isFundamentalJavaClass))
+            .forEach(i -> writeLine("import %s;", i));
+        writeNewLine();
+    }
+
+    private void writeProperty(PropertyInfo propInfo, String nameConstant, String formatterConstant, String customSerializerConstant) {
+        TypeInfo type = propInfo.type();
+        String accessor = opts.pojosAsRecords() ? "value.%s()".formatted(propInfo.name()) : "value.%s".formatted(propInfo.name());
+
+        if (isJavaPrimitive(type.name())) {
+            writeIndent(2);
+            writeLine("gen.writeFieldName(%s);", nameConstant);
+            writeValue(2, type, accessor, formatterConstant, customSerializerConstant);
+            return;
+        }
+
+        writeIndent(2);
+        writeLine("if (%s != null) {", accessor);
+        writeIndent(3);
+        writeLine("gen.writeFieldName(%s);", nameConstant);
+        writeValue(3, type, accessor, formatterConstant, customSerializerConstant);
+        writeIndent(2);
+        writeLine("} else if (writeNulls) {");
+        writeIndent(3);
+        writeLine("gen.writeFieldName(%s);", nameConstant);
+        writeIndent(3);
+        writeLine("gen.writeNull();");
+        writeIndent(2);
+        writeLine("}");
+    }
+
+    private void writeValue(int indent, TypeInfo type, String valueExpr, String formatterConstant, String customSerializerConstant) {
+        if (nonNull(customSerializerConstant)) {
+            writeIndent(indent);
+            writeLine("%s.serialize(%s, gen, provider);", customSerializerConstant, valueExpr);
+        } else if (nonNull(formatterConstant)) {
+            writeIndent(indent);
+            writeLine("gen.writeString(%s.format(%s));", formatterConstant, valueExpr);
+        } else if (isDirectArray(type)) {
+            TypeInfo itemType = type.itemType();
+            writeIndent(indent);
+            writeLine("gen.writeStartArray();");
+            writeIndent(indent);
+            writeLine("for (%s item : %s) {", itemType.name(), valueExpr);
+            writeIndent(indent + 1);
+            writeLine("if (item == null) {");
+            writeIndent(indent + 2);
+            writeLine("gen.writeNull();");
+            writeIndent(indent + 1);
+            writeLine("} else {");
+            writeValue(indent + 2, itemType, "item", null, null);
+            writeIndent(indent + 1);
+            writeLine("}");
+            writeIndent(indent);
+            writeLine("}");
+            writeIndent(indent);
+            writeLine("gen.writeEndArray();");
+        } else {
+            writeIndent(indent);
+            writeLine(getScalarWriteStatement(type, valueExpr));
+        }
+    }
+
+    private static String getScalarWriteStatement(TypeInfo type, String valueExpr) {
+        if ("String".equals(type.name())) {
+            return "gen.writeString(%s);".formatted(valueExpr);
+        } else if (INTEGER_TYPES.contains(type.name()) || DECIMAL_TYPES.contains(type.name())) {
+            return "gen.writeNumber(%s);".formatted(valueExpr);
+        } else if (BOOLEAN_TYPES.contains(type.name())) {
+            return "gen.writeBoolean(%s);".formatted(valueExpr);
+        } else if (STRING_VALUE_TYPES.contains(type.name())) {
+            return "gen.writeString(%s.toString());".formatted(valueExpr);
+        } else if ("byte[]".equals(type.name())) {
+            return "gen.writeBinary(%s);".formatted(valueExpr);
+        } else if (STREAMED_ARRAY_TYPES.contains(type.name())) {
+            return "gen.writeArray(%s, 0, %s.length);".formatted(valueExpr, valueExpr);
+        } else {
+            // Nested pojos, enums, maps, unformatted dates and short or float arrays are handled by their registered serializers
+            return "provider.defaultSerializeValue(%s, gen);".formatted(valueExpr);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import io.github.torand.jsonschema2java.writers.PojoWriter;
 
 import java.io.Writer;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
@@ -47,8 +48,9 @@ public class JavaPojoWriter extends BaseWriter implements PojoWriter {
         writeLine("package %s;", opts.getModelPackage(pojoInfo.modelSubpackage()));
         writeNewLine();
 
-        writeNonJavaImports(pojoInfo);
-        writeJavaImports(pojoInfo);
+        Set<String> aggregatedImports = pojoInfo.aggregatedNormalImports();
+        writeNonJavaImports(pojoInfo, aggregatedImports);
+        writeJavaImports(aggregatedImports);
 
         if (pojoInfo.isDeprecated()) {
             writeLine("/// @deprecated %s".formatted(pojoInfo.deprecationMessage()));
@@ -95,8 +97,8 @@ public class JavaPojoWriter extends BaseWriter implements PojoWriter {
         }
     }
 
-    private void writeJavaImports(PojoInfo pojoInfo) {
-        List<String> imports = pojoInfo.aggregatedNormalImports().stream()
+    private void writeJavaImports(Set<String> aggregatedImports) {
+        List<String> imports = aggregatedImports.stream()
             .filter(PackageUtils::isJavaPackage)
             .filter(not(PackageUtils::isFundamentalJavaClass))
             .map("import %s;"::formatted)
@@ -108,10 +110,10 @@ public class JavaPojoWriter extends BaseWriter implements PojoWriter {
         }
     }
 
-    private void writeNonJavaImports(PojoInfo pojoInfo) {
+    private void writeNonJavaImports(PojoInfo pojoInfo, Set<String> aggregatedImports) {
         Predicate<String> isInSamePackage = fqn -> isFqnInPackage(fqn, opts.getModelPackage(pojoInfo.modelSubpackage()));
 
-        List<String> imports = pojoInfo.aggregatedNormalImports().stream()
+        List<String> imports = aggregatedImports.stream()
             .filter(not(PackageUtils::isJavaPackage))
             .filter(not(isInSamePackage))
             .map("import %s;"::formatted)
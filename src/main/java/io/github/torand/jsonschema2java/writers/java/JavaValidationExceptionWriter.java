@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.writers.java;
+
+import io.github.torand.jsonschema2java.generators.Options;
+import io.github.torand.jsonschema2java.writers.BaseWriter;
+import io.github.torand.jsonschema2java.writers.ValidationExceptionWriter;
+
+import java.io.Writer;
+
+/**
+ * Writes Java code for the exception thrown by the generated validators.
+ * <p>
+ * The exception does not capture a stack trace, as the violations fully describe the failure.
+ */
+public class JavaValidationExceptionWriter extends BaseWriter implements ValidationExceptionWriter {
+
+    public JavaValidationExceptionWriter(Writer writer, Options opts) {
+        super(writer, opts);
+    }
+
+    @Override
+    public void write() {
+        writeLine("package %s;", opts.getModelPackage(null));
+        writeNewLine();
+        writeLine("import java.util.List;");
+        writeNewLine();
+
+        writeLine("public class %s extends RuntimeException {", CLASS_NAME);
+        writeNewLine();
+        writeIndent(1);
+        writeLine("private final transient List<Violation> violations;");
+        writeNewLine();
+        writeIndent(1);
+        writeLine("public %s(List<Violation> violations) {", CLASS_NAME);
+        writeIndent(2);
+        writeLine("super(\"Constraint violations: \" + violations, null, false, false);");
+        writeIndent(2);
+        writeLine("this.violations = List.copyOf(violations);");
+        writeIndent(1);
+        writeLine("}");
+        writeNewLine();
+        writeIndent(1);
+        writeLine("public List<Violation> getViolations() {");
+        writeIndent(2);
+        writeLine("return violations;");
+        writeIndent(1);
+        writeLine("}");
+        writeNewLine();
+
+        writeIndent(1);
+        writeLine("public static final class Violation {");
+        writeIndent(2);
+        writeLine("private final String path;");
+        writeIndent(2);
+        writeLine("private final String message;");
+        writeNewLine();
+        writeIndent(2);
+        writeLine("public Violation(String path, String message) {");
+        writeIndent(3);
+        writeLine("this.path = path;");
+        writeIndent(3);
+        writeLine("this.message = message;");
+        writeIndent(2);
+        writeLine("}");
+        writeNewLine();
+        writeIndent(2);
+        writeLine("public String path() {");
+        writeIndent(3);
+        writeLine("return path;");
+        writeIndent(2);
+        writeLine("}");
+        writeNewLine();
+        writeIndent(2);
+        writeLine("public String message() {");
+        writeIndent(3);
+        writeLine("return message;");
+        writeIndent(2);
+        writeLine("}");
+        writeNewLine();
+        writeIndent(2);
+        writeLine("@Override");
+        writeIndent(2);
+        writeLine("public String toString() {");
+        writeIndent(3);
+        writeLine("return path + \": \" + message;");
+        writeIndent(2);
+        writeLine("}");
+        writeIndent(1);
+        writeLine("}");
+        writeLine("}");
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.writers.java;
+
+import io.github.torand.jsonschema2java.generators.Options;
+import io.github.torand.jsonschema2java.model.AnnotationInfo;
+import io.github.torand.jsonschema2java.model.PojoInfo;
+import io.github.torand.jsonschema2java.model.PropertyInfo;
+import io.github.torand.jsonschema2java.model.TypeInfo;
+import io.github.torand.jsonschema2java.utils.PackageUtils;
+import io.github.torand.jsonschema2java.writers.BaseWriter;
+import io.github.torand.jsonschema2java.writers.ValidatorWriter;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.github.torand.jsonschema2java.utils.PackageUtils.getClassNameFromFqn;
+import static io.github.torand.jsonschema2java.writers.ValidationExceptionWriter.CLASS_NAME;
+import static io.github.torand.jsonschema2java.writers.ValidationExceptionWriter.VIOLATION_CLASS_NAME;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.addTypeImports;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.isAnyDeprecated;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.isJavaPrimitive;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.toConstantName;
+import static io.github.torand.jsonschema2java.writers.java.JacksonWriterSupport.uniqueName;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.function.Predicate.not;
+
+/**
+ * Writes Java code for a validator of a pojo.
+ * <p>
+ * The validator checks the Jakarta Bean Validation constraints attached to the pojo properties with plain field
+ * checks and precompiled patterns, cascading into the validators of nested pojos. Custom constraint annotations
+ * and @Email are not evaluated, the latter as its address syntax is defined by the Bean Validation provider.
+ */
+public class JavaValidatorWriter extends BaseWriter implements ValidatorWriter {
+
+    private static final Pattern SIZE_MIN = Pattern.compile("min = (\\d+)");
+    private static final Pattern SIZE_MAX = Pattern.compile("max = (\\d+)");
+
+    private static final String PATTERN_ANNOTATION = "@Pattern(regexp = ";
+
+    // Types are compared by value, so identically constrained properties share their compiled pattern
+    private final Map<TypeInfo, String> patternConstants = new LinkedHashMap<>();
+
+    public JavaValidatorWriter(Writer writer, Options opts) {
+        super(writer, opts);
+    }
+
+    @Override
+    public void write(PojoInfo pojoInfo) {
+        String pojoName = pojoInfo.name();
+        String validatorName = pojoName + CLASS_NAME_SUFFIX;
+        String pojoPackage = opts.getModelPackage(pojoInfo.modelSubpackage());
+        String rootPackage = opts.getModelPackage(null);
+
+        Set<String> usedConstants = new HashSet<>();
+        Set<String> imports = new TreeSet<>();
+        imports.add("java.util.ArrayList");
+        imports.add("java.util.List");
+        if (!pojoPackage.equals(rootPackage)) {
+            imports.add(rootPackage + "." + CLASS_NAME);
+        }
+
+        pojoInfo.properties().forEach(propInfo ->
+            collectConstants(propInfo.type(), toConstantName(propInfo.name()), usedConstants, imports)
+        );
+
+        writeLine("package %s;", pojoPackage);
+        writeNewLine();
+        writeImports(imports, pojoPackage);
+
+        if (isAnyDeprecated(pojoInfo)) {
+            writeLine("@SuppressWarnings(\"deprecation\")");
+        }
+        writeLine("public final class %s {", validatorName);
+
+        if (!patternConstants.isEmpty()) {
+            writeNewLine();
+            patternConstants.forEach((type, constant) -> {
+                writeIndent(1);
+                writeLine("private static final Pattern %s = Pattern.compile(%s);", constant, getPatternRegexp(type).orElseThrow());
+            });
+        }
+
+        writeNewLine();
+        writeIndent(1);
+        writeLine("private %s() {", validatorName);
+        writeIndent(1);
+        writeLine("}");
+
+        writeNewLine();
+        writeIndent(1);
+        writeLine("public static List<%s> validate(%s value) {", VIOLATION_CLASS_NAME, pojoName);
+        writeIndent(2);
+        writeLine("List<%s> violations = new ArrayList<>();", VIOLATION_CLASS_NAME);
+        writeIndent(2);
+        writeLine("validate(value, \"\", violations);");
+        writeIndent(2);
+        writeLine("return violations;");
+        writeIndent(1);
+        writeLine("}");
+
+        writeNewLine();
+        writeIndent(1);
+        writeLine("public static void validateOrThrow(%s value) {", pojoName);
+        writeIndent(2);
+        writeLine("List<%s> violations = validate(value);", VIOLATION_CLASS_NAME);
+        writeIndent(2);
+        writeLine("if (!violations.isEmpty()) {");
+        writeIndent(3);
+        writeLine("throw new %s(violations);", CLASS_NAME);
+        writeIndent(2);
+        writeLine("}");
+        writeIndent(1);
+        writeLine("}");
+
+        writeNewLine();
+        writeIndent(1);
+        writeLine("public static void validate(%s value, String path, List<%s> violations) {", pojoName, VIOLATION_CLASS_NAME);
+        pojoInfo.properties().forEach(propInfo -> writeProperty(propInfo));
+        writeIndent(1);
+        writeLine("}");
+        writeLine("}");
+    }
+
+    private void collectConstants(TypeInfo type, String constant, Set<String> usedConstants, Set<String> imports) {
+        if (getPatternRegexp(type).isPresent()) {
+            patternConstants.computeIfAbsent(type, t -> uniqueName(constant + "_PATTERN", usedConstants));
+            imports.add("java.util.regex.Pattern");
+        }
+        if (!isJavaPrimitive(type.name()) && (getAnnotation(type, "@Min(").isPresent() || getAnnotation(type, "@Max(").isPresent())) {
+            // The limit of a BigDecimal comparison is created by the value type itself
+            addTypeImports(type, imports);
+        }
+        if (isCascaded(type)) {
+            type.imports().normalImports().stream()
+                .filter(fqn -> getClassNameFromFqn(fqn).equals(type.name()))
+                .forEach(fqn -> imports.add(fqn + CLASS_NAME_SUFFIX));
+        }
+        if (nonNull(type.itemType()) && hasConstraints(type.itemType())) {
+            addTypeImports(type, imports);
+            collectConstants(type.itemType(), constant + "_ITEM", usedConstants, imports);
+        }
+    }
+
+    private void writeImports(Set<String> imports, String pojoPackage) {
+        List<String> nonJavaImports = imports.stream()
+            .filter(not(PackageUtils::isJavaPackage))
+            .filter(i -> !i.equals(pojoPackage + "." + getClassNameFromFqn(i)))
+            .toList();
+        if (!nonJavaImports.isEmpty()) {
+            nonJavaImports.forEach(i -> writeLine("import %s;", i));
+            writeNewLine();
+        }
+        imports.stream()
+            .filter(PackageUtils::isJavaPackage)
+            .filter(not(PackageUtils::isFundamentalJavaClass))
+            .forEach(i -> writeLine("import %s;", i));
+        writeNewLine();
+    }
+
+    private void writeProperty(PropertyInfo propInfo) {
+        TypeInfo type = propInfo.type();
+        if (!hasConstraints(type)) {
+            return;
+        }
+        String accessor = opts.pojosAsRecords() ? "value.%s()".formatted(propInfo.name()) : "value.%s".formatted(propInfo.name());
+        writeChecks(2, 1, type, accessor, "path + \"%s\"".formatted(propInfo.name()));
+    }
+
+    private void writeChecks(int indent, int depth, TypeInfo type, String valueExpr, String pathExpr) {
+        if (isJavaPrimitive(type.name())) {
+            writeValueChecks(indent, depth, type, valueExpr, pathExpr);
+            return;
+        }
+
+        boolean notBlank = hasAnnotation(type, "@NotBlank");
+        boolean notEmpty = hasAnnotation(type, "@NotEmpty");
+
+        writeIndent(indent);
+        if (notBlank || notEmpty || hasAnnotation(type, "@NotNull")) {
+            writeLine("if (%s == null) {", valueExpr);
+            writeViolation(indent + 1, pathExpr, notBlank ? "must not be blank" : notEmpty ? "must not be empty" : "must not be null");
+            if (!hasValueConstraints(type)) {
+                writeIndent(indent);
+                writeLine("}");
+                return;
+            }
+            writeIndent(indent);
+            writeLine("} else {");
+        } else {
+            writeLine("if (%s != null) {", valueExpr);
+        }
+        writeValueChecks(indent + 1, depth, type, valueExpr, pathExpr);
+        writeIndent(indent);
+        writeLine("}");
+    }
+
+    private void writeValueChecks(int indent, int depth, TypeInfo type, String valueExpr, String pathExpr) {
+        boolean notBlank = hasAnnotation(type, "@NotBlank");
+        boolean notEmpty = hasAnnotation(type, "@NotEmpty");
+        if (notBlank) {
+            writeCheck(indent, "%s.isBlank()".formatted(valueExpr), pathExpr, "must not be blank");
+        }
+        if (notEmpty) {
+            writeCheck(indent, "%s.length == 0".formatted(valueExpr), pathExpr, "must not be empty");
+        }
+        getAnnotation(type, "@Size(").ifPresent(size -> {
+            String sizeExpr = type.name().endsWith("[]") ? valueExpr + ".length"
+                : "String".equals(type.name()) ? valueExpr + ".length()"
+                : valueExpr + ".size()";
+            String min = findGroup(SIZE_MIN, size).orElse("0");
+            String max = findGroup(SIZE_MAX, size).orElse(Integer.toString(Integer.MAX_VALUE));
+            List<String> conditions = new ArrayList<>();
+            if (!"0".equals(min)) {
+                conditions.add("%s < %s".formatted(sizeExpr, min));
+            }
+            if (!Integer.toString(Integer.MAX_VALUE).equals(max)) {
+                conditions.add("%s > %s".formatted(sizeExpr, max));
+            }
+            if (!conditions.isEmpty()) {
+                writeCheck(indent, String.join(" || ", conditions), pathExpr, "size must be between %s and %s".formatted(min, max));
+            }
+        });
+        if (patternConstants.containsKey(type)) {
+            String constant = patternConstants.get(type);
+            writeIndent(indent);
+            writeLine("if (!%s.matcher(%s).matches()) {", constant, valueExpr);
+            writeIndent(indent + 1);
+            writeLine("violations.add(new %s(%s, \"must match \\\"\" + %s.pattern() + \"\\\"\"));", VIOLATION_CLASS_NAME, pathExpr, constant);
+            writeIndent(indent);
+            writeLine("}");
+        }
+        getAnnotation(type, "@Min(").ifPresent(minAnnotation -> {
+            String min = getAnnotationValue(minAnnotation);
+            writeCheck(indent, getComparison(type, valueExpr, "<", min), pathExpr, "must be greater than or equal to " + min);
+        });
+        getAnnotation(type, "@Max(").ifPresent(maxAnnotation -> {
+            String max = getAnnotationValue(maxAnnotation);
+            writeCheck(indent, getComparison(type, valueExpr, ">", max), pathExpr, "must be less than or equal to " + max);
+        });
+        if (isCascaded(type)) {
+            writeIndent(indent);
+            writeLine("%s%s.validate(%s, %s, violations);", type.name(), CLASS_NAME_SUFFIX, valueExpr, appendToPath(pathExpr, "."));
+        }
+        if (nonNull(type.itemType()) && hasConstraints(type.itemType())) {
+            writeItemChecks(indent, depth, type, valueExpr, pathExpr);
+        }
+    }
+
+    private void writeItemChecks(int indent, int depth, TypeInfo type, String valueExpr, String pathExpr) {
+        TypeInfo itemType = type.itemType();
+        String suffix = depth > 1 ? Integer.toString(depth) : "";
+        if (nonNull(type.keyType())) {
+            String entry = "entry" + suffix;
+            writeIndent(indent);
+            writeLine("for (Map.Entry<%s, %s> %s : %s.entrySet()) {", type.keyType().getFullName(), itemType.getFullName(), entry, valueExpr);
+            writeChecks(indent + 1, depth + 1, itemType, entry + ".getValue()", "%s + %s.getKey() + \"]\"".formatted(appendToPath(pathExpr, "["), entry));
+            writeIndent(indent);
+            writeLine("}");
+        } else {
+            String index = "i" + suffix;
+            String item = "item" + suffix;
+            writeIndent(indent);
+            writeLine("int %s = 0;", index);
+            writeIndent(indent);
+            writeLine("for (%s %s : %s) {", itemType.getFullName(), item, valueExpr);
+            writeChecks(indent + 1, depth + 1, itemType, item, "%s + %s + \"]\"".formatted(appendToPath(pathExpr, "["), index));
+            writeIndent(indent + 1);
+            writeLine("%s++;", index);
+            writeIndent(indent);
+            writeLine("}");
+        }
+    }
+
+    private void writeCheck(int indent, String condition, String pathExpr, String message) {
+        writeIndent(indent);
+        writeLine("if (%s) {", condition);
+        writeViolation(indent + 1, pathExpr, message);
+        writeIndent(indent);
+        writeLine("}");
+    }
+
+    private void writeViolation(int indent, String pathExpr, String message) {
+        writeIndent(indent);
+        writeLine("violations.add(new %s(%s, \"%s\"));", VIOLATION_CLASS_NAME, pathExpr, message);
+    }
+
+    /**
+     * Appends a literal to a path expression, merging it with a trailing string literal.
+     */
+    private static String appendToPath(String pathExpr, String literal) {
+        if (pathExpr.endsWith("\"")) {
+            return pathExpr.substring(0, pathExpr.length() - 1) + literal + "\"";
+        }
+        return "%s + \"%s\"".formatted(pathExpr, literal);
+    }
+
+    private static String getComparison(TypeInfo type, String valueExpr, String operator, String limit) {
+        if ("BigDecimal".equals(type.name())) {
+            return "%s.compareTo(BigDecimal.valueOf(%sL)) %s 0".formatted(valueExpr, limit, operator);
+        }
+        return "%s %s %sL".formatted(valueExpr, operator, limit);
+    }
+
+    /**
+     * Returns whether the type has constraints to check, either directly or on its items.
+     */
+    private static boolean hasConstraints(TypeInfo type) {
+        return type.annotations().stream().map(AnnotationInfo::annotation).anyMatch(JavaValidatorWriter::isConstraint)
+            || (nonNull(type.itemType()) && hasConstraints(type.itemType()));
+    }
+
+    /**
+     * Returns whether the type has constraints on a non-null value.
+     */
+    private static boolean hasValueConstraints(TypeInfo type) {
+        return type.annotations().stream()
+            .map(AnnotationInfo::annotation)
+            .filter(not("@NotNull"::equals))
+            .anyMatch(JavaValidatorWriter::isConstraint)
+            || (nonNull(type.itemType()) && hasConstraints(type.itemType()));
+    }
+
+    private static boolean isConstraint(String annotation) {
+        return annotation.equals("@NotNull") || annotation.equals("@NotBlank") || annotation.equals("@NotEmpty")
+            || annotation.startsWith("@Size(") || annotation.startsWith(PATTERN_ANNOTATION)
+            || annotation.startsWith("@Min(") || annotation.startsWith("@Max(") || annotation.equals("@Valid");
+    }
+
+    private static boolean isCascaded(TypeInfo type) {
+        return isNull(type.itemType()) && hasAnnotation(type, "@Valid");
+    }
+
+    private static boolean hasAnnotation(TypeInfo type, String annotation) {
+        return type.annotations().stream().map(AnnotationInfo::annotation).anyMatch(annotation::equals);
+    }
+
+    private static Optional<String> getAnnotation(TypeInfo type, String annotationPrefix) {
+        return type.annotations().stream()
+            .map(AnnotationInfo::annotation)
+            .filter(a -> a.startsWith(annotationPrefix))
+            .findFirst();
+    }
+
+    private static String getAnnotationValue(String annotation) {
+        return annotation.substring(annotation.indexOf('(') + 1, annotation.length() - 1);
+    }
+
+    private static Optional<String> getPatternRegexp(TypeInfo type) {
+        // The annotation value is already an escaped Java string literal
+        return getAnnotation(type, PATTERN_ANNOTATION)
+            .map(a -> a.substring(PATTERN_ANNOTATION.length(), a.length() - 1));
+    }
+
+    private static Optional<String> findGroup(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+}
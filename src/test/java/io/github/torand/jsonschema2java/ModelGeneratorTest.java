@@ -15,20 +15,35 @@
  */
 package io.github.torand.jsonschema2java;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.torand.jsonschema2java.collectors.SchemaSourceCache;
+import io.github.torand.jsonschema2java.collectors.SchemaValidator;
+import io.github.torand.jsonschema2java.generators.GenerationManifest;
 import io.github.torand.jsonschema2java.generators.ModelGenerator;
 import io.github.torand.jsonschema2java.generators.Options;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
-import java.util.Map;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.stream.Stream;
 
 import static io.github.torand.javacommons.lang.StringHelper.isBlank;
 import static io.github.torand.jsonschema2java.TestHelper.assertMatchingJavaFiles;
 import static io.github.torand.jsonschema2java.TestHelper.assertMatchingKotlinFiles;
 import static io.github.torand.jsonschema2java.TestHelper.assertSnippet;
+import static io.github.torand.jsonschema2java.TestHelper.compileJavaFiles;
 import static io.github.torand.jsonschema2java.TestHelper.getJavaOptions;
 import static io.github.torand.jsonschema2java.TestHelper.getKotlinOptions;
+import static java.util.function.Predicate.not;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class ModelGeneratorTest {
 
@@ -45,6 +60,8 @@ class ModelGeneratorTest {
         "OrderV1", ""
     );
 
+    private static final Set<String> ENUM_SCHEMAS = Set.of("UserTypeV1", "ProductCategoryV1", "OrderStatusV1");
+
     @Test
     void shouldGenerateJavaPojos() {
         Options opts = getJavaOptions();
@@ -52,12 +69,11 @@ class ModelGeneratorTest {
         ModelGenerator modelGenerator = new ModelGenerator(opts);
 
         for (String schema : SCHEMAS.keySet()) {
-            String modelSubDir = SCHEMAS.get(schema);
             Path schemaFile = Path.of(opts.searchRootDir(), schema+".json");
 
             modelGenerator.generate(List.of(schemaFile));
 
-            assertMatchingJavaFiles("%s%sDto.java".formatted(isBlank(modelSubDir) ? "" : modelSubDir+"/", schema));
+            assertMatchingJavaFiles(getOutputFilename(schema, "Dto.java"));
         }
     }
 
@@ -68,12 +84,442 @@ class ModelGeneratorTest {
         ModelGenerator modelGenerator = new ModelGenerator(opts);
 
         for (String schema : SCHEMAS.keySet()) {
-            String modelSubDir = SCHEMAS.get(schema);
             Path schemaFile = Path.of(opts.searchRootDir(), schema+".json");
 
             modelGenerator.generate(List.of(schemaFile));
 
-            assertMatchingKotlinFiles("%s%sDto.kt".formatted(isBlank(modelSubDir) ? "" : modelSubDir+"/", schema));
+            assertMatchingKotlinFiles(getOutputFilename(schema, "Dto.kt"));
+        }
+    }
+
+    @Test
+    void shouldGeneratePojosWithPrimitiveTypes() {
+        Options javaOpts = getJavaOptions()
+            .withOutputDir("target/test-output/java/primitives")
+            .withUsePrimitiveTypes(true);
+        Options kotlinOpts = getKotlinOptions()
+            .withOutputDir("target/test-output/kotlin/primitives")
+            .withUsePrimitiveTypes(true);
+
+        new ModelGenerator(javaOpts).generate(List.of(Path.of(javaOpts.searchRootDir(), "OrderItemV1.json")));
+        new ModelGenerator(kotlinOpts).generate(List.of(Path.of(kotlinOpts.searchRootDir(), "OrderItemV1.json")));
+
+        assertSnippet("java/primitives/OrderItemV1Dto.java", """
+                @Schema(description = "The quantity ordered", required = true)
+                @Min(1)
+                int quantity
+            """.stripTrailing());
+        assertSnippet("kotlin/primitives/OrderItemV1Dto.kt", """
+                @field:Schema(description = "The quantity ordered", required = true)
+                @field:Min(1)
+                val quantity: Int
+            """.stripTrailing());
+    }
+
+    @Test
+    void shouldGeneratePojosWithPrimitiveArrays() {
+        Options javaOpts = getJavaOptions()
+            .withOutputDir("target/test-output/java/primitive-arrays")
+            .withUsePrimitiveArrays(true)
+            .withGenerateJsonSerializers(true)
+            .withGenerateJsonDeserializers(true)
+            .withGenerateValidators(true);
+        Options kotlinOpts = getKotlinOptions()
+            .withOutputDir("target/test-output/kotlin/primitive-arrays")
+            .withUsePrimitiveArrays(true);
+
+        new ModelGenerator(javaOpts).generate(List.of(Path.of(javaOpts.searchRootDir(), "MeasurementSeriesV1.json")));
+        new ModelGenerator(kotlinOpts).generate(List.of(Path.of(kotlinOpts.searchRootDir(), "MeasurementSeriesV1.json")));
+
+        assertMatchingJavaFiles("primitive-arrays", "MeasurementSeriesV1Dto.java");
+        assertMatchingJavaFiles("primitive-arrays", "MeasurementSeriesV1DtoSerializer.java");
+        assertMatchingJavaFiles("primitive-arrays", "MeasurementSeriesV1DtoDeserializer.java");
+        assertMatchingJavaFiles("primitive-arrays", "MeasurementSeriesV1DtoValidator.java");
+        assertMatchingKotlinFiles("primitive-arrays", "MeasurementSeriesV1Dto.kt");
+    }
+
+    @Test
+    void shouldGenerateValidatorsComparingDecimals() {
+        Options opts = getJavaOptions()
+            .withOutputDir("target/test-output/java/decimal-limits")
+            .withGenerateValidators(true);
+
+        new ModelGenerator(opts).generate(List.of(Path.of(opts.searchRootDir(), "DiscountV1.json")));
+
+        assertMatchingJavaFiles("decimal-limits", "DiscountV1Dto.java");
+        assertMatchingJavaFiles("decimal-limits", "DiscountV1DtoValidator.java");
+    }
+
+    @Test
+    void shouldGenerateJavaPojosInParallel() {
+        Options opts = getJavaOptions().withParallelism(4);
+
+        List<Path> schemaFiles = getSchemaFiles(opts.searchRootDir());
+
+        new ModelGenerator(opts).generate(schemaFiles);
+
+        for (String schema : SCHEMAS.keySet()) {
+            assertMatchingJavaFiles(getOutputFilename(schema, "Dto.java"));
+        }
+    }
+
+    @Test
+    void shouldGenerateJavaPojosWithBoundedSchemaCache() {
+        Options opts = getJavaOptions().withMaxCachedSchemas(2);
+
+        List<Path> schemaFiles = getSchemaFiles(opts.searchRootDir());
+
+        new ModelGenerator(opts).generate(schemaFiles);
+
+        for (String schema : SCHEMAS.keySet()) {
+            assertMatchingJavaFiles(getOutputFilename(schema, "Dto.java"));
+        }
+    }
+
+    @Test
+    void shouldGenerateJavaPojosFromModelCache(@TempDir Path tempDir) {
+        Options opts = getJavaOptions().withShareSchemaCache(false).withModelCacheDir(tempDir.toString());
+
+        List<Path> schemaFiles = getSchemaFiles(opts.searchRootDir());
+
+        // First run populates the cache, second run writes source code files from the cache
+        new ModelGenerator(opts).generate(schemaFiles);
+        new ModelGenerator(opts.withSkipUnchangedFiles(false)).generate(schemaFiles);
+
+        assertThat(tempDir.resolve("model")).isNotEmptyDirectory();
+        for (String schema : SCHEMAS.keySet()) {
+            assertMatchingJavaFiles(getOutputFilename(schema, "Dto.java"));
+        }
+    }
+
+    @Test
+    void shouldReadEachSchemaFileOnce(@TempDir Path tempDir) throws IOException {
+        Path schemaDir = Files.createDirectory(tempDir.resolve("schemas"));
+        try (Stream<Path> resources = Files.list(Path.of("src/test/resources"))) {
+            for (Path resource : resources.filter(Files::isRegularFile).toList()) {
+                Files.copy(resource, schemaDir.resolve(resource.getFileName()));
+            }
+        }
+
+        Options opts = getJavaOptions()
+            .withSearchRootDir(schemaDir.toString())
+            .withOutputDir(tempDir.resolve("output").toString())
+            .withShareSchemaCache(false);
+
+        List<Path> schemaFiles = getSchemaFiles(opts.searchRootDir());
+
+        SchemaSourceCache sourceCache = new SchemaSourceCache(opts);
+        assertThat(new SchemaValidator(sourceCache).validateAll(schemaFiles, 1)).isEmpty();
+        ModelGenerator modelGenerator = new ModelGenerator(opts, sourceCache);
+        modelGenerator.generate(schemaFiles);
+
+        // Any schema file read again after validation and the first generation would now fail to parse
+        for (Path schemaFile : schemaFiles) {
+            Files.writeString(schemaFile, "not json");
+        }
+
+        modelGenerator.generate(schemaFiles);
+
+        assertThat(Path.of(opts.getModelOutputDir(null), "OrderV1Dto.java")).exists();
+    }
+
+    @Test
+    void shouldRegenerateOnlyChangedSchemasInIncrementalMode(@TempDir Path tempDir) throws IOException {
+        Path schemaDir = Files.createDirectory(tempDir.resolve("schemas"));
+        try (Stream<Path> resources = Files.list(Path.of("src/test/resources"))) {
+            for (Path resource : resources.filter(Files::isRegularFile).toList()) {
+                Files.copy(resource, schemaDir.resolve(resource.getFileName()));
+            }
+        }
+
+        Options opts = getJavaOptions()
+            .withSearchRootDir(schemaDir.toString())
+            .withOutputDir(tempDir.resolve("output").toString())
+            .withIncremental(true)
+            .withSkipUnchangedFiles(false);
+
+        List<Path> schemaFiles = getSchemaFiles(opts.searchRootDir());
+
+        new ModelGenerator(opts).generate(schemaFiles);
+        assertThat(Path.of(opts.outputDir(), GenerationManifest.MANIFEST_FILENAME)).exists();
+
+        Map<String, Path> outputFiles = new HashMap<>();
+        for (String schema : SCHEMAS.keySet()) {
+            String modelSubDir = SCHEMAS.get(schema);
+            Path outputFile = Path.of(opts.getModelOutputDir(modelSubDir), schema+"Dto.java");
+            Files.setLastModifiedTime(outputFile, FileTime.fromMillis(0));
+            outputFiles.put(schema, outputFile);
+        }
+
+        Path addressSchemaFile = schemaDir.resolve("AddressV1.json");
+        Files.writeString(addressSchemaFile, Files.readString(addressSchemaFile).replace("Street name", "Name of street"));
+
+        new ModelGenerator(opts).generate(schemaFiles);
+
+        Set<String> regenerated = new TreeSet<>();
+        for (Map.Entry<String, Path> outputFile : outputFiles.entrySet()) {
+            if (Files.getLastModifiedTime(outputFile.getValue()).toMillis() != 0) {
+                regenerated.add(outputFile.getKey());
+            }
+        }
+        assertThat(regenerated).containsExactly("AddressV1", "InternalUserV1", "OrderV1", "UserV1");
+    }
+
+    @Test
+    void shouldNotRewriteUnchangedFiles(@TempDir Path tempDir) throws IOException {
+        Path schemaDir = Files.createDirectory(tempDir.resolve("schemas"));
+        try (Stream<Path> resources = Files.list(Path.of("src/test/resources"))) {
+            for (Path resource : resources.filter(Files::isRegularFile).toList()) {
+                Files.copy(resource, schemaDir.resolve(resource.getFileName()));
+            }
+        }
+
+        Options opts = getJavaOptions()
+            .withSearchRootDir(schemaDir.toString())
+            .withOutputDir(tempDir.resolve("output").toString());
+
+        List<Path> schemaFiles = getSchemaFiles(opts.searchRootDir());
+
+        new ModelGenerator(opts).generate(schemaFiles);
+
+        Map<String, Path> outputFiles = new HashMap<>();
+        for (String schema : SCHEMAS.keySet()) {
+            String modelSubDir = SCHEMAS.get(schema);
+            Path outputFile = Path.of(opts.getModelOutputDir(modelSubDir), schema+"Dto.java");
+            Files.setLastModifiedTime(outputFile, FileTime.fromMillis(0));
+            outputFiles.put(schema, outputFile);
+        }
+
+        Path addressSchemaFile = schemaDir.resolve("AddressV1.json");
+        Files.writeString(addressSchemaFile, Files.readString(addressSchemaFile).replace("Street name", "Name of street"));
+
+        new ModelGenerator(opts).generate(schemaFiles);
+
+        Set<String> rewritten = new TreeSet<>();
+        for (Map.Entry<String, Path> outputFile : outputFiles.entrySet()) {
+            if (Files.getLastModifiedTime(outputFile.getValue()).toMillis() != 0) {
+                rewritten.add(outputFile.getKey());
+            }
+        }
+        assertThat(rewritten).containsExactly("AddressV1");
+    }
+
+    @Test
+    void shouldWriteMetricsReport(@TempDir Path tempDir) throws IOException {
+        Path reportFile = tempDir.resolve("metrics.json");
+        Options opts = getJavaOptions()
+            .withOutputDir(tempDir.resolve("output").toString())
+            .withMetricsReportFile(reportFile.toString());
+
+        List<Path> schemaFiles = getSchemaFiles(opts.searchRootDir());
+
+        ModelGenerator modelGenerator = new ModelGenerator(opts);
+        modelGenerator.generate(schemaFiles);
+
+        String report = Files.readString(reportFile);
+        assertThat(report).contains("\"stageMillis\"", "\"resolution\"", "\"writing\"", "\"schemaCount\" : 10", "\"filesWritten\" : 10");
+        assertThat(report).contains("OrderV1.json");
+
+        // A reused generator reports each run on its own
+        modelGenerator.generate(List.of(Path.of(opts.searchRootDir(), "AddressV1.json")));
+
+        report = Files.readString(reportFile);
+        assertThat(report).contains("\"schemaCount\" : 1", "\"filesWritten\" : 0", "\"filesSkipped\" : 1", "AddressV1.json");
+        assertThat(report).doesNotContain("OrderV1.json");
+    }
+
+    @Test
+    void shouldGenerateJsonSerializers() {
+        Options opts = getJavaOptions()
+            .withOutputDir("target/test-output/java/serializers")
+            .withGenerateJsonSerializers(true);
+
+        new ModelGenerator(opts).generate(getSchemaFiles(opts.searchRootDir()));
+
+        for (String schema : getPojoSchemas()) {
+            assertMatchingJavaFiles("serializers", getOutputFilename(schema, "DtoSerializer.java"));
+        }
+        assertMatchingJavaFiles("serializers", "ModelJacksonModule.java");
+    }
+
+    @Test
+    void shouldGenerateJsonDeserializers() {
+        Options opts = getJavaOptions()
+            .withOutputDir("target/test-output/java/deserializers")
+            .withGenerateJsonDeserializers(true);
+
+        new ModelGenerator(opts).generate(getSchemaFiles(opts.searchRootDir()));
+
+        for (String schema : getPojoSchemas()) {
+            assertMatchingJavaFiles("deserializers", getOutputFilename(schema, "DtoDeserializer.java"));
+        }
+        assertMatchingJavaFiles("deserializers", "ModelJacksonModule.java");
+    }
+
+    @Test
+    void shouldGenerateUniqueDeserializerMethodNames(@TempDir Path tempDir) throws IOException {
+        Path schemaFile = tempDir.resolve("TagsV1.json");
+        Files.writeString(schemaFile, """
+            {
+              "$id": "https://my-domain.com/my-api/schemas/tags-v1",
+              "type": "object",
+              "properties": {
+                "tags": {"type": "array", "items": {"type": "string"}},
+                "tagsItem": {"type": "string"}
+              }
+            }
+            """);
+
+        Options opts = getJavaOptions()
+            .withSearchRootDir(tempDir.toString())
+            .withOutputDir(tempDir.resolve("output").toString())
+            .withGenerateJsonDeserializers(true);
+
+        new ModelGenerator(opts).generate(List.of(schemaFile));
+
+        String content = Files.readString(Path.of(opts.getModelOutputDir(null), "TagsV1DtoDeserializer.java"));
+        assertThat(content).contains(
+            "private static List<String> readTags(JsonParser p, DeserializationContext ctxt)",
+            "values.add(readTagsItem(p, ctxt));",
+            "private static String readTagsItem(JsonParser p, DeserializationContext ctxt)",
+            "private static String readTagsItem_2(JsonParser p, DeserializationContext ctxt)",
+            "tagsItem = readTagsItem_2(p, ctxt);");
+    }
+
+    @Test
+    void shouldIgnoreRefsInExampleValues(@TempDir Path tempDir) throws IOException {
+        Path schemaFile = tempDir.resolve("LinkV1.json");
+        Files.writeString(schemaFile, """
+            {
+              "$id": "https://my-domain.com/my-api/schemas/link-v1",
+              "type": "object",
+              "properties": {
+                "target": {"type": "string", "examples": [{"$ref": "#/components/schemas/Foo"}]},
+                "href": {"type": "string", "default": {"$ref": "https://other-domain.com/schemas/foo"}}
+              }
+            }
+            """);
+
+        Options opts = getJavaOptions()
+            .withSearchRootDir(tempDir.toString())
+            .withOutputDir(tempDir.resolve("output").toString());
+
+        new ModelGenerator(opts).generate(List.of(schemaFile));
+        assertThat(Path.of(opts.getModelOutputDir(null), "LinkV1Dto.java")).exists();
+
+        Options incrementalOpts = opts
+            .withOutputDir(tempDir.resolve("incremental-output").toString())
+            .withIncremental(true)
+            .withDependencyGraphFile(tempDir.resolve("dependencies.json").toString());
+
+        new ModelGenerator(incrementalOpts).generate(List.of(schemaFile));
+        assertThat(Path.of(incrementalOpts.getModelOutputDir(null), "LinkV1Dto.java")).exists();
+        assertThat(tempDir.resolve("dependencies.json")).content().doesNotContain("Foo", "other-domain");
+    }
+
+    @Test
+    void shouldGenerateValidators() {
+        Options opts = getJavaOptions()
+            .withOutputDir("target/test-output/java/validators")
+            .withGenerateValidators(true);
+
+        new ModelGenerator(opts).generate(getSchemaFiles(opts.searchRootDir()));
+
+        for (String schema : getPojoSchemas()) {
+            assertMatchingJavaFiles("validators", getOutputFilename(schema, "DtoValidator.java"));
+        }
+        assertMatchingJavaFiles("validators", "ModelValidationException.java");
+    }
+
+    @Test
+    void shouldRoundTripThroughGeneratedCode(@TempDir Path tempDir) throws Exception {
+        Options opts = getJavaOptions()
+            .withOutputDir(tempDir.resolve("src").toString())
+            .withAddMpOpenApiAnnotations(false)
+            .withUsePrimitiveArrays(true)
+            .withGenerateJsonSerializers(true)
+            .withGenerateJsonDeserializers(true)
+            .withGenerateValidators(true);
+
+        List<Path> schemaFiles = new ArrayList<>(getSchemaFiles(opts.searchRootDir()));
+        schemaFiles.add(Path.of(opts.searchRootDir(), "MeasurementSeriesV1.json"));
+        schemaFiles.add(Path.of(opts.searchRootDir(), "DiscountV1.json"));
+        new ModelGenerator(opts).generate(schemaFiles);
+
+        String json = """
+            {
+              "placedBy": {
+                "firstName": "Ola",
+                "lastName": "Nordmann",
+                "address": {"streetAddress": "Storgata 1", "zipCode": "0150", "city": "Oslo", "countryCode": "NOR"},
+                "emailAddress": "ola@nordmann.no",
+                "mobileNumber": "4712345678",
+                "mobileNumberVerified": true,
+                "type": "Private",
+                "createdTime": "2024-01-02T03:04:05"
+              },
+              "status": "Created",
+              "createdTime": "2024-02-03T04:05:06",
+              "items": [
+                {
+                  "product": {"number": "#P1", "name": "Laptop", "category": "Computers", "price": 12.5, "empty": {}},
+                  "quantity": 2
+                }
+              ]
+            }
+            """;
+
+        try (URLClassLoader classLoader = compileJavaFiles(Path.of(opts.outputDir()), tempDir.resolve("classes"))) {
+            String modelPackage = opts.getModelPackage(null);
+            Class<?> orderClass = classLoader.loadClass(modelPackage + ".OrderV1Dto");
+            Method validate = classLoader.loadClass(modelPackage + ".OrderV1DtoValidator").getMethod("validate", orderClass);
+
+            ObjectMapper mapper = new ObjectMapper()
+                .registerModule((Module) classLoader.loadClass(modelPackage + ".ModelJacksonModule").getConstructor().newInstance())
+                .setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL);
+
+            Object order = mapper.readValue(json, orderClass);
+            assertThat(mapper.readTree(mapper.writeValueAsString(order))).isEqualTo(mapper.readTree(json));
+            assertThat((List<?>) validate.invoke(null, order)).isEmpty();
+
+            Object invalidOrder = mapper.readValue(json
+                .replace("\"NOR\"", "\"Norway\"")
+                .replace("\"quantity\": 2", "\"quantity\": 0"), orderClass);
+            assertThat((List<?>) validate.invoke(null, invalidOrder))
+                .map(Object::toString)
+                .containsExactly(
+                    "placedBy.address.countryCode: must match \"^[A-Z]{3}$\"",
+                    "items[0].quantity: must be greater than or equal to 1");
+
+            String seriesJson = """
+                {"sensorIds": [1, 2], "timestamps": [1700000000000], "values": [1.5, -2.25], "weights": [0.5]}
+                """;
+            Class<?> seriesClass = classLoader.loadClass(modelPackage + ".MeasurementSeriesV1Dto");
+            Method validateSeries = classLoader.loadClass(modelPackage + ".MeasurementSeriesV1DtoValidator").getMethod("validate", seriesClass);
+
+            Object series = mapper.readValue(seriesJson, seriesClass);
+            assertThat(mapper.readTree(mapper.writeValueAsString(series))).isEqualTo(mapper.readTree(seriesJson));
+            assertThat((List<?>) validateSeries.invoke(null, series)).isEmpty();
+
+            Object invalidSeries = mapper.readValue(seriesJson.replace("[1, 2]", "[]"), seriesClass);
+            assertThat((List<?>) validateSeries.invoke(null, invalidSeries))
+                .map(Object::toString)
+                .containsExactly("sensorIds: size must be between 1 and 2147483647");
+
+            String discountJson = """
+                {"code": "SUMMER", "percent": 10.5}
+                """;
+            Class<?> discountClass = classLoader.loadClass(modelPackage + ".DiscountV1Dto");
+            Method validateDiscount = classLoader.loadClass(modelPackage + ".DiscountV1DtoValidator").getMethod("validate", discountClass);
+
+            Object discount = mapper.readValue(discountJson, discountClass);
+            assertThat(mapper.readTree(mapper.writeValueAsString(discount))).isEqualTo(mapper.readTree(discountJson));
+            assertThat((List<?>) validateDiscount.invoke(null, discount)).isEmpty();
+
+            Object invalidDiscount = mapper.readValue(discountJson.replace("10.5", "150"), discountClass);
+            assertThat((List<?>) validateDiscount.invoke(null, invalidDiscount))
+                .map(Object::toString)
+                .containsExactly("percent: must be less than or equal to 100");
         }
     }
 
@@ -92,4 +538,21 @@ class ModelGeneratorTest {
             }
             """);
     }
+
+    private static List<Path> getSchemaFiles(String searchRootDir) {
+        return SCHEMAS.keySet().stream()
+            .map(schema -> Path.of(searchRootDir, schema+".json"))
+            .toList();
+    }
+
+    private static List<String> getPojoSchemas() {
+        return SCHEMAS.keySet().stream()
+            .filter(not(ENUM_SCHEMAS::contains))
+            .toList();
+    }
+
+    private static String getOutputFilename(String schema, String suffix) {
+        String modelSubDir = SCHEMAS.get(schema);
+        return "%s%s%s".formatted(isBlank(modelSubDir) ? "" : modelSubDir+"/", schema, suffix);
+    }
 }
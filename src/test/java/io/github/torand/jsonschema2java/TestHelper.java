@@ -23,16 +23,26 @@ import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static io.github.torand.jsonschema2java.utils.StringUtils.removeLineBreaks;
 import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.joining;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -80,19 +90,50 @@ public class TestHelper {
     }
 
     public static void assertMatchingJavaFiles(String filename) {
-        Path expectedPath = getResourcePath("expected-output/java/model/%s".formatted(filename));
-        Path actualPath = Path.of("target/test-output/java/model/%s".formatted(filename));
+        assertMatchingJavaFiles("model", filename);
+    }
+
+    public static void assertMatchingJavaFiles(String outputSubdir, String filename) {
+        Path expectedPath = getResourcePath("expected-output/java/%s/%s".formatted(outputSubdir, filename));
+        Path actualPath = Path.of("target/test-output/java/%s/%s".formatted(outputSubdir, filename));
 
         assertMatchingFiles(expectedPath, actualPath);
     }
 
     public static void assertMatchingKotlinFiles(String filename) {
-        Path expectedPath = getResourcePath("expected-output/kotlin/model/%s".formatted(filename));
-        Path actualPath = Path.of("target/test-output/kotlin/model/%s".formatted(filename));
+        assertMatchingKotlinFiles("model", filename);
+    }
+
+    public static void assertMatchingKotlinFiles(String outputSubdir, String filename) {
+        Path expectedPath = getResourcePath("expected-output/kotlin/%s/%s".formatted(outputSubdir, filename));
+        Path actualPath = Path.of("target/test-output/kotlin/%s/%s".formatted(outputSubdir, filename));
 
         assertMatchingFiles(expectedPath, actualPath);
     }
 
+    /**
+     * Compiles the Java files in a directory against the test classpath and returns a class loader for the compiled classes.
+     */
+    public static URLClassLoader compileJavaFiles(Path sourceDir, Path classesDir) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+             Stream<Path> files = Files.walk(sourceDir)) {
+            List<Path> sourceFiles = files.filter(f -> f.toString().endsWith(".java")).toList();
+            Files.createDirectories(classesDir);
+
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            List<String> compilerOptions = List.of("-classpath", System.getProperty("java.class.path"), "-d", classesDir.toString());
+            boolean compiled = compiler.getTask(null, fileManager, diagnostics, compilerOptions, null, fileManager.getJavaFileObjectsFromPaths(sourceFiles)).call();
+            if (!compiled) {
+                fail("Failed to compile %s:%n%s".formatted(sourceDir, diagnostics.getDiagnostics().stream().map(Object::toString).collect(joining("\n"))));
+            }
+
+            return new URLClassLoader(new URL[] {classesDir.toUri().toURL()}, TestHelper.class.getClassLoader());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to compile Java files in " + sourceDir, e);
+        }
+    }
+
     public static JsonNode parseJson(String json) {
         ObjectMapper mapper = new ObjectMapper();
         try {
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import tools.jackson.databind.JsonNode;
 
 import static io.github.torand.jsonschema2java.TestHelper.parseJson;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class PojoInfoCollectorTest {
@@ -34,7 +35,7 @@ class PojoInfoCollectorTest {
     @BeforeEach
     void setUp() {
         Options opts = TestHelper.getJavaOptions();
-        schemaResolver = new SchemaResolver(null);
+        schemaResolver = new SchemaResolver(opts);
         collector = new PojoInfoCollector(opts, schemaResolver);
     }
 
@@ -49,6 +50,19 @@ class PojoInfoCollectorTest {
             .hasMessageContaining("Schema-based 'additionalProperties' not supported for Pojos");
     }
 
+    @Test
+    void shouldKeepNestedModelSubdirSeparateFromSubpackage() {
+        String jsonSchema = """
+                {"type": "object", "x-model-subdir": "common/address", "properties": { "name": {"type": "string"}}}
+            """;
+
+        PojoInfo pojoInfo = getPojoInfo(jsonSchema);
+
+        assertThat(pojoInfo.modelSubdir()).isEqualTo("common/address");
+        assertThat(pojoInfo.modelSubpackage()).isEqualTo("common.address");
+        assertThat(pojoInfo.withModelSubpackage("other").modelSubdir()).isEqualTo("common/address");
+    }
+
     private PojoInfo getPojoInfo(String jsonSchema) {
         JsonNode jsonNode = parseJson(jsonSchema);
         JsonSchemaDef schema = new JsonSchemaDef("Pojos", jsonNode);
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaFileFinderTest {
+
+    @Test
+    void shouldFindSchemaFilesInSubdirectories(@TempDir Path rootDir) throws IOException {
+        Path order = createFile(rootDir.resolve("OrderV1.json"));
+        Path address = createFile(rootDir.resolve("common/AddressV1.json"));
+        Path product = createFile(rootDir.resolve("products/catalog/ProductV1.json"));
+        createFile(rootDir.resolve("common/README.md"));
+
+        SchemaFileFinder finder = new SchemaFileFinder(rootDir, List.of("*.json"), List.of(), null);
+
+        assertThat(finder.find(4)).containsExactlyInAnyOrder(order, address, product);
+    }
+
+    @Test
+    void shouldMatchPatternsWithPathAgainstRelativePath(@TempDir Path rootDir) throws IOException {
+        createFile(rootDir.resolve("OrderV1.json"));
+        Path address = createFile(rootDir.resolve("common/AddressV1.json"));
+        Path product = createFile(rootDir.resolve("products/catalog/ProductV1.json"));
+        createFile(rootDir.resolve("products/catalog/drafts/ProductV2.json"));
+        createFile(rootDir.resolve("build/common/AddressV1.json"));
+
+        SchemaFileFinder finder = new SchemaFileFinder(rootDir, List.of("common/*.json", "products/**.json"), List.of("drafts", "build"), null);
+
+        assertThat(finder.find(4)).containsExactlyInAnyOrder(address, product);
+        assertThat(finder.matches(product)).isTrue();
+        assertThat(finder.matches(rootDir.resolve("products/catalog/drafts/ProductV2.json"))).isFalse();
+    }
+
+    @Test
+    void shouldReuseListingsOfUnmodifiedDirectories(@TempDir Path tempDir) throws IOException {
+        Path rootDir = tempDir.resolve("schemas");
+        Path address = createFile(rootDir.resolve("common/AddressV1.json"));
+        Path listingCacheFile = tempDir.resolve("listing.json");
+
+        FileTime lastModified = FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS));
+        Files.setLastModifiedTime(rootDir.resolve("common"), lastModified);
+
+        SchemaFileFinder finder = new SchemaFileFinder(rootDir, List.of("*.json"), List.of(), listingCacheFile);
+        assertThat(finder.find(1)).containsExactly(address);
+        assertThat(listingCacheFile).exists();
+
+        // A directory with unchanged last modified time is not listed again
+        Path mobileNumber = createFile(rootDir.resolve("common/MobileNumberV1.json"));
+        Files.setLastModifiedTime(rootDir.resolve("common"), lastModified);
+        assertThat(finder.find(1)).containsExactly(address);
+
+        Files.setLastModifiedTime(rootDir.resolve("common"), FileTime.from(Instant.now().minus(30, ChronoUnit.MINUTES)));
+        assertThat(finder.find(1)).containsExactly(address, mobileNumber);
+    }
+
+    private static Path createFile(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, "{}");
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.collectors;
+
+import io.github.torand.jsonschema2java.TestHelper;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaResolverTest {
+
+    private final SchemaResolver schemaResolver = new SchemaResolver(TestHelper.getJavaOptions());
+
+    @Test
+    void shouldResolveEachReferencedSchemaOnce() {
+        URI ref = URI.create("https://my-domain.com/my-api/schemas/address-v1");
+        URI equivalentRef = URI.create("https://my-domain.com/my-api/schemas/./address-v1");
+
+        assertThat(schemaResolver.getOrThrow(ref)).isSameAs(schemaResolver.getOrThrow(equivalentRef));
+        assertThat(schemaResolver.getResolvedTypeName(ref)).isEqualTo("AddressV1");
+        assertThat(schemaResolver.getModelSubpackage(ref)).contains("common");
+        assertThat(schemaResolver.isObjectType(ref)).isTrue();
+        assertThat(schemaResolver.isPrimitiveType(ref)).isFalse();
+    }
+
+    @Test
+    void shouldClassifyPrimitiveAndEnumSchemas() {
+        assertThat(schemaResolver.isPrimitiveType(URI.create("https://my-domain.com/my-api/schemas/date-time-v1"))).isTrue();
+        assertThat(schemaResolver.isEnumType(URI.create("https://my-domain.com/my-api/schemas/user-type-v1"))).isTrue();
+    }
+
+    @Test
+    void shouldReloadEvictedSchemasWhenBounded() {
+        SchemaResolver boundedResolver = new SchemaResolver(TestHelper.getJavaOptions().withMaxCachedSchemas(1));
+        URI addressRef = URI.create("https://my-domain.com/my-api/schemas/address-v1");
+        URI userRef = URI.create("https://my-domain.com/my-api/schemas/user-v1");
+
+        assertThat(boundedResolver.getResolvedTypeName(addressRef)).isEqualTo("AddressV1");
+        assertThat(boundedResolver.getResolvedTypeName(userRef)).isEqualTo("UserV1");
+        assertThat(boundedResolver.getResolvedTypeName(addressRef)).isEqualTo("AddressV1");
+    }
+}
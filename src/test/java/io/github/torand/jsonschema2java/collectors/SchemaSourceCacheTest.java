@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.github.torand.jsonschema2java.TestHelper.getJavaOptions;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaSourceCacheTest {
+
+    @Test
+    void shouldParseContentReadForHashWithoutReadingAgain(@TempDir Path tempDir) throws IOException {
+        Path schemaFile = Files.writeString(tempDir.resolve("AddressV1.json"), "{\"type\": \"object\"}");
+        SchemaSourceCache sourceCache = new SchemaSourceCache(getJavaOptions().withShareSchemaCache(false));
+
+        String contentHash = sourceCache.getContentHash(schemaFile);
+
+        // A second read would fail to parse
+        Files.writeString(schemaFile, "not json");
+        assertThat(sourceCache.get(schemaFile).path("type").asString()).isEqualTo("object");
+        assertThat(sourceCache.getContentHash(schemaFile)).isEqualTo(contentHash);
+
+        sourceCache.invalidate(schemaFile);
+        Files.writeString(schemaFile, "{\"type\": \"string\"}");
+        assertThat(sourceCache.get(schemaFile).path("type").asString()).isEqualTo("string");
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaValidatorTest {
+
+    private final SchemaValidator validator = new SchemaValidator();
+
+    @Test
+    void shouldAcceptValidSchemaFiles() throws IOException {
+        List<Path> schemaFiles;
+        try (Stream<Path> resources = Files.list(Path.of("src/test/resources"))) {
+            schemaFiles = resources.filter(Files::isRegularFile).sorted().toList();
+        }
+
+        assertThat(validator.validateAll(schemaFiles, 4)).isEmpty();
+    }
+
+    @Test
+    void shouldReportAllInvalidSchemaFiles(@TempDir Path tempDir) throws IOException {
+        Path validFile = Files.writeString(tempDir.resolve("Valid.json"), """
+            {"type": "string"}
+            """);
+        Path invalidTypeFile = Files.writeString(tempDir.resolve("InvalidType.json"), """
+            {"type": 5}
+            """);
+        Path invalidJsonFile = Files.writeString(tempDir.resolve("InvalidJson.json"), """
+            {"type": "string"
+            """);
+
+        Map<Path, List<String>> messagesByFile = validator.validateAll(List.of(invalidTypeFile, validFile, invalidJsonFile), 2);
+
+        assertThat(messagesByFile).containsOnlyKeys(invalidTypeFile, invalidJsonFile);
+        assertThat(messagesByFile.keySet()).containsExactly(invalidTypeFile, invalidJsonFile);
+        assertThat(messagesByFile.get(invalidTypeFile)).isNotEmpty();
+        assertThat(messagesByFile.get(invalidJsonFile)).singleElement().asString().startsWith("Invalid JSON");
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.collectors;
+
+import io.github.torand.jsonschema2java.generators.ModelGenerator;
+import io.github.torand.jsonschema2java.generators.Options;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static io.github.torand.jsonschema2java.TestHelper.getJavaOptions;
+import static io.github.torand.jsonschema2java.TestHelper.parseJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedSchemaCacheTest {
+
+    @Test
+    void shouldShareParsedSchemaUntilContentChanges(@TempDir Path tempDir) throws IOException {
+        Path schemaFile = Files.writeString(tempDir.resolve("AddressV1.json"), "{\"type\": \"object\"}");
+        Options opts = getJavaOptions().withShareSchemaCache(true);
+
+        assertThat(new SchemaSourceCache(opts).get(schemaFile)).isSameAs(new SchemaSourceCache(opts).get(schemaFile));
+        assertThat(new SchemaSourceCache(opts.withShareSchemaCache(false)).get(schemaFile)).isNotSameAs(new SchemaSourceCache(opts).get(schemaFile));
+
+        Files.writeString(schemaFile, "{\"type\": \"string\"}");
+        assertThat(new SchemaSourceCache(opts).get(schemaFile).path("type").asString()).isEqualTo("string");
+    }
+
+    @Test
+    void shouldReuseCollectedInfoAcrossExecutions(@TempDir Path tempDir) {
+        Options opts = getJavaOptions().withOutputDir(tempDir.toString()).withShareSchemaCache(true);
+        List<Path> schemaFiles = List.of(Path.of(opts.searchRootDir(), "OrderV1.json"), Path.of(opts.searchRootDir(), "OrderStatusV1.json"));
+
+        new ModelGenerator(opts).generate(schemaFiles);
+        long hitCount = SharedSchemaCache.getInstance().getHitCount();
+
+        new ModelGenerator(opts).generate(schemaFiles);
+
+        // Parsed content and collected info of both schemas, and parsed content of schemas referenced by OrderV1
+        assertThat(SharedSchemaCache.getInstance().getHitCount() - hitCount).isGreaterThanOrEqualTo(4);
+        assertThat(Path.of(opts.getModelOutputDir(null), "OrderV1Dto.java")).exists();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedSchemaFilesWhenFull() {
+        SharedSchemaCache sharedCache = new SharedSchemaCache(2);
+        AtomicInteger parseCount = new AtomicInteger();
+        Supplier<JsonNode> parser = () -> {
+            parseCount.incrementAndGet();
+            return parseJson("{}");
+        };
+
+        sharedCache.getSource(Path.of("AddressV1.json"), "hash", parser);
+        sharedCache.getSource(Path.of("UserV1.json"), "hash", parser);
+        sharedCache.getSource(Path.of("AddressV1.json"), "hash", parser);
+        sharedCache.getSource(Path.of("OrderV1.json"), "hash", parser);
+        assertThat(parseCount).hasValue(3);
+
+        // UserV1 was least recently used when OrderV1 was added
+        sharedCache.getSource(Path.of("UserV1.json"), "hash", parser);
+        assertThat(parseCount).hasValue(4);
+    }
+}
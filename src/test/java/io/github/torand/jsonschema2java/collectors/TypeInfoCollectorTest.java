@@ -27,6 +27,7 @@ import java.util.List;
 import static io.github.torand.jsonschema2java.TestHelper.getJavaOptions;
 import static io.github.torand.jsonschema2java.TestHelper.parseJson;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class TypeInfoCollectorTest {
 
@@ -102,6 +103,70 @@ class TypeInfoCollectorTest {
             """, "BigDecimal", null, "@NotNull", "@Max(10)");
     }
 
+    @Test
+    void shouldMapNonNullablePropertiesToPrimitiveTypes() {
+        createTypeInfoCollector(getJavaOptions().withUsePrimitiveTypes(true));
+
+        assertNullableNumericType("""
+                {"type": ["integer", "null"]}
+            """, "Integer", null);
+
+        assertNonNullableNumericType("""
+                {"type": "integer", "minimum": 1}
+            """, "int", null, "@Min(1)");
+
+        assertNonNullableNumericType("""
+                {"type": "integer", "format": "int64"}
+            """, "long", "int64");
+
+        assertNonNullableNumericType("""
+                {"type": "integer", "minimum": 0, "maximum": 100}
+            """, "byte", null, "@Min(0)", "@Max(100)");
+
+        assertNonNullableNumericType("""
+                {"type": "integer", "minimum": -1000, "maximum": 1000}
+            """, "short", null, "@Min(-1000)", "@Max(1000)");
+
+        assertNonNullableNumericType("""
+                {"type": "number", "format": "double"}
+            """, "double", "double");
+
+        assertNonNullableNumericType("""
+                {"type": "number"}
+            """, "BigDecimal", null, "@NotNull");
+
+        assertPrimitiveType(getTypeInfo("""
+                {"type": "boolean"}
+            """), "boolean", null, null, false);
+
+        assertNonNullableArrayType("""
+                {"type": "array", "items": {"type": "integer"}}
+            """, "List", "Integer", List.of("@Valid", "@NotNull"), List.of("@NotNull"));
+    }
+
+    @Test
+    void shouldMapPropertiesToJavaTypeByExtension() {
+        assertNonNullableNumericType("""
+                {"type": "integer", "x-java-type": "short"}
+            """, "short", null);
+
+        assertNullableNumericType("""
+                {"type": ["integer", "null"], "x-java-type": "short"}
+            """, "Short", null);
+
+        assertNonNullableNumericType("""
+                {"type": "number", "x-java-type": "float"}
+            """, "float", null);
+
+        assertNonNullableArrayType("""
+                {"type": "array", "items": {"type": "integer", "x-java-type": "byte"}}
+            """, "List", "Byte", List.of("@Valid", "@NotNull"), List.of("@NotNull"));
+
+        assertThatThrownBy(() -> getTypeInfo("""
+                {"type": "integer", "x-java-type": "double"}
+            """)).isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void shouldMapStringProperties() {
         assertNullableStringType("""
@@ -206,6 +271,58 @@ class TypeInfoCollectorTest {
             """, "List", "String", List.of("@Valid", "@NotNull", "@Size(max = 10)"), List.of("@NotBlank", "@Size(min = 3)"));
     }
 
+    @Test
+    void shouldMapNumericArraysToPrimitiveArrays() {
+        createTypeInfoCollector(getJavaOptions().withUsePrimitiveArrays(true));
+
+        assertPrimitiveArrayType("""
+                {"type": "array", "items": {"type": "integer"}, "minItems": 1}
+            """, "int[]", "@NotNull", "@Size(min = 1)");
+
+        assertPrimitiveArrayType("""
+                {"type": ["array", "null"], "items": {"type": "integer", "format": "int64"}}
+            """, "long[]");
+
+        assertPrimitiveArrayType("""
+                {"type": "array", "items": {"type": "number", "format": "double"}}
+            """, "double[]", "@NotNull");
+
+        assertNonNullableArrayType("""
+                {"type": "array", "items": {"type": "number"}}
+            """, "List", "BigDecimal", List.of("@Valid", "@NotNull"), List.of("@NotNull"));
+
+        assertNonNullableArrayType("""
+                {"type": "array", "items": {"type": "integer"}, "uniqueItems": true}
+            """, "Set", "Integer", List.of("@Valid", "@NotNull"), List.of("@NotNull"));
+
+        assertNonNullableArrayType("""
+                {"type": "array", "items": {"type": ["integer", "null"]}}
+            """, "List", "Integer", List.of("@Valid", "@NotNull"), List.of());
+    }
+
+    @Test
+    void shouldMapNumericArraysToPrimitiveArraysByExtension() {
+        assertPrimitiveArrayType("""
+                {"type": "array", "items": {"type": "number"}, "x-java-type": "double[]"}
+            """, "double[]", "@NotNull");
+        assertPrimitiveArrayType("""
+                {"type": "array", "items": {"type": "integer"}, "x-java-type": "long[]"}
+            """, "long[]", "@NotNull");
+
+        assertThatThrownBy(() -> getTypeInfo("""
+                {"type": "array", "items": {"type": "string"}, "x-java-type": "int[]"}
+            """)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> getTypeInfo("""
+                {"type": "array", "items": {"type": "number"}, "x-java-type": "int[]"}
+            """)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> getTypeInfo("""
+                {"type": "array", "items": {"type": "number", "format": "double"}, "x-java-type": "long[]"}
+            """)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> getTypeInfo("""
+                {"type": "array", "items": {"type": "integer"}, "x-java-type": "double[]"}
+            """)).isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void shouldProcessAdditionalProperties() {
         String jsonSchema = """
@@ -268,6 +385,14 @@ class TypeInfoCollectorTest {
         assertThat(typeInfo.itemType().annotationsAsStrings()).containsExactlyElementsOf(expectedItemAnnotations);
     }
 
+    private void assertPrimitiveArrayType(String jsonSchema, String expectedTypeName, String... expectedAnnotations) {
+        TypeInfo typeInfo = getTypeInfo(jsonSchema);
+        assertThat(typeInfo.name()).isEqualTo(expectedTypeName);
+        assertThat(typeInfo.itemType()).isNull();
+        assertThat(typeInfo.primitive()).isFalse();
+        assertThat(typeInfo.annotationsAsStrings()).containsExactly(expectedAnnotations);
+    }
+
     private void assertPrimitiveType(TypeInfo typeInfo, String expectedTypeName, String expectedFormat, String expectedPattern, boolean expectedNullable, String... expectedAnnotations) {
         assertThat(typeInfo.name()).isEqualTo(expectedTypeName);
         assertThat(typeInfo.schemaFormat()).isEqualTo(expectedFormat);
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.corpus;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Generates a synthetic corpus of valid draft 2020-12 JSON Schema files, for scale tests and benchmarks.
+ * The corpus is deterministic: the same settings (including the seed) always produce the same schema files.
+ * References only point to schemas generated earlier, so the corpus contains no reference cycles.
+ */
+public final class SchemaCorpusGenerator {
+    public static final String SCHEMA_ID_ROOT_URI = "https://my-domain.com/my-api/schemas";
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private static final String[] WORDS = {"name", "code", "amount", "status", "created", "label", "count", "owner", "price", "note"};
+    private static final String[] STRING_FORMATS = {"date", "date-time", "uuid", "email", "uri", "duration"};
+
+    /**
+     * Settings of a corpus.
+     * @param seed the seed of the random number generator.
+     * @param schemaCount the number of schemas.
+     * @param propertiesPerObject the number of properties (including references) of each object schema.
+     * @param refsPerObject the number of properties of each object schema referring to another schema (fan-out).
+     * @param hubCount the number of hub schemas, i.e. the first schemas generated, receiving half of all references (fan-in).
+     * @param maxInheritanceDepth the maximum length of 'allOf' inheritance chains, or 0 for no inheritance.
+     * @param enumRatio the ratio of enum schemas, between 0 and 1.
+     * @param enumSize the number of constants of each enum schema.
+     * @param modelSubdirCount the number of distinct 'x-model-subdir' values spread across the schemas, or 0 for none.
+     */
+    public record Settings(
+        long seed,
+        int schemaCount,
+        int propertiesPerObject,
+        int refsPerObject,
+        int hubCount,
+        int maxInheritanceDepth,
+        double enumRatio,
+        int enumSize,
+        int modelSubdirCount
+    ) {
+        /**
+         * Returns the default settings, producing a corpus of 100 schemas.
+         * @return the default settings.
+         */
+        public static Settings defaults() {
+            return new Settings(42L, 100, 8, 2, 5, 2, 0.1, 5, 3);
+        }
+
+        public Settings withSeed(long seed) {
+            return new Settings(seed, schemaCount, propertiesPerObject, refsPerObject, hubCount, maxInheritanceDepth, enumRatio, enumSize, modelSubdirCount);
+        }
+
+        public Settings withSchemaCount(int schemaCount) {
+            return new Settings(seed, schemaCount, propertiesPerObject, refsPerObject, hubCount, maxInheritanceDepth, enumRatio, enumSize, modelSubdirCount);
+        }
+
+        public Settings withPropertiesPerObject(int propertiesPerObject) {
+            return new Settings(seed, schemaCount, propertiesPerObject, refsPerObject, hubCount, maxInheritanceDepth, enumRatio, enumSize, modelSubdirCount);
+        }
+
+        public Settings withRefsPerObject(int refsPerObject) {
+            return new Settings(seed, schemaCount, propertiesPerObject, refsPerObject, hubCount, maxInheritanceDepth, enumRatio, enumSize, modelSubdirCount);
+        }
+
+        public Settings withHubCount(int hubCount) {
+            return new Settings(seed, schemaCount, propertiesPerObject, refsPerObject, hubCount, maxInheritanceDepth, enumRatio, enumSize, modelSubdirCount);
+        }
+
+        public Settings withMaxInheritanceDepth(int maxInheritanceDepth) {
+            return new Settings(seed, schemaCount, propertiesPerObject, refsPerObject, hubCount, maxInheritanceDepth, enumRatio, enumSize, modelSubdirCount);
+        }
+
+        public Settings withEnumRatio(double enumRatio) {
+            return new Settings(seed, schemaCount, propertiesPerObject, refsPerObject, hubCount, maxInheritanceDepth, enumRatio, enumSize, modelSubdirCount);
+        }
+
+        public Settings withEnumSize(int enumSize) {
+            return new Settings(seed, schemaCount, propertiesPerObject, refsPerObject, hubCount, maxInheritanceDepth, enumRatio, enumSize, modelSubdirCount);
+        }
+
+        public Settings withModelSubdirCount(int modelSubdirCount) {
+            return new Settings(seed, schemaCount, propertiesPerObject, refsPerObject, hubCount, maxInheritanceDepth, enumRatio, enumSize, modelSubdirCount);
+        }
+    }
+
+    private record GeneratedSchema(String id, boolean isEnum, int inheritanceDepth) {}
+
+    private final Settings settings;
+
+    public SchemaCorpusGenerator(Settings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Writes the schema files of the corpus to specified directory.
+     * @param dir the directory to write to.
+     * @return the schema files written, in generation order.
+     */
+    public List<Path> write(Path dir) {
+        Random random = new Random(settings.seed());
+        List<GeneratedSchema> generated = new ArrayList<>();
+        List<Path> schemaFiles = new ArrayList<>();
+
+        for (int index = 0; index < settings.schemaCount(); index++) {
+            // The first schema is always an object, so later objects have something to refer to or inherit from
+            boolean isEnum = index > 0 && random.nextDouble() < settings.enumRatio();
+            String id = "%s-%05d-v1".formatted(isEnum ? "code" : "entity", index);
+
+            ObjectNode schema = MAPPER.createObjectNode();
+            schema.put("$schema", "https://json-schema.org/draft/2020-12/schema");
+            schema.put("$id", "%s/%s".formatted(SCHEMA_ID_ROOT_URI, id));
+            schema.put("description", "Synthetic schema %d".formatted(index));
+
+            int inheritanceDepth = 0;
+            if (isEnum) {
+                populateEnumSchema(schema);
+            } else {
+                inheritanceDepth = populateObjectSchema(schema, index, generated, random);
+            }
+
+            if (settings.modelSubdirCount() > 0) {
+                int subdir = random.nextInt(settings.modelSubdirCount() + 1);
+                if (subdir > 0) {
+                    schema.put("x-model-subdir", "module%d".formatted(subdir));
+                }
+            }
+
+            generated.add(new GeneratedSchema(id, isEnum, inheritanceDepth));
+            schemaFiles.add(writeFile(dir.resolve(toFileName(id)), schema));
+        }
+
+        return schemaFiles;
+    }
+
+    private void populateEnumSchema(ObjectNode schema) {
+        schema.put("type", "string");
+        ArrayNode constants = schema.putArray("enum");
+        for (int i = 0; i < settings.enumSize(); i++) {
+            constants.add("VALUE_%d".formatted(i));
+        }
+    }
+
+    private int populateObjectSchema(ObjectNode schema, int index, List<GeneratedSchema> generated, Random random) {
+        ObjectNode body = schema;
+        int inheritanceDepth = 0;
+
+        GeneratedSchema parent = pickParent(generated, random);
+        if (nonNull(parent)) {
+            ArrayNode allOf = schema.putArray("allOf");
+            allOf.addObject().put("$ref", toRef(parent));
+            body = allOf.addObject();
+            inheritanceDepth = parent.inheritanceDepth() + 1;
+        }
+
+        body.put("type", "object");
+        ObjectNode properties = body.putObject("properties");
+        ArrayNode required = body.putArray("required");
+
+        int refCount = generated.isEmpty() ? 0 : Math.min(settings.refsPerObject(), settings.propertiesPerObject());
+        for (int i = 0; i < settings.propertiesPerObject(); i++) {
+            String propName = "%s_%d_%d".formatted(WORDS[i % WORDS.length], index, i);
+            ObjectNode property = properties.putObject(propName);
+            if (i < refCount) {
+                populateRefProperty(property, pickRefTarget(generated, random), random);
+            } else {
+                populatePrimitiveProperty(property, random);
+            }
+
+            if (random.nextBoolean()) {
+                required.add(propName);
+            }
+        }
+
+        return inheritanceDepth;
+    }
+
+    private GeneratedSchema pickParent(List<GeneratedSchema> generated, Random random) {
+        if (settings.maxInheritanceDepth() == 0 || generated.isEmpty() || random.nextInt(3) != 0) {
+            return null;
+        }
+
+        GeneratedSchema candidate = generated.get(random.nextInt(generated.size()));
+        return !candidate.isEnum() && candidate.inheritanceDepth() < settings.maxInheritanceDepth() ? candidate : null;
+    }
+
+    private GeneratedSchema pickRefTarget(List<GeneratedSchema> generated, Random random) {
+        int hubCount = Math.min(settings.hubCount(), generated.size());
+        if (hubCount > 0 && random.nextBoolean()) {
+            return generated.get(random.nextInt(hubCount));
+        }
+        return generated.get(random.nextInt(generated.size()));
+    }
+
+    private static void populateRefProperty(ObjectNode property, GeneratedSchema target, Random random) {
+        if (random.nextInt(4) == 0) {
+            property.put("type", "array");
+            property.putObject("items").put("$ref", toRef(target));
+        } else {
+            property.put("$ref", toRef(target));
+        }
+    }
+
+    private static void populatePrimitiveProperty(ObjectNode property, Random random) {
+        switch (random.nextInt(7)) {
+            case 0 -> {
+                property.put("type", "string");
+                property.put("minLength", 1);
+                property.put("maxLength", 10 + random.nextInt(200));
+            }
+            case 1 -> {
+                property.put("type", "string");
+                property.put("format", STRING_FORMATS[random.nextInt(STRING_FORMATS.length)]);
+            }
+            case 2 -> {
+                property.put("type", "integer");
+                property.put("format", random.nextBoolean() ? "int32" : "int64");
+                property.put("minimum", 0);
+            }
+            case 3 -> {
+                property.put("type", "number");
+                property.put("maximum", 1000000);
+            }
+            case 4 -> property.put("type", "boolean");
+            case 5 -> {
+                property.put("type", "array");
+                property.put("uniqueItems", random.nextBoolean());
+                property.putObject("items").put("type", "string");
+            }
+            default -> {
+                ArrayNode types = property.putArray("type");
+                types.add("string");
+                types.add("null");
+                property.put("pattern", "^[A-Z][a-z]*$");
+            }
+        }
+        property.put("description", "Synthetic property");
+    }
+
+    private static String toRef(GeneratedSchema schema) {
+        return "%s/%s".formatted(SCHEMA_ID_ROOT_URI, schema.id());
+    }
+
+    /**
+     * Gets the file name of a schema, matching the type name derived from its $id.
+     */
+    private static String toFileName(String id) {
+        StringBuilder fileName = new StringBuilder();
+        for (String part : id.split("-")) {
+            fileName.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+        }
+        return fileName.append(".json").toString();
+    }
+
+    private static Path writeFile(Path file, ObjectNode schema) {
+        try {
+            return Files.writeString(file, MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(schema));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.corpus;
+
+import io.github.torand.jsonschema2java.collectors.SchemaValidator;
+import io.github.torand.jsonschema2java.generators.ModelGenerator;
+import io.github.torand.jsonschema2java.generators.Options;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaCorpusGeneratorTest {
+
+    @Test
+    void shouldGenerateSameCorpusForSameSeed(@TempDir Path tempDir) throws IOException {
+        SchemaCorpusGenerator.Settings settings = SchemaCorpusGenerator.Settings.defaults().withSchemaCount(50);
+
+        List<Path> first = new SchemaCorpusGenerator(settings).write(Files.createDirectory(tempDir.resolve("first")));
+        List<Path> second = new SchemaCorpusGenerator(settings).write(Files.createDirectory(tempDir.resolve("second")));
+        List<Path> other = new SchemaCorpusGenerator(settings.withSeed(7L)).write(Files.createDirectory(tempDir.resolve("other")));
+
+        assertThat(first).hasSize(50);
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i)).hasSameTextualContentAs(first.get(i));
+        }
+        assertThat(Files.readString(other.get(10))).isNotEqualTo(Files.readString(first.get(10)));
+    }
+
+    @Test
+    void shouldGenerateValidSchemasAtScale(@TempDir Path tempDir) throws IOException {
+        Path schemaDir = Files.createDirectory(tempDir.resolve("schemas"));
+        List<Path> schemaFiles = new SchemaCorpusGenerator(SchemaCorpusGenerator.Settings.defaults().withSchemaCount(1000)).write(schemaDir);
+
+        assertThat(new SchemaValidator().validateAll(schemaFiles, Runtime.getRuntime().availableProcessors())).isEmpty();
+
+        Options opts = Options.defaults()
+            .withSearchRootDir(schemaDir.toString())
+            .withSchemaIdRootUri(URI.create(SchemaCorpusGenerator.SCHEMA_ID_ROOT_URI))
+            .withRootPackage("io.github.torand.test.corpus")
+            .withOutputDir(tempDir.resolve("output").toString())
+            .withParallelism(0);
+
+        new ModelGenerator(opts).generate(schemaFiles);
+
+        try (Stream<Path> outputFiles = Files.walk(tempDir.resolve("output"))) {
+            assertThat(outputFiles.filter(file -> file.toString().endsWith(".java"))).hasSize(1000);
+        }
+    }
+}
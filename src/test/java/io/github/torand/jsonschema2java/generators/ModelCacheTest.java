@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.generators;
+
+import io.github.torand.jsonschema2java.collectors.EnumInfoCollector;
+import io.github.torand.jsonschema2java.collectors.PojoInfoCollector;
+import io.github.torand.jsonschema2java.collectors.SchemaResolver;
+import io.github.torand.jsonschema2java.model.EnumInfo;
+import io.github.torand.jsonschema2java.model.PojoInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static io.github.torand.jsonschema2java.TestHelper.getJavaOptions;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelCacheTest {
+
+    @Test
+    void shouldReadCachedModelEqualToCollectedModel(@TempDir Path cacheDir) {
+        Options opts = getJavaOptions().withShareSchemaCache(false);
+        SchemaResolver schemaResolver = new SchemaResolver(opts);
+        ModelCache modelCache = new ModelCache(cacheDir, opts, schemaResolver.getSourceCache());
+
+        Path orderFile = Path.of(opts.searchRootDir(), "OrderV1.json");
+        Path statusFile = Path.of(opts.searchRootDir(), "OrderStatusV1.json");
+        SchemaDependencyGraph graph = SchemaDependencyGraph.build(List.of(orderFile, statusFile), schemaResolver, modelCache);
+
+        PojoInfo pojoInfo = new PojoInfoCollector(opts, schemaResolver).getPojoInfo("OrderV1Dto", schemaResolver.load(orderFile));
+        EnumInfo enumInfo = new EnumInfoCollector(opts).getEnumInfo("OrderStatusV1Dto", schemaResolver.load(statusFile));
+
+        String orderKey = modelCache.getKey(orderFile, graph);
+        String statusKey = modelCache.getKey(statusFile, graph);
+        assertThat(orderKey).isNotEqualTo(statusKey);
+        assertThat(modelCache.get(orderKey)).isEmpty();
+
+        modelCache.put(orderKey, new ModelCache.Model(null, pojoInfo));
+        modelCache.put(statusKey, new ModelCache.Model(enumInfo, null));
+
+        assertThat(modelCache.get(orderKey)).contains(new ModelCache.Model(null, pojoInfo));
+        assertThat(modelCache.get(statusKey)).contains(new ModelCache.Model(enumInfo, null));
+    }
+
+    @Test
+    void shouldCacheRefsByContentHash(@TempDir Path cacheDir) {
+        Options opts = getJavaOptions();
+        SchemaResolver schemaResolver = new SchemaResolver(opts);
+        ModelCache modelCache = new ModelCache(cacheDir, opts, schemaResolver.getSourceCache());
+
+        Path orderFile = Path.of(opts.searchRootDir(), "OrderV1.json");
+        String contentHash = schemaResolver.getSourceCache().getContentHash(orderFile);
+        assertThat(modelCache.getRefs(contentHash)).isEmpty();
+
+        SchemaDependencyGraph.build(List.of(orderFile), schemaResolver, modelCache);
+
+        Set<URI> refs = schemaResolver.load(orderFile).refs();
+        assertThat(refs).isNotEmpty();
+        assertThat(modelCache.getRefs(contentHash)).contains(refs);
+    }
+
+    @Test
+    void shouldDeleteTemporaryFileWhenWriteFails(@TempDir Path cacheDir) throws IOException {
+        Options opts = getJavaOptions();
+        ModelCache modelCache = new ModelCache(cacheDir, opts, new SchemaResolver(opts).getSourceCache());
+
+        // A non-empty directory in place of the cache file makes moving the written temporary file fail
+        Path blockingDir = Files.createDirectories(cacheDir.resolve("refs").resolve("hash.bin"));
+        Files.writeString(blockingDir.resolve("file"), "");
+
+        modelCache.putRefs("hash", Set.of(URI.create("https://my-domain.com/my-api/schemas/address-v1")));
+
+        try (Stream<Path> files = Files.list(cacheDir.resolve("refs"))) {
+            assertThat(files).containsExactly(blockingDir);
+        }
+    }
+}
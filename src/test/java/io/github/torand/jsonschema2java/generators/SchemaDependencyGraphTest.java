@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.generators;
+
+import io.github.torand.jsonschema2java.collectors.SchemaResolver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.github.torand.jsonschema2java.TestHelper.getJavaOptions;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaDependencyGraphTest {
+
+    private static final String SCHEMA_ID_ROOT = "https://my-domain.com/my-api/schemas/";
+
+    @Test
+    void shouldOrderReferencedSchemasFirstAndFindCycles(@TempDir Path tempDir) throws IOException {
+        // OrderV1 -> CustomerV1 -> AddressV1, and ParentV1 <-> ChildV1
+        Path order = writeSchema(tempDir, "OrderV1", "customer-v1", "address-v1");
+        Path customer = writeSchema(tempDir, "CustomerV1", "address-v1");
+        Path address = writeSchema(tempDir, "AddressV1");
+        Path parent = writeSchema(tempDir, "ParentV1", "child-v1");
+        Path child = writeSchema(tempDir, "ChildV1", "parent-v1");
+
+        SchemaResolver schemaResolver = new SchemaResolver(getJavaOptions().withSearchRootDir(tempDir.toString()));
+        SchemaDependencyGraph graph = SchemaDependencyGraph.build(List.of(order, parent, customer, child, address), schemaResolver);
+
+        assertThat(graph.size()).isEqualTo(5);
+        assertThat(graph.getGenerationOrder(List.of(order, parent, customer, child, address)))
+            .containsExactly(address, customer, order, parent, child);
+        assertThat(graph.getLevel(order)).isEqualTo(2);
+        assertThat(graph.getDependentCount(address)).isEqualTo(2);
+        assertThat(graph.getTransitiveDependents(address)).containsExactlyInAnyOrder(customer, order);
+
+        assertThat(graph.getCycles()).hasSize(1);
+        assertThat(graph.formatCycle(graph.getCycles().get(0))).isIn("ParentV1 -> ChildV1 -> ParentV1", "ChildV1 -> ParentV1 -> ChildV1");
+
+        assertThat(graph.toDot()).contains("digraph schemas", "[label=\"AddressV1\\n2 dependents\"]");
+        assertThat(graph.toJson()).contains("\"cycles\"", "\"dependents\" : 2").doesNotContain("transitiveDependents");
+    }
+
+    @Test
+    void shouldSkipRefsOutsideSchemaIdRoot(@TempDir Path tempDir) throws IOException {
+        Path link = tempDir.resolve("LinkV1.json");
+        Files.writeString(link, """
+            {
+              "$id": "%sLinkV1",
+              "type": "object",
+              "properties": {
+                "target": {"$ref": "https://other-domain.com/schemas/target-v1"},
+                "address": {"$ref": "%saddress-v1"}
+              }
+            }
+            """.formatted(SCHEMA_ID_ROOT, SCHEMA_ID_ROOT));
+        Path address = writeSchema(tempDir, "AddressV1");
+
+        SchemaResolver schemaResolver = new SchemaResolver(getJavaOptions().withSearchRootDir(tempDir.toString()));
+        SchemaDependencyGraph graph = SchemaDependencyGraph.build(List.of(link), schemaResolver);
+
+        assertThat(graph.size()).isEqualTo(2);
+        assertThat(graph.getGenerationOrder(List.of(link, address))).containsExactly(address, link);
+    }
+
+    @Test
+    void shouldFindCyclesInLongReferenceChains() {
+        // Schema0 -> Schema1 -> ... -> Schema99999 -> Schema0, deeper than a recursive search could go
+        int schemaCount = 100_000;
+        Map<Path, String> names = new LinkedHashMap<>();
+        Map<Path, Set<Path>> refsByFile = new LinkedHashMap<>();
+        for (int i = 0; i < schemaCount; i++) {
+            Path schemaFile = Path.of("/schemas/Schema%d.json".formatted(i));
+            names.put(schemaFile, "Schema" + i);
+            refsByFile.put(schemaFile, Set.of(Path.of("/schemas/Schema%d.json".formatted((i + 1) % schemaCount))));
+        }
+
+        SchemaDependencyGraph graph = new SchemaDependencyGraph(names, refsByFile);
+
+        assertThat(graph.getCycles()).hasSize(1);
+        assertThat(graph.getCycles().get(0)).hasSize(schemaCount);
+        assertThat(graph.getLevel(Path.of("/schemas/Schema0.json"))).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    private static Path writeSchema(Path dir, String name, String... refs) throws IOException {
+        StringBuilder properties = new StringBuilder();
+        for (String ref : refs) {
+            if (!properties.isEmpty()) {
+                properties.append(", ");
+            }
+            properties.append("\"%s\": {\"$ref\": \"%s%s\"}".formatted(ref.replace("-", ""), SCHEMA_ID_ROOT, ref));
+        }
+
+        Path schemaFile = dir.resolve(name + ".json");
+        Files.writeString(schemaFile, """
+            {
+              "$id": "%s%s",
+              "type": "object",
+              "properties": {%s}
+            }
+            """.formatted(SCHEMA_ID_ROOT, name, properties));
+        return schemaFile;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.generators;
+
+import io.github.torand.jsonschema2java.collectors.SchemaFileFinder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.github.torand.jsonschema2java.TestHelper.getJavaOptions;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaWatcherTest {
+
+    private static final String SCHEMA_ID_ROOT = "https://my-domain.com/my-api/schemas/";
+
+    @Test
+    void shouldRegenerateChangedSchemaAndDependentsOnly(@TempDir Path tempDir) throws IOException {
+        Path schemaDir = Files.createDirectory(tempDir.resolve("schemas"));
+        Path order = writeSchema(schemaDir, "OrderV1", "Order", "customer-v1");
+        Path customer = writeSchema(schemaDir, "CustomerV1", "Customer", "address-v1");
+        Path address = writeSchema(schemaDir, "AddressV1", "Address");
+        writeSchema(schemaDir, "ProductV1", "Product");
+
+        Options opts = getJavaOptions()
+            .withSearchRootDir(schemaDir.toString())
+            .withOutputDir(tempDir.resolve("output").toString());
+
+        SchemaWatcher schemaWatcher = new SchemaWatcher(opts, new SchemaFileFinder(schemaDir, List.of("*.json"), List.of(), null));
+        schemaWatcher.generateAll();
+
+        Path addressOutputFile = Path.of(opts.getModelOutputDir(null), "AddressV1Dto.java");
+        assertThat(addressOutputFile).content().contains("description = \"Address\"");
+
+        writeSchema(schemaDir, "AddressV1", "Postal address");
+
+        assertThat(schemaWatcher.onSchemaFilesChanged(List.of(address)))
+            .containsExactlyInAnyOrder(address, customer, order);
+        assertThat(addressOutputFile).content().contains("description = \"Postal address\"");
+    }
+
+    @Test
+    void shouldDeleteSourceCodeOfDeletedSchemas(@TempDir Path tempDir) throws IOException {
+        Path schemaDir = Files.createDirectory(tempDir.resolve("schemas"));
+        writeSchema(schemaDir, "AddressV1", "Address");
+        Path product = writeSchema(schemaDir, "ProductV1", "Product");
+
+        Options opts = getJavaOptions()
+            .withSearchRootDir(schemaDir.toString())
+            .withOutputDir(tempDir.resolve("output").toString())
+            .withGenerateValidators(true);
+
+        SchemaWatcher schemaWatcher = new SchemaWatcher(opts, new SchemaFileFinder(schemaDir, List.of("*.json"), List.of(), null));
+        schemaWatcher.generateAll();
+
+        Path productOutputFile = Path.of(opts.getModelOutputDir(null), "ProductV1Dto.java");
+        Path productValidatorFile = Path.of(opts.getModelOutputDir(null), "ProductV1DtoValidator.java");
+        assertThat(productOutputFile).exists();
+        assertThat(productValidatorFile).exists();
+
+        Files.delete(product);
+
+        assertThat(schemaWatcher.onSchemaFilesChanged(List.of(product))).isEmpty();
+        assertThat(productOutputFile).doesNotExist();
+        assertThat(productValidatorFile).doesNotExist();
+        assertThat(Path.of(opts.getModelOutputDir(null), "AddressV1Dto.java")).exists();
+        assertThat(Path.of(opts.outputDir(), GenerationManifest.MANIFEST_FILENAME)).content().doesNotContain("ProductV1");
+    }
+
+    private static Path writeSchema(Path dir, String name, String description, String... refs) throws IOException {
+        StringBuilder properties = new StringBuilder();
+        for (String ref : refs) {
+            if (!properties.isEmpty()) {
+                properties.append(", ");
+            }
+            properties.append("\"%s\": {\"$ref\": \"%s%s\"}".formatted(ref.replace("-", ""), SCHEMA_ID_ROOT, ref));
+        }
+
+        Path schemaFile = dir.resolve(name + ".json");
+        Files.writeString(schemaFile, """
+            {
+              "$id": "%s%s",
+              "type": "object",
+              "description": "%s",
+              "properties": {%s}
+            }
+            """.formatted(SCHEMA_ID_ROOT, name, description, properties));
+        return schemaFile;
+    }
+}
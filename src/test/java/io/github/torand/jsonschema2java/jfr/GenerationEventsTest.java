@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.jfr;
+
+import io.github.torand.jsonschema2java.generators.ModelGenerator;
+import io.github.torand.jsonschema2java.generators.Options;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.github.torand.jsonschema2java.TestHelper.getJavaOptions;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationEventsTest {
+
+    @Test
+    void shouldEmitEventsWhenRecording(@TempDir Path tempDir) throws IOException {
+        Options opts = getJavaOptions().withOutputDir(tempDir.resolve("output").toString());
+        Path recordingFile = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(SchemaLoadedEvent.class);
+            recording.enable(RefResolvedEvent.class);
+            recording.enable(PojoCollectedEvent.class);
+            recording.enable(FileWrittenEvent.class);
+            recording.start();
+
+            new ModelGenerator(opts).generate(List.of(Path.of(opts.searchRootDir(), "OrderV1.json")));
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("io.github.torand.jsonschema2java.SchemaLoaded");
+            assertThat(event.getString("schemaName")).isEqualTo("OrderV1");
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("io.github.torand.jsonschema2java.RefResolved");
+            assertThat(event.getBoolean("cacheHit")).isFalse();
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("io.github.torand.jsonschema2java.PojoCollected");
+            assertThat(event.getString("pojoName")).isEqualTo("OrderV1Dto");
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo("io.github.torand.jsonschema2java.FileWritten");
+            assertThat(event.getLong("size")).isPositive();
+        });
+    }
+}
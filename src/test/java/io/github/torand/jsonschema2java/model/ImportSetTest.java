@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImportSetTest {
+
+    @Test
+    void shouldKeepImportsSortedAndDistinct() {
+        ImportSet imports = ImportSet.copyOf(List.of("java.util.UUID", "java.net.URI", "java.util.UUID"))
+            .with("jakarta.validation.Valid")
+            .union(Set.of("java.math.BigDecimal", "java.net.URI"));
+
+        assertThat(imports).containsExactly("jakarta.validation.Valid", "java.math.BigDecimal", "java.net.URI", "java.util.UUID");
+        assertThat(imports).isEqualTo(new TreeSet<>(imports));
+    }
+
+    @Test
+    void shouldReuseInstancesWhenNothingIsAdded() {
+        ImportSet imports = ImportSet.copyOf(Set.of("java.util.List", "java.util.Set"));
+        ImportSet subset = ImportSet.copyOf(Set.of("java.util.List"));
+
+        assertThat(imports.with("java.util.Set")).isSameAs(imports);
+        assertThat(imports.union(subset)).isSameAs(imports);
+        assertThat(subset.union(imports)).isSameAs(imports);
+        assertThat(ImportSet.unionOf(List.of(subset, imports, ImportSet.empty()))).isSameAs(imports);
+    }
+
+    @Test
+    void shouldBoundInternedNames() {
+        for (int i = 0; i <= ImportSet.MAX_INTERNED_NAMES; i++) {
+            ImportSet.empty().with("com.example.Type" + i);
+        }
+
+        assertThat(ImportSet.internedNameCount()).isLessThanOrEqualTo(ImportSet.MAX_INTERNED_NAMES);
+    }
+}
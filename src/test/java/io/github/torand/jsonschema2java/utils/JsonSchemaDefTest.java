@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024-2026 Tore Eide Andersen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.torand.jsonschema2java.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.net.URI;
+
+import static io.github.torand.jsonschema2java.TestHelper.parseJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonSchemaDefTest {
+
+    @Test
+    void shouldParseKeywordsOnce() {
+        JsonSchemaDef schema = new JsonSchemaDef("Pojo", parseJson("""
+            {
+              "type": ["object", "null"],
+              "required": ["b", "a"],
+              "properties": {
+                "b": {"type": "string", "enum": ["X", "Y"], "x-nullable": true},
+                "a": {"type": "number", "minimum": 1.5}
+              },
+              "additionalProperties": false
+            }
+            """));
+
+        assertThat(schema.hasType("object")).isTrue();
+        assertThat(schema.hasType("null")).isTrue();
+        assertThat(schema.hasType("string")).isFalse();
+        assertThat(schema.isClass()).isTrue();
+        assertThat(schema.required()).containsExactly("b", "a");
+        assertThat(schema.isRequired("a")).isTrue();
+        assertThat(schema.properties()).containsOnlyKeys("b", "a");
+        assertThat(schema.properties().keySet()).containsExactly("b", "a");
+        assertThat(schema.properties()).isSameAs(schema.properties());
+        assertThat(schema.additionalProperties()).isEqualTo(false);
+
+        JsonSchemaDef b = schema.properties().get("b");
+        assertThat(b.isEnum()).isTrue();
+        assertThat(b.enums()).containsExactly("X", "Y");
+        assertThat(b.extensions()).isSameAs(b.extensions());
+        assertThat(b.extensions().getBoolean("x-nullable")).contains(true);
+
+        assertThat(schema.properties().get("a").minimum()).isEqualTo(BigDecimal.valueOf(1.5));
+        assertThat(schema.properties().get("a").maximum()).isNull();
+    }
+
+    @Test
+    void shouldCollectRefsOfSubschemasOnly() {
+        JsonSchemaDef schema = new JsonSchemaDef("Pojo", parseJson("""
+            {
+              "type": "object",
+              "properties": {
+                "a": {"$ref": "https://my-domain.com/a", "examples": [{"$ref": "#/components/schemas/Foo"}]},
+                "b": {"type": "array", "items": {"$ref": "https://my-domain.com/b"}, "default": [{"$ref": "x"}]},
+                "c": {"anyOf": [{"$ref": "https://my-domain.com/c"}, {"not": {"$ref": "https://my-domain.com/d"}}]},
+                "d": {"const": {"$ref": "y"}, "x-extension": {"$ref": "z"}}
+              },
+              "additionalProperties": {"$ref": "https://my-domain.com/e"},
+              "$defs": {"f": {"allOf": [{"$ref": "https://my-domain.com/f"}]}}
+            }
+            """));
+
+        assertThat(schema.refs()).extracting(URI::toString).containsExactlyInAnyOrder(
+            "https://my-domain.com/a",
+            "https://my-domain.com/b",
+            "https://my-domain.com/c",
+            "https://my-domain.com/d",
+            "https://my-domain.com/f",
+            "https://my-domain.com/e");
+    }
+}
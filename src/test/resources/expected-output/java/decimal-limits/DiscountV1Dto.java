@@ -0,0 +1,25 @@
+package io.github.torand.test.model;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(name = "DiscountV1", description = "A discount given on an order")
+public record DiscountV1Dto (
+
+    @Schema(description = "The discount code", required = true)
+    @NotBlank
+    String code,
+
+    @Schema(description = "Discount in percent", required = true)
+    @NotNull
+    @Min(0)
+    @Max(100)
+    BigDecimal percent
+) {
+
+}
@@ -0,0 +1,44 @@
+package io.github.torand.test.model;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class DiscountV1DtoValidator {
+
+    private DiscountV1DtoValidator() {
+    }
+
+    public static List<ModelValidationException.Violation> validate(DiscountV1Dto value) {
+        List<ModelValidationException.Violation> violations = new ArrayList<>();
+        validate(value, "", violations);
+        return violations;
+    }
+
+    public static void validateOrThrow(DiscountV1Dto value) {
+        List<ModelValidationException.Violation> violations = validate(value);
+        if (!violations.isEmpty()) {
+            throw new ModelValidationException(violations);
+        }
+    }
+
+    public static void validate(DiscountV1Dto value, String path, List<ModelValidationException.Violation> violations) {
+        if (value.code() == null) {
+            violations.add(new ModelValidationException.Violation(path + "code", "must not be blank"));
+        } else {
+            if (value.code().isBlank()) {
+                violations.add(new ModelValidationException.Violation(path + "code", "must not be blank"));
+            }
+        }
+        if (value.percent() == null) {
+            violations.add(new ModelValidationException.Violation(path + "percent", "must not be null"));
+        } else {
+            if (value.percent().compareTo(BigDecimal.valueOf(0L)) < 0) {
+                violations.add(new ModelValidationException.Violation(path + "percent", "must be greater than or equal to 0"));
+            }
+            if (value.percent().compareTo(BigDecimal.valueOf(100L)) > 0) {
+                violations.add(new ModelValidationException.Violation(path + "percent", "must be less than or equal to 100"));
+            }
+        }
+    }
+}
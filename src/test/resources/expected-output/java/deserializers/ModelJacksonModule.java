@@ -0,0 +1,21 @@
+package io.github.torand.test.model;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.torand.test.model.common.AddressV1Dto;
+import io.github.torand.test.model.common.AddressV1DtoDeserializer;
+import io.github.torand.test.model.common.EmptyObjectV1Dto;
+import io.github.torand.test.model.common.EmptyObjectV1DtoDeserializer;
+
+public class ModelJacksonModule extends SimpleModule {
+
+    public ModelJacksonModule() {
+        super("ModelJacksonModule");
+        addDeserializer(InternalUserV1Dto.class, new InternalUserV1DtoDeserializer());
+        addDeserializer(OrderItemV1Dto.class, new OrderItemV1DtoDeserializer());
+        addDeserializer(OrderV1Dto.class, new OrderV1DtoDeserializer());
+        addDeserializer(ProductV1Dto.class, new ProductV1DtoDeserializer());
+        addDeserializer(UserV1Dto.class, new UserV1DtoDeserializer());
+        addDeserializer(AddressV1Dto.class, new AddressV1DtoDeserializer());
+        addDeserializer(EmptyObjectV1Dto.class, new EmptyObjectV1DtoDeserializer());
+    }
+}
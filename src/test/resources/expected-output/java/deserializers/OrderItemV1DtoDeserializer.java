@@ -0,0 +1,87 @@
+package io.github.torand.test.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+public class OrderItemV1DtoDeserializer extends StdDeserializer<OrderItemV1Dto> {
+
+    private static final String PRODUCT = "product";
+    private static final String QUANTITY = "quantity";
+
+    public OrderItemV1DtoDeserializer() {
+        super(OrderItemV1Dto.class);
+    }
+
+    @Override
+    public OrderItemV1Dto deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String propertyName;
+        if (p.isExpectedStartObjectToken()) {
+            propertyName = p.nextFieldName();
+        } else if (p.hasToken(JsonToken.FIELD_NAME)) {
+            propertyName = p.currentName();
+        } else if (p.hasToken(JsonToken.END_OBJECT)) {
+            propertyName = null;
+        } else {
+            return (OrderItemV1Dto) ctxt.handleUnexpectedToken(OrderItemV1Dto.class, p);
+        }
+
+        ProductV1Dto product = null;
+        Integer quantity = null;
+
+        // Fast path: properties arriving in declared order are matched by a single comparison each
+        if (PRODUCT.equals(propertyName)) {
+            p.nextToken();
+            product = readProduct(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (QUANTITY.equals(propertyName)) {
+            p.nextToken();
+            quantity = readQuantity(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+
+        // Remaining properties, in any order
+        while (propertyName != null) {
+            p.nextToken();
+            switch (propertyName) {
+                case PRODUCT:
+                    product = readProduct(p, ctxt);
+                    break;
+                case QUANTITY:
+                    quantity = readQuantity(p, ctxt);
+                    break;
+                default:
+                    if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+                        handleUnknownProperty(p, ctxt, OrderItemV1Dto.class, propertyName);
+                    } else {
+                        p.skipChildren();
+                    }
+            }
+            propertyName = p.nextFieldName();
+        }
+
+        return new OrderItemV1Dto(product, quantity);
+    }
+
+    private static ProductV1Dto readProduct(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, ProductV1Dto.class);
+    }
+
+    private static Integer readQuantity(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return p.getIntValue();
+        }
+        return ctxt.readValue(p, Integer.class);
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.torand.test.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+public class OrderV1DtoDeserializer extends StdDeserializer<OrderV1Dto> {
+
+    private static final String PLACED_BY = "placedBy";
+    private static final String STATUS = "status";
+    private static final String CREATED_TIME = "createdTime";
+    private static final String ITEMS = "items";
+    private static final String COMMENT = "comment";
+
+    private static final DateTimeFormatter CREATED_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final JavaType ITEMS_TYPE = TypeFactory.defaultInstance().constructType(new TypeReference<List<OrderItemV1Dto>>() {});
+
+    public OrderV1DtoDeserializer() {
+        super(OrderV1Dto.class);
+    }
+
+    @Override
+    public OrderV1Dto deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String propertyName;
+        if (p.isExpectedStartObjectToken()) {
+            propertyName = p.nextFieldName();
+        } else if (p.hasToken(JsonToken.FIELD_NAME)) {
+            propertyName = p.currentName();
+        } else if (p.hasToken(JsonToken.END_OBJECT)) {
+            propertyName = null;
+        } else {
+            return (OrderV1Dto) ctxt.handleUnexpectedToken(OrderV1Dto.class, p);
+        }
+
+        UserV1Dto placedBy = null;
+        OrderStatusV1Dto status = null;
+        LocalDateTime createdTime = null;
+        List<OrderItemV1Dto> items = null;
+        String comment = null;
+
+        // Fast path: properties arriving in declared order are matched by a single comparison each
+        if (PLACED_BY.equals(propertyName)) {
+            p.nextToken();
+            placedBy = readPlacedBy(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (STATUS.equals(propertyName)) {
+            p.nextToken();
+            status = readStatus(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (CREATED_TIME.equals(propertyName)) {
+            p.nextToken();
+            createdTime = readCreatedTime(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (ITEMS.equals(propertyName)) {
+            p.nextToken();
+            items = readItems(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (COMMENT.equals(propertyName)) {
+            p.nextToken();
+            comment = readComment(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+
+        // Remaining properties, in any order
+        while (propertyName != null) {
+            p.nextToken();
+            switch (propertyName) {
+                case PLACED_BY:
+                    placedBy = readPlacedBy(p, ctxt);
+                    break;
+                case STATUS:
+                    status = readStatus(p, ctxt);
+                    break;
+                case CREATED_TIME:
+                    createdTime = readCreatedTime(p, ctxt);
+                    break;
+                case ITEMS:
+                    items = readItems(p, ctxt);
+                    break;
+                case COMMENT:
+                    comment = readComment(p, ctxt);
+                    break;
+                default:
+                    if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+                        handleUnknownProperty(p, ctxt, OrderV1Dto.class, propertyName);
+                    } else {
+                        p.skipChildren();
+                    }
+            }
+            propertyName = p.nextFieldName();
+        }
+
+        return new OrderV1Dto(placedBy, status, createdTime, items, comment);
+    }
+
+    private static UserV1Dto readPlacedBy(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, UserV1Dto.class);
+    }
+
+    private static OrderStatusV1Dto readStatus(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, OrderStatusV1Dto.class);
+    }
+
+    private static LocalDateTime readCreatedTime(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return CREATED_TIME_FORMATTER.parse(p.getText(), LocalDateTime::from);
+        }
+        return ctxt.readValue(p, LocalDateTime.class);
+    }
+
+    private static List<OrderItemV1Dto> readItems(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, ITEMS_TYPE);
+    }
+
+    private static String readComment(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        return ctxt.readValue(p, String.class);
+    }
+}
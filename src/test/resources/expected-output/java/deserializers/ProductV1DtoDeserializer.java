@@ -0,0 +1,166 @@
+package io.github.torand.test.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.github.torand.test.model.common.EmptyObjectV1Dto;
+import io.github.torand.test.serialization.ProductNoDeserializer;
+
+import java.io.IOException;
+
+@SuppressWarnings("deprecation")
+public class ProductV1DtoDeserializer extends StdDeserializer<ProductV1Dto> {
+
+    private static final String NUMBER = "number";
+    private static final String NAME = "name";
+    private static final String CATEGORY = "category";
+    private static final String PRICE = "price";
+    private static final String COMMENT = "comment";
+    private static final String EMPTY = "empty";
+
+    private static final ProductNoDeserializer NUMBER_DESERIALIZER = new ProductNoDeserializer();
+
+    public ProductV1DtoDeserializer() {
+        super(ProductV1Dto.class);
+    }
+
+    @Override
+    public ProductV1Dto deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String propertyName;
+        if (p.isExpectedStartObjectToken()) {
+            propertyName = p.nextFieldName();
+        } else if (p.hasToken(JsonToken.FIELD_NAME)) {
+            propertyName = p.currentName();
+        } else if (p.hasToken(JsonToken.END_OBJECT)) {
+            propertyName = null;
+        } else {
+            return (ProductV1Dto) ctxt.handleUnexpectedToken(ProductV1Dto.class, p);
+        }
+
+        String number = null;
+        String name = null;
+        ProductCategoryV1Dto category = null;
+        Float price = null;
+        String comment = null;
+        EmptyObjectV1Dto empty = null;
+
+        // Fast path: properties arriving in declared order are matched by a single comparison each
+        if (NUMBER.equals(propertyName)) {
+            p.nextToken();
+            number = readNumber(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (NAME.equals(propertyName)) {
+            p.nextToken();
+            name = readName(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (CATEGORY.equals(propertyName)) {
+            p.nextToken();
+            category = readCategory(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (PRICE.equals(propertyName)) {
+            p.nextToken();
+            price = readPrice(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (COMMENT.equals(propertyName)) {
+            p.nextToken();
+            comment = readComment(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (EMPTY.equals(propertyName)) {
+            p.nextToken();
+            empty = readEmpty(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+
+        // Remaining properties, in any order
+        while (propertyName != null) {
+            p.nextToken();
+            switch (propertyName) {
+                case NUMBER:
+                    number = readNumber(p, ctxt);
+                    break;
+                case NAME:
+                    name = readName(p, ctxt);
+                    break;
+                case CATEGORY:
+                    category = readCategory(p, ctxt);
+                    break;
+                case PRICE:
+                    price = readPrice(p, ctxt);
+                    break;
+                case COMMENT:
+                    comment = readComment(p, ctxt);
+                    break;
+                case EMPTY:
+                    empty = readEmpty(p, ctxt);
+                    break;
+                default:
+                    if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+                        handleUnknownProperty(p, ctxt, ProductV1Dto.class, propertyName);
+                    } else {
+                        p.skipChildren();
+                    }
+            }
+            propertyName = p.nextFieldName();
+        }
+
+        return new ProductV1Dto(number, name, category, price, comment, empty);
+    }
+
+    private static String readNumber(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return NUMBER_DESERIALIZER.deserialize(p, ctxt);
+    }
+
+    private static String readName(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        return ctxt.readValue(p, String.class);
+    }
+
+    private static ProductCategoryV1Dto readCategory(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, ProductCategoryV1Dto.class);
+    }
+
+    private static Float readPrice(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.currentToken().isNumeric()) {
+            return p.getFloatValue();
+        }
+        return ctxt.readValue(p, Float.class);
+    }
+
+    private static String readComment(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        return ctxt.readValue(p, String.class);
+    }
+
+    private static EmptyObjectV1Dto readEmpty(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, EmptyObjectV1Dto.class);
+    }
+}
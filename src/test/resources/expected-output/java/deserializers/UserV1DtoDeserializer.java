@@ -0,0 +1,230 @@
+package io.github.torand.test.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.github.torand.test.model.common.AddressV1Dto;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public class UserV1DtoDeserializer extends StdDeserializer<UserV1Dto> {
+
+    private static final String FIRST_NAME = "firstName";
+    private static final String LAST_NAME = "lastName";
+    private static final String ADDRESS = "address";
+    private static final String EMAIL_ADDRESS = "emailAddress";
+    private static final String MOBILE_NUMBER = "mobileNumber";
+    private static final String MOBILE_NUMBER_VERIFIED = "mobileNumberVerified";
+    private static final String TYPE = "type";
+    private static final String CREATED_TIME = "createdTime";
+    private static final String LAST_LOGIN_TIME = "lastLoginTime";
+
+    private static final DateTimeFormatter CREATED_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final DateTimeFormatter LAST_LOGIN_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    public UserV1DtoDeserializer() {
+        super(UserV1Dto.class);
+    }
+
+    @Override
+    public UserV1Dto deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String propertyName;
+        if (p.isExpectedStartObjectToken()) {
+            propertyName = p.nextFieldName();
+        } else if (p.hasToken(JsonToken.FIELD_NAME)) {
+            propertyName = p.currentName();
+        } else if (p.hasToken(JsonToken.END_OBJECT)) {
+            propertyName = null;
+        } else {
+            return (UserV1Dto) ctxt.handleUnexpectedToken(UserV1Dto.class, p);
+        }
+
+        String firstName = null;
+        String lastName = null;
+        AddressV1Dto address = null;
+        String emailAddress = null;
+        String mobileNumber = null;
+        Boolean mobileNumberVerified = null;
+        UserTypeV1Dto type = null;
+        LocalDateTime createdTime = null;
+        LocalDateTime lastLoginTime = null;
+
+        // Fast path: properties arriving in declared order are matched by a single comparison each
+        if (FIRST_NAME.equals(propertyName)) {
+            p.nextToken();
+            firstName = readFirstName(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (LAST_NAME.equals(propertyName)) {
+            p.nextToken();
+            lastName = readLastName(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (ADDRESS.equals(propertyName)) {
+            p.nextToken();
+            address = readAddress(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (EMAIL_ADDRESS.equals(propertyName)) {
+            p.nextToken();
+            emailAddress = readEmailAddress(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (MOBILE_NUMBER.equals(propertyName)) {
+            p.nextToken();
+            mobileNumber = readMobileNumber(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (MOBILE_NUMBER_VERIFIED.equals(propertyName)) {
+            p.nextToken();
+            mobileNumberVerified = readMobileNumberVerified(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (TYPE.equals(propertyName)) {
+            p.nextToken();
+            type = readType(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (CREATED_TIME.equals(propertyName)) {
+            p.nextToken();
+            createdTime = readCreatedTime(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (LAST_LOGIN_TIME.equals(propertyName)) {
+            p.nextToken();
+            lastLoginTime = readLastLoginTime(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+
+        // Remaining properties, in any order
+        while (propertyName != null) {
+            p.nextToken();
+            switch (propertyName) {
+                case FIRST_NAME:
+                    firstName = readFirstName(p, ctxt);
+                    break;
+                case LAST_NAME:
+                    lastName = readLastName(p, ctxt);
+                    break;
+                case ADDRESS:
+                    address = readAddress(p, ctxt);
+                    break;
+                case EMAIL_ADDRESS:
+                    emailAddress = readEmailAddress(p, ctxt);
+                    break;
+                case MOBILE_NUMBER:
+                    mobileNumber = readMobileNumber(p, ctxt);
+                    break;
+                case MOBILE_NUMBER_VERIFIED:
+                    mobileNumberVerified = readMobileNumberVerified(p, ctxt);
+                    break;
+                case TYPE:
+                    type = readType(p, ctxt);
+                    break;
+                case CREATED_TIME:
+                    createdTime = readCreatedTime(p, ctxt);
+                    break;
+                case LAST_LOGIN_TIME:
+                    lastLoginTime = readLastLoginTime(p, ctxt);
+                    break;
+                default:
+                    if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+                        handleUnknownProperty(p, ctxt, UserV1Dto.class, propertyName);
+                    } else {
+                        p.skipChildren();
+                    }
+            }
+            propertyName = p.nextFieldName();
+        }
+
+        return new UserV1Dto(firstName, lastName, address, emailAddress, mobileNumber, mobileNumberVerified, type, createdTime, lastLoginTime);
+    }
+
+    private static String readFirstName(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        return ctxt.readValue(p, String.class);
+    }
+
+    private static String readLastName(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        return ctxt.readValue(p, String.class);
+    }
+
+    private static AddressV1Dto readAddress(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, AddressV1Dto.class);
+    }
+
+    private static String readEmailAddress(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        return ctxt.readValue(p, String.class);
+    }
+
+    private static String readMobileNumber(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        return ctxt.readValue(p, String.class);
+    }
+
+    private static Boolean readMobileNumberVerified(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.currentToken().isBoolean()) {
+            return p.getBooleanValue();
+        }
+        return ctxt.readValue(p, Boolean.class);
+    }
+
+    private static UserTypeV1Dto readType(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, UserTypeV1Dto.class);
+    }
+
+    private static LocalDateTime readCreatedTime(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return CREATED_TIME_FORMATTER.parse(p.getText(), LocalDateTime::from);
+        }
+        return ctxt.readValue(p, LocalDateTime.class);
+    }
+
+    private static LocalDateTime readLastLoginTime(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return LAST_LOGIN_TIME_FORMATTER.parse(p.getText(), LocalDateTime::from);
+        }
+        return ctxt.readValue(p, LocalDateTime.class);
+    }
+}
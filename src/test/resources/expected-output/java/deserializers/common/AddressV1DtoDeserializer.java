@@ -0,0 +1,130 @@
+package io.github.torand.test.model.common;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+public class AddressV1DtoDeserializer extends StdDeserializer<AddressV1Dto> {
+
+    private static final String STREET_ADDRESS = "streetAddress";
+    private static final String ZIP_CODE = "zipCode";
+    private static final String CITY = "city";
+    private static final String COUNTRY_CODE = "countryCode";
+
+    public AddressV1DtoDeserializer() {
+        super(AddressV1Dto.class);
+    }
+
+    @Override
+    public AddressV1Dto deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String propertyName;
+        if (p.isExpectedStartObjectToken()) {
+            propertyName = p.nextFieldName();
+        } else if (p.hasToken(JsonToken.FIELD_NAME)) {
+            propertyName = p.currentName();
+        } else if (p.hasToken(JsonToken.END_OBJECT)) {
+            propertyName = null;
+        } else {
+            return (AddressV1Dto) ctxt.handleUnexpectedToken(AddressV1Dto.class, p);
+        }
+
+        String streetAddress = null;
+        String zipCode = null;
+        String city = null;
+        String countryCode = null;
+
+        // Fast path: properties arriving in declared order are matched by a single comparison each
+        if (STREET_ADDRESS.equals(propertyName)) {
+            p.nextToken();
+            streetAddress = readStreetAddress(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (ZIP_CODE.equals(propertyName)) {
+            p.nextToken();
+            zipCode = readZipCode(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (CITY.equals(propertyName)) {
+            p.nextToken();
+            city = readCity(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (COUNTRY_CODE.equals(propertyName)) {
+            p.nextToken();
+            countryCode = readCountryCode(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+
+        // Remaining properties, in any order
+        while (propertyName != null) {
+            p.nextToken();
+            switch (propertyName) {
+                case STREET_ADDRESS:
+                    streetAddress = readStreetAddress(p, ctxt);
+                    break;
+                case ZIP_CODE:
+                    zipCode = readZipCode(p, ctxt);
+                    break;
+                case CITY:
+                    city = readCity(p, ctxt);
+                    break;
+                case COUNTRY_CODE:
+                    countryCode = readCountryCode(p, ctxt);
+                    break;
+                default:
+                    if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+                        handleUnknownProperty(p, ctxt, AddressV1Dto.class, propertyName);
+                    } else {
+                        p.skipChildren();
+                    }
+            }
+            propertyName = p.nextFieldName();
+        }
+
+        return new AddressV1Dto(streetAddress, zipCode, city, countryCode);
+    }
+
+    private static String readStreetAddress(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        return ctxt.readValue(p, String.class);
+    }
+
+    private static String readZipCode(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        return ctxt.readValue(p, String.class);
+    }
+
+    private static String readCity(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        return ctxt.readValue(p, String.class);
+    }
+
+    private static String readCountryCode(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return p.getText();
+        }
+        return ctxt.readValue(p, String.class);
+    }
+}
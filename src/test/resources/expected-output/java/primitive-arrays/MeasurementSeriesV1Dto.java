@@ -0,0 +1,28 @@
+package io.github.torand.test.model;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+@Schema(name = "MeasurementSeriesV1", description = "A series of sensor measurements")
+public record MeasurementSeriesV1Dto (
+
+    @Schema(description = "Ids of the measuring sensors", required = true)
+    @NotNull
+    @Size(min = 1)
+    int[] sensorIds,
+
+    @Schema(description = "Measurement times in epoch milliseconds", required = true)
+    @NotNull
+    long[] timestamps,
+
+    @Schema(description = "Measured values", required = true)
+    @NotNull
+    @Size(max = 1000)
+    double[] values,
+
+    @Schema(description = "Weights of the measured values")
+    float[] weights
+) {
+
+}
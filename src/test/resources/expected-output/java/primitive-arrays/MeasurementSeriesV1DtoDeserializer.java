@@ -0,0 +1,118 @@
+package io.github.torand.test.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+public class MeasurementSeriesV1DtoDeserializer extends StdDeserializer<MeasurementSeriesV1Dto> {
+
+    private static final String SENSOR_IDS = "sensorIds";
+    private static final String TIMESTAMPS = "timestamps";
+    private static final String VALUES = "values";
+    private static final String WEIGHTS = "weights";
+
+    public MeasurementSeriesV1DtoDeserializer() {
+        super(MeasurementSeriesV1Dto.class);
+    }
+
+    @Override
+    public MeasurementSeriesV1Dto deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String propertyName;
+        if (p.isExpectedStartObjectToken()) {
+            propertyName = p.nextFieldName();
+        } else if (p.hasToken(JsonToken.FIELD_NAME)) {
+            propertyName = p.currentName();
+        } else if (p.hasToken(JsonToken.END_OBJECT)) {
+            propertyName = null;
+        } else {
+            return (MeasurementSeriesV1Dto) ctxt.handleUnexpectedToken(MeasurementSeriesV1Dto.class, p);
+        }
+
+        int[] sensorIds = null;
+        long[] timestamps = null;
+        double[] values = null;
+        float[] weights = null;
+
+        // Fast path: properties arriving in declared order are matched by a single comparison each
+        if (SENSOR_IDS.equals(propertyName)) {
+            p.nextToken();
+            sensorIds = readSensorIds(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (TIMESTAMPS.equals(propertyName)) {
+            p.nextToken();
+            timestamps = readTimestamps(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (VALUES.equals(propertyName)) {
+            p.nextToken();
+            values = readValues(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+        if (WEIGHTS.equals(propertyName)) {
+            p.nextToken();
+            weights = readWeights(p, ctxt);
+            propertyName = p.nextFieldName();
+        }
+
+        // Remaining properties, in any order
+        while (propertyName != null) {
+            p.nextToken();
+            switch (propertyName) {
+                case SENSOR_IDS:
+                    sensorIds = readSensorIds(p, ctxt);
+                    break;
+                case TIMESTAMPS:
+                    timestamps = readTimestamps(p, ctxt);
+                    break;
+                case VALUES:
+                    values = readValues(p, ctxt);
+                    break;
+                case WEIGHTS:
+                    weights = readWeights(p, ctxt);
+                    break;
+                default:
+                    if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+                        handleUnknownProperty(p, ctxt, MeasurementSeriesV1Dto.class, propertyName);
+                    } else {
+                        p.skipChildren();
+                    }
+            }
+            propertyName = p.nextFieldName();
+        }
+
+        return new MeasurementSeriesV1Dto(sensorIds, timestamps, values, weights);
+    }
+
+    private static int[] readSensorIds(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, int[].class);
+    }
+
+    private static long[] readTimestamps(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, long[].class);
+    }
+
+    private static double[] readValues(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, double[].class);
+    }
+
+    private static float[] readWeights(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return ctxt.readValue(p, float[].class);
+    }
+}
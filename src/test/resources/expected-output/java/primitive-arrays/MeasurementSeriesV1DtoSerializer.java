@@ -0,0 +1,57 @@
+package io.github.torand.test.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public class MeasurementSeriesV1DtoSerializer extends StdSerializer<MeasurementSeriesV1Dto> {
+
+    private static final SerializedString SENSOR_IDS = new SerializedString("sensorIds");
+    private static final SerializedString TIMESTAMPS = new SerializedString("timestamps");
+    private static final SerializedString VALUES = new SerializedString("values");
+    private static final SerializedString WEIGHTS = new SerializedString("weights");
+
+    public MeasurementSeriesV1DtoSerializer() {
+        super(MeasurementSeriesV1Dto.class);
+    }
+
+    @Override
+    public void serialize(MeasurementSeriesV1Dto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+        boolean writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        gen.writeStartObject(value);
+        if (value.sensorIds() != null) {
+            gen.writeFieldName(SENSOR_IDS);
+            gen.writeArray(value.sensorIds(), 0, value.sensorIds().length);
+        } else if (writeNulls) {
+            gen.writeFieldName(SENSOR_IDS);
+            gen.writeNull();
+        }
+        if (value.timestamps() != null) {
+            gen.writeFieldName(TIMESTAMPS);
+            gen.writeArray(value.timestamps(), 0, value.timestamps().length);
+        } else if (writeNulls) {
+            gen.writeFieldName(TIMESTAMPS);
+            gen.writeNull();
+        }
+        if (value.values() != null) {
+            gen.writeFieldName(VALUES);
+            gen.writeArray(value.values(), 0, value.values().length);
+        } else if (writeNulls) {
+            gen.writeFieldName(VALUES);
+            gen.writeNull();
+        }
+        if (value.weights() != null) {
+            gen.writeFieldName(WEIGHTS);
+            provider.defaultSerializeValue(value.weights(), gen);
+        } else if (writeNulls) {
+            gen.writeFieldName(WEIGHTS);
+            gen.writeNull();
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.torand.test.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class MeasurementSeriesV1DtoValidator {
+
+    private MeasurementSeriesV1DtoValidator() {
+    }
+
+    public static List<ModelValidationException.Violation> validate(MeasurementSeriesV1Dto value) {
+        List<ModelValidationException.Violation> violations = new ArrayList<>();
+        validate(value, "", violations);
+        return violations;
+    }
+
+    public static void validateOrThrow(MeasurementSeriesV1Dto value) {
+        List<ModelValidationException.Violation> violations = validate(value);
+        if (!violations.isEmpty()) {
+            throw new ModelValidationException(violations);
+        }
+    }
+
+    public static void validate(MeasurementSeriesV1Dto value, String path, List<ModelValidationException.Violation> violations) {
+        if (value.sensorIds() == null) {
+            violations.add(new ModelValidationException.Violation(path + "sensorIds", "must not be null"));
+        } else {
+            if (value.sensorIds().length < 1) {
+                violations.add(new ModelValidationException.Violation(path + "sensorIds", "size must be between 1 and 2147483647"));
+            }
+        }
+        if (value.timestamps() == null) {
+            violations.add(new ModelValidationException.Violation(path + "timestamps", "must not be null"));
+        }
+        if (value.values() == null) {
+            violations.add(new ModelValidationException.Violation(path + "values", "must not be null"));
+        } else {
+            if (value.values().length > 1000) {
+                violations.add(new ModelValidationException.Violation(path + "values", "size must be between 0 and 1000"));
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.torand.test.model;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.torand.test.model.common.AddressV1Dto;
+import io.github.torand.test.model.common.AddressV1DtoSerializer;
+import io.github.torand.test.model.common.EmptyObjectV1Dto;
+import io.github.torand.test.model.common.EmptyObjectV1DtoSerializer;
+
+public class ModelJacksonModule extends SimpleModule {
+
+    public ModelJacksonModule() {
+        super("ModelJacksonModule");
+        addSerializer(InternalUserV1Dto.class, new InternalUserV1DtoSerializer());
+        addSerializer(OrderItemV1Dto.class, new OrderItemV1DtoSerializer());
+        addSerializer(OrderV1Dto.class, new OrderV1DtoSerializer());
+        addSerializer(ProductV1Dto.class, new ProductV1DtoSerializer());
+        addSerializer(UserV1Dto.class, new UserV1DtoSerializer());
+        addSerializer(AddressV1Dto.class, new AddressV1DtoSerializer());
+        addSerializer(EmptyObjectV1Dto.class, new EmptyObjectV1DtoSerializer());
+    }
+}
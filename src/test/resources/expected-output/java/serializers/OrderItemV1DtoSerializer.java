@@ -0,0 +1,41 @@
+package io.github.torand.test.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public class OrderItemV1DtoSerializer extends StdSerializer<OrderItemV1Dto> {
+
+    private static final SerializedString PRODUCT = new SerializedString("product");
+    private static final SerializedString QUANTITY = new SerializedString("quantity");
+
+    public OrderItemV1DtoSerializer() {
+        super(OrderItemV1Dto.class);
+    }
+
+    @Override
+    public void serialize(OrderItemV1Dto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+        boolean writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        gen.writeStartObject(value);
+        if (value.product() != null) {
+            gen.writeFieldName(PRODUCT);
+            provider.defaultSerializeValue(value.product(), gen);
+        } else if (writeNulls) {
+            gen.writeFieldName(PRODUCT);
+            gen.writeNull();
+        }
+        if (value.quantity() != null) {
+            gen.writeFieldName(QUANTITY);
+            gen.writeNumber(value.quantity());
+        } else if (writeNulls) {
+            gen.writeFieldName(QUANTITY);
+            gen.writeNull();
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.torand.test.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+
+public class OrderV1DtoSerializer extends StdSerializer<OrderV1Dto> {
+
+    private static final SerializedString PLACED_BY = new SerializedString("placedBy");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CREATED_TIME = new SerializedString("createdTime");
+    private static final SerializedString ITEMS = new SerializedString("items");
+    private static final SerializedString COMMENT = new SerializedString("comment");
+
+    private static final DateTimeFormatter CREATED_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    public OrderV1DtoSerializer() {
+        super(OrderV1Dto.class);
+    }
+
+    @Override
+    public void serialize(OrderV1Dto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+        boolean writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        gen.writeStartObject(value);
+        if (value.placedBy() != null) {
+            gen.writeFieldName(PLACED_BY);
+            provider.defaultSerializeValue(value.placedBy(), gen);
+        } else if (writeNulls) {
+            gen.writeFieldName(PLACED_BY);
+            gen.writeNull();
+        }
+        if (value.status() != null) {
+            gen.writeFieldName(STATUS);
+            provider.defaultSerializeValue(value.status(), gen);
+        } else if (writeNulls) {
+            gen.writeFieldName(STATUS);
+            gen.writeNull();
+        }
+        if (value.createdTime() != null) {
+            gen.writeFieldName(CREATED_TIME);
+            gen.writeString(CREATED_TIME_FORMATTER.format(value.createdTime()));
+        } else if (writeNulls) {
+            gen.writeFieldName(CREATED_TIME);
+            gen.writeNull();
+        }
+        if (value.items() != null) {
+            gen.writeFieldName(ITEMS);
+            provider.defaultSerializeValue(value.items(), gen);
+        } else if (writeNulls) {
+            gen.writeFieldName(ITEMS);
+            gen.writeNull();
+        }
+        if (value.comment() != null) {
+            gen.writeFieldName(COMMENT);
+            gen.writeString(value.comment());
+        } else if (writeNulls) {
+            gen.writeFieldName(COMMENT);
+            gen.writeNull();
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.torand.test.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.torand.test.serialization.ProductNoSerializer;
+
+import java.io.IOException;
+
+@SuppressWarnings("deprecation")
+public class ProductV1DtoSerializer extends StdSerializer<ProductV1Dto> {
+
+    private static final SerializedString NUMBER = new SerializedString("number");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString CATEGORY = new SerializedString("category");
+    private static final SerializedString PRICE = new SerializedString("price");
+    private static final SerializedString COMMENT = new SerializedString("comment");
+    private static final SerializedString EMPTY = new SerializedString("empty");
+
+    private static final ProductNoSerializer NUMBER_SERIALIZER = new ProductNoSerializer();
+
+    public ProductV1DtoSerializer() {
+        super(ProductV1Dto.class);
+    }
+
+    @Override
+    public void serialize(ProductV1Dto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+        boolean writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        gen.writeStartObject(value);
+        if (value.number() != null) {
+            gen.writeFieldName(NUMBER);
+            NUMBER_SERIALIZER.serialize(value.number(), gen, provider);
+        } else if (writeNulls) {
+            gen.writeFieldName(NUMBER);
+            gen.writeNull();
+        }
+        if (value.name() != null) {
+            gen.writeFieldName(NAME);
+            gen.writeString(value.name());
+        } else if (writeNulls) {
+            gen.writeFieldName(NAME);
+            gen.writeNull();
+        }
+        if (value.category() != null) {
+            gen.writeFieldName(CATEGORY);
+            provider.defaultSerializeValue(value.category(), gen);
+        } else if (writeNulls) {
+            gen.writeFieldName(CATEGORY);
+            gen.writeNull();
+        }
+        if (value.price() != null) {
+            gen.writeFieldName(PRICE);
+            gen.writeNumber(value.price());
+        } else if (writeNulls) {
+            gen.writeFieldName(PRICE);
+            gen.writeNull();
+        }
+        if (value.comment() != null) {
+            gen.writeFieldName(COMMENT);
+            gen.writeString(value.comment());
+        } else if (writeNulls) {
+            gen.writeFieldName(COMMENT);
+            gen.writeNull();
+        }
+        if (value.empty() != null) {
+            gen.writeFieldName(EMPTY);
+            provider.defaultSerializeValue(value.empty(), gen);
+        } else if (writeNulls) {
+            gen.writeFieldName(EMPTY);
+            gen.writeNull();
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.torand.test.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+
+public class UserV1DtoSerializer extends StdSerializer<UserV1Dto> {
+
+    private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+    private static final SerializedString ADDRESS = new SerializedString("address");
+    private static final SerializedString EMAIL_ADDRESS = new SerializedString("emailAddress");
+    private static final SerializedString MOBILE_NUMBER = new SerializedString("mobileNumber");
+    private static final SerializedString MOBILE_NUMBER_VERIFIED = new SerializedString("mobileNumberVerified");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString CREATED_TIME = new SerializedString("createdTime");
+    private static final SerializedString LAST_LOGIN_TIME = new SerializedString("lastLoginTime");
+
+    private static final DateTimeFormatter CREATED_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final DateTimeFormatter LAST_LOGIN_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    public UserV1DtoSerializer() {
+        super(UserV1Dto.class);
+    }
+
+    @Override
+    public void serialize(UserV1Dto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+        boolean writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        gen.writeStartObject(value);
+        if (value.firstName() != null) {
+            gen.writeFieldName(FIRST_NAME);
+            gen.writeString(value.firstName());
+        } else if (writeNulls) {
+            gen.writeFieldName(FIRST_NAME);
+            gen.writeNull();
+        }
+        if (value.lastName() != null) {
+            gen.writeFieldName(LAST_NAME);
+            gen.writeString(value.lastName());
+        } else if (writeNulls) {
+            gen.writeFieldName(LAST_NAME);
+            gen.writeNull();
+        }
+        if (value.address() != null) {
+            gen.writeFieldName(ADDRESS);
+            provider.defaultSerializeValue(value.address(), gen);
+        } else if (writeNulls) {
+            gen.writeFieldName(ADDRESS);
+            gen.writeNull();
+        }
+        if (value.emailAddress() != null) {
+            gen.writeFieldName(EMAIL_ADDRESS);
+            gen.writeString(value.emailAddress());
+        } else if (writeNulls) {
+            gen.writeFieldName(EMAIL_ADDRESS);
+            gen.writeNull();
+        }
+        if (value.mobileNumber() != null) {
+            gen.writeFieldName(MOBILE_NUMBER);
+            gen.writeString(value.mobileNumber());
+        } else if (writeNulls) {
+            gen.writeFieldName(MOBILE_NUMBER);
+            gen.writeNull();
+        }
+        if (value.mobileNumberVerified() != null) {
+            gen.writeFieldName(MOBILE_NUMBER_VERIFIED);
+            gen.writeBoolean(value.mobileNumberVerified());
+        } else if (writeNulls) {
+            gen.writeFieldName(MOBILE_NUMBER_VERIFIED);
+            gen.writeNull();
+        }
+        if (value.type() != null) {
+            gen.writeFieldName(TYPE);
+            provider.defaultSerializeValue(value.type(), gen);
+        } else if (writeNulls) {
+            gen.writeFieldName(TYPE);
+            gen.writeNull();
+        }
+        if (value.createdTime() != null) {
+            gen.writeFieldName(CREATED_TIME);
+            gen.writeString(CREATED_TIME_FORMATTER.format(value.createdTime()));
+        } else if (writeNulls) {
+            gen.writeFieldName(CREATED_TIME);
+            gen.writeNull();
+        }
+        if (value.lastLoginTime() != null) {
+            gen.writeFieldName(LAST_LOGIN_TIME);
+            gen.writeString(LAST_LOGIN_TIME_FORMATTER.format(value.lastLoginTime()));
+        } else if (writeNulls) {
+            gen.writeFieldName(LAST_LOGIN_TIME);
+            gen.writeNull();
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.torand.test.model.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public class AddressV1DtoSerializer extends StdSerializer<AddressV1Dto> {
+
+    private static final SerializedString STREET_ADDRESS = new SerializedString("streetAddress");
+    private static final SerializedString ZIP_CODE = new SerializedString("zipCode");
+    private static final SerializedString CITY = new SerializedString("city");
+    private static final SerializedString COUNTRY_CODE = new SerializedString("countryCode");
+
+    public AddressV1DtoSerializer() {
+        super(AddressV1Dto.class);
+    }
+
+    @Override
+    public void serialize(AddressV1Dto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+        boolean writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        gen.writeStartObject(value);
+        if (value.streetAddress() != null) {
+            gen.writeFieldName(STREET_ADDRESS);
+            gen.writeString(value.streetAddress());
+        } else if (writeNulls) {
+            gen.writeFieldName(STREET_ADDRESS);
+            gen.writeNull();
+        }
+        if (value.zipCode() != null) {
+            gen.writeFieldName(ZIP_CODE);
+            gen.writeString(value.zipCode());
+        } else if (writeNulls) {
+            gen.writeFieldName(ZIP_CODE);
+            gen.writeNull();
+        }
+        if (value.city() != null) {
+            gen.writeFieldName(CITY);
+            gen.writeString(value.city());
+        } else if (writeNulls) {
+            gen.writeFieldName(CITY);
+            gen.writeNull();
+        }
+        if (value.countryCode() != null) {
+            gen.writeFieldName(COUNTRY_CODE);
+            gen.writeString(value.countryCode());
+        } else if (writeNulls) {
+            gen.writeFieldName(COUNTRY_CODE);
+            gen.writeNull();
+        }
+        gen.writeEndObject();
+    }
+}
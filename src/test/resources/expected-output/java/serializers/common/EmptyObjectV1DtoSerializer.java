@@ -0,0 +1,22 @@
+package io.github.torand.test.model.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+public class EmptyObjectV1DtoSerializer extends StdSerializer<EmptyObjectV1Dto> {
+
+    public EmptyObjectV1DtoSerializer() {
+        super(EmptyObjectV1Dto.class);
+    }
+
+    @Override
+    public void serialize(EmptyObjectV1Dto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.torand.test.model;
+
+import java.util.List;
+
+public class ModelValidationException extends RuntimeException {
+
+    private final transient List<Violation> violations;
+
+    public ModelValidationException(List<Violation> violations) {
+        super("Constraint violations: " + violations, null, false, false);
+        this.violations = List.copyOf(violations);
+    }
+
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    public static final class Violation {
+        private final String path;
+        private final String message;
+
+        public Violation(String path, String message) {
+            this.path = path;
+            this.message = message;
+        }
+
+        public String path() {
+            return path;
+        }
+
+        public String message() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return path + ": " + message;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.torand.test.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class OrderItemV1DtoValidator {
+
+    private OrderItemV1DtoValidator() {
+    }
+
+    public static List<ModelValidationException.Violation> validate(OrderItemV1Dto value) {
+        List<ModelValidationException.Violation> violations = new ArrayList<>();
+        validate(value, "", violations);
+        return violations;
+    }
+
+    public static void validateOrThrow(OrderItemV1Dto value) {
+        List<ModelValidationException.Violation> violations = validate(value);
+        if (!violations.isEmpty()) {
+            throw new ModelValidationException(violations);
+        }
+    }
+
+    public static void validate(OrderItemV1Dto value, String path, List<ModelValidationException.Violation> violations) {
+        if (value.product() == null) {
+            violations.add(new ModelValidationException.Violation(path + "product", "must not be null"));
+        } else {
+            ProductV1DtoValidator.validate(value.product(), path + "product.", violations);
+        }
+        if (value.quantity() == null) {
+            violations.add(new ModelValidationException.Violation(path + "quantity", "must not be null"));
+        } else {
+            if (value.quantity() < 1L) {
+                violations.add(new ModelValidationException.Violation(path + "quantity", "must be greater than or equal to 1"));
+            }
+        }
+    }
+}
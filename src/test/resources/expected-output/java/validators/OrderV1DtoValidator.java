@@ -0,0 +1,53 @@
+package io.github.torand.test.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class OrderV1DtoValidator {
+
+    private OrderV1DtoValidator() {
+    }
+
+    public static List<ModelValidationException.Violation> validate(OrderV1Dto value) {
+        List<ModelValidationException.Violation> violations = new ArrayList<>();
+        validate(value, "", violations);
+        return violations;
+    }
+
+    public static void validateOrThrow(OrderV1Dto value) {
+        List<ModelValidationException.Violation> violations = validate(value);
+        if (!violations.isEmpty()) {
+            throw new ModelValidationException(violations);
+        }
+    }
+
+    public static void validate(OrderV1Dto value, String path, List<ModelValidationException.Violation> violations) {
+        if (value.placedBy() == null) {
+            violations.add(new ModelValidationException.Violation(path + "placedBy", "must not be null"));
+        } else {
+            UserV1DtoValidator.validate(value.placedBy(), path + "placedBy.", violations);
+        }
+        if (value.status() == null) {
+            violations.add(new ModelValidationException.Violation(path + "status", "must not be null"));
+        }
+        if (value.createdTime() == null) {
+            violations.add(new ModelValidationException.Violation(path + "createdTime", "must not be null"));
+        }
+        if (value.items() == null) {
+            violations.add(new ModelValidationException.Violation(path + "items", "must not be null"));
+        } else {
+            if (value.items().size() < 1) {
+                violations.add(new ModelValidationException.Violation(path + "items", "size must be between 1 and 2147483647"));
+            }
+            int i = 0;
+            for (OrderItemV1Dto item : value.items()) {
+                if (item == null) {
+                    violations.add(new ModelValidationException.Violation(path + "items[" + i + "]", "must not be null"));
+                } else {
+                    OrderItemV1DtoValidator.validate(item, path + "items[" + i + "].", violations);
+                }
+                i++;
+            }
+        }
+    }
+}
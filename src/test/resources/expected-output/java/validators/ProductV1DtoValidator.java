@@ -0,0 +1,61 @@
+package io.github.torand.test.model;
+
+import io.github.torand.test.model.common.EmptyObjectV1DtoValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@SuppressWarnings("deprecation")
+public final class ProductV1DtoValidator {
+
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("^[a-zA-Z0-9\\.]{1,20}$");
+
+    private ProductV1DtoValidator() {
+    }
+
+    public static List<ModelValidationException.Violation> validate(ProductV1Dto value) {
+        List<ModelValidationException.Violation> violations = new ArrayList<>();
+        validate(value, "", violations);
+        return violations;
+    }
+
+    public static void validateOrThrow(ProductV1Dto value) {
+        List<ModelValidationException.Violation> violations = validate(value);
+        if (!violations.isEmpty()) {
+            throw new ModelValidationException(violations);
+        }
+    }
+
+    public static void validate(ProductV1Dto value, String path, List<ModelValidationException.Violation> violations) {
+        if (value.number() == null) {
+            violations.add(new ModelValidationException.Violation(path + "number", "must not be blank"));
+        } else {
+            if (value.number().isBlank()) {
+                violations.add(new ModelValidationException.Violation(path + "number", "must not be blank"));
+            }
+            if (!NUMBER_PATTERN.matcher(value.number()).matches()) {
+                violations.add(new ModelValidationException.Violation(path + "number", "must match \"" + NUMBER_PATTERN.pattern() + "\""));
+            }
+        }
+        if (value.name() == null) {
+            violations.add(new ModelValidationException.Violation(path + "name", "must not be blank"));
+        } else {
+            if (value.name().isBlank()) {
+                violations.add(new ModelValidationException.Violation(path + "name", "must not be blank"));
+            }
+            if (value.name().length() < 3) {
+                violations.add(new ModelValidationException.Violation(path + "name", "size must be between 3 and 2147483647"));
+            }
+        }
+        if (value.category() == null) {
+            violations.add(new ModelValidationException.Violation(path + "category", "must not be null"));
+        }
+        if (value.price() == null) {
+            violations.add(new ModelValidationException.Violation(path + "price", "must not be null"));
+        }
+        if (value.empty() != null) {
+            EmptyObjectV1DtoValidator.validate(value.empty(), path + "empty.", violations);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.torand.test.model;
+
+import io.github.torand.test.model.common.AddressV1DtoValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public final class UserV1DtoValidator {
+
+    private static final Pattern MOBILE_NUMBER_PATTERN = Pattern.compile("^[0-9]{10,15}$");
+
+    private UserV1DtoValidator() {
+    }
+
+    public static List<ModelValidationException.Violation> validate(UserV1Dto value) {
+        List<ModelValidationException.Violation> violations = new ArrayList<>();
+        validate(value, "", violations);
+        return violations;
+    }
+
+    public static void validateOrThrow(UserV1Dto value) {
+        List<ModelValidationException.Violation> violations = validate(value);
+        if (!violations.isEmpty()) {
+            throw new ModelValidationException(violations);
+        }
+    }
+
+    public static void validate(UserV1Dto value, String path, List<ModelValidationException.Violation> violations) {
+        if (value.firstName() == null) {
+            violations.add(new ModelValidationException.Violation(path + "firstName", "must not be blank"));
+        } else {
+            if (value.firstName().isBlank()) {
+                violations.add(new ModelValidationException.Violation(path + "firstName", "must not be blank"));
+            }
+        }
+        if (value.lastName() == null) {
+            violations.add(new ModelValidationException.Violation(path + "lastName", "must not be blank"));
+        } else {
+            if (value.lastName().isBlank()) {
+                violations.add(new ModelValidationException.Violation(path + "lastName", "must not be blank"));
+            }
+        }
+        if (value.address() == null) {
+            violations.add(new ModelValidationException.Violation(path + "address", "must not be null"));
+        } else {
+            AddressV1DtoValidator.validate(value.address(), path + "address.", violations);
+        }
+        if (value.mobileNumber() == null) {
+            violations.add(new ModelValidationException.Violation(path + "mobileNumber", "must not be blank"));
+        } else {
+            if (value.mobileNumber().isBlank()) {
+                violations.add(new ModelValidationException.Violation(path + "mobileNumber", "must not be blank"));
+            }
+            if (!MOBILE_NUMBER_PATTERN.matcher(value.mobileNumber()).matches()) {
+                violations.add(new ModelValidationException.Violation(path + "mobileNumber", "must match \"" + MOBILE_NUMBER_PATTERN.pattern() + "\""));
+            }
+        }
+        if (value.mobileNumberVerified() == null) {
+            violations.add(new ModelValidationException.Violation(path + "mobileNumberVerified", "must not be null"));
+        }
+        if (value.type() == null) {
+            violations.add(new ModelValidationException.Violation(path + "type", "must not be null"));
+        }
+        if (value.createdTime() == null) {
+            violations.add(new ModelValidationException.Violation(path + "createdTime", "must not be null"));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.torand.test.model.common;
+
+import io.github.torand.test.model.ModelValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public final class AddressV1DtoValidator {
+
+    private static final Pattern COUNTRY_CODE_PATTERN = Pattern.compile("^[A-Z]{3}$");
+
+    private AddressV1DtoValidator() {
+    }
+
+    public static List<ModelValidationException.Violation> validate(AddressV1Dto value) {
+        List<ModelValidationException.Violation> violations = new ArrayList<>();
+        validate(value, "", violations);
+        return violations;
+    }
+
+    public static void validateOrThrow(AddressV1Dto value) {
+        List<ModelValidationException.Violation> violations = validate(value);
+        if (!violations.isEmpty()) {
+            throw new ModelValidationException(violations);
+        }
+    }
+
+    public static void validate(AddressV1Dto value, String path, List<ModelValidationException.Violation> violations) {
+        if (value.streetAddress() == null) {
+            violations.add(new ModelValidationException.Violation(path + "streetAddress", "must not be blank"));
+        } else {
+            if (value.streetAddress().isBlank()) {
+                violations.add(new ModelValidationException.Violation(path + "streetAddress", "must not be blank"));
+            }
+            if (value.streetAddress().length() < 1 || value.streetAddress().length() > 100) {
+                violations.add(new ModelValidationException.Violation(path + "streetAddress", "size must be between 1 and 100"));
+            }
+        }
+        if (value.zipCode() == null) {
+            violations.add(new ModelValidationException.Violation(path + "zipCode", "must not be blank"));
+        } else {
+            if (value.zipCode().isBlank()) {
+                violations.add(new ModelValidationException.Violation(path + "zipCode", "must not be blank"));
+            }
+        }
+        if (value.city() == null) {
+            violations.add(new ModelValidationException.Violation(path + "city", "must not be blank"));
+        } else {
+            if (value.city().isBlank()) {
+                violations.add(new ModelValidationException.Violation(path + "city", "must not be blank"));
+            }
+        }
+        if (value.countryCode() == null) {
+            violations.add(new ModelValidationException.Violation(path + "countryCode", "must not be blank"));
+        } else {
+            if (value.countryCode().isBlank()) {
+                violations.add(new ModelValidationException.Violation(path + "countryCode", "must not be blank"));
+            }
+            if (!COUNTRY_CODE_PATTERN.matcher(value.countryCode()).matches()) {
+                violations.add(new ModelValidationException.Violation(path + "countryCode", "must match \"" + COUNTRY_CODE_PATTERN.pattern() + "\""));
+            }
+        }
+    }
+}
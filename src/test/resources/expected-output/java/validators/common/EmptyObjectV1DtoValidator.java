@@ -0,0 +1,28 @@
+package io.github.torand.test.model.common;
+
+import io.github.torand.test.model.ModelValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class EmptyObjectV1DtoValidator {
+
+    private EmptyObjectV1DtoValidator() {
+    }
+
+    public static List<ModelValidationException.Violation> validate(EmptyObjectV1Dto value) {
+        List<ModelValidationException.Violation> violations = new ArrayList<>();
+        validate(value, "", violations);
+        return violations;
+    }
+
+    public static void validateOrThrow(EmptyObjectV1Dto value) {
+        List<ModelValidationException.Violation> violations = validate(value);
+        if (!violations.isEmpty()) {
+            throw new ModelValidationException(violations);
+        }
+    }
+
+    public static void validate(EmptyObjectV1Dto value, String path, List<ModelValidationException.Violation> violations) {
+    }
+}
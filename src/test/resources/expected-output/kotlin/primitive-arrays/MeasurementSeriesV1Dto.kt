@@ -0,0 +1,27 @@
+package io.github.torand.test.model
+
+import jakarta.validation.constraints.NotNull
+import jakarta.validation.constraints.Size
+import org.eclipse.microprofile.openapi.annotations.media.Schema
+
+@Schema(name = "MeasurementSeriesV1", description = "A series of sensor measurements")
+@JvmRecord
+data class MeasurementSeriesV1Dto (
+
+    @field:Schema(description = "Ids of the measuring sensors", required = true)
+    @field:NotNull
+    @field:Size(min = 1)
+    val sensorIds: IntArray,
+
+    @field:Schema(description = "Measurement times in epoch milliseconds", required = true)
+    @field:NotNull
+    val timestamps: LongArray,
+
+    @field:Schema(description = "Measured values", required = true)
+    @field:NotNull
+    @field:Size(max = 1000)
+    val values: DoubleArray,
+
+    @field:Schema(description = "Weights of the measured values")
+    val weights: FloatArray? = null
+)